@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 CEA LIST, Obeo.
+ * Copyright (c) 2022, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,26 @@ public final class Monitoring {
 
     public static final String NAME = "name";
 
+    public static final String CACHE = "papyrusweb_caches";
+
+    public static final String RESULT = "result";
+
+    public static final String HIT = "hit";
+
+    public static final String MISS = "miss";
+
+    public static final String AQL_SERVICE = "papyrusweb_aqlservices";
+
+    public static final String EDITING_CONTEXT_PROCESSOR = "papyrusweb_editingcontextprocessors";
+
+    public static final String CLASS = "class";
+
+    public static final String METHOD = "method";
+
+    public static final String DESCRIPTION = "description";
+
+    public static final String NONE = "none";
+
     private Monitoring() {
         // Prevent instantiation
     }
@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2023 CEA LIST, Obeo.
+ * Copyright (c) 2023, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,14 @@
  *****************************************************************************/
 package org.eclipse.papyrus.web.application.configuration;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
 import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
 import org.eclipse.papyrus.web.graphics.services.api.IImageOverrideService;
 import org.eclipse.sirius.components.core.api.ILabelServiceDelegate;
@@ -23,11 +28,18 @@ import org.eclipse.sirius.components.core.api.IObjectService;
 import org.eclipse.sirius.components.emf.services.DefaultLabelService;
 import org.eclipse.sirius.components.emf.services.LabelFeatureProviderRegistry;
 import org.eclipse.uml2.uml.Element;
+import org.eclipse.uml2.uml.UMLPackage;
 import org.springframework.stereotype.Service;
 
 /**
  * Specialized version of {@link IObjectService} for Papyrus application.
  *
+ * <p>
+ * The overriding icon of each UML EClass is computed once at startup. The icons computed by the item providers may
+ * still depend on the instance (decorators for example), so they are computed for each element but the overriding
+ * icon of each base icon is memoized.
+ * </p>
+ *
  * @author Arthur Daussy
  */
 @Service
@@ -35,9 +47,39 @@ public class PapyrusObjectService extends DefaultLabelService implements ILabelS
 
     private List<IImageOverrideService> imageOverriders;
 
+    private final Map<EClass, String> eClassImagePaths;
+
+    private final Map<String, String> imagePaths = new ConcurrentHashMap<>();
+
     public PapyrusObjectService(ComposedAdapterFactory composedAdapterFactory, LabelFeatureProviderRegistry labelFeatureProviderRegistry, List<IImageOverrideService> imageOverriders) {
         super(labelFeatureProviderRegistry, composedAdapterFactory);
         this.imageOverriders = imageOverriders;
+        this.eClassImagePaths = this.computeEClassImagePaths();
+    }
+
+    private Map<EClass, String> computeEClassImagePaths() {
+        Map<EClass, String> paths = new HashMap<>();
+        for (EClassifier eClassifier : UMLPackage.eINSTANCE.getEClassifiers()) {
+            if (eClassifier instanceof EClass eClass) {
+                this.imageOverriders.stream()
+                        .map(imageOverrider -> imageOverrider.getOverrideImage(eClass))
+                        .flatMap(Optional::stream)
+                        .findFirst()
+                        .ifPresent(path -> paths.put(eClass, path));
+            }
+        }
+        return Map.copyOf(paths);
+    }
+
+    /**
+     * Gets the overriding icon of the given EClass, without the decorators of its instances.
+     *
+     * @param eClass
+     *            an EClass
+     * @return the path of the icon or an empty optional if the icon of the EClass is not overridden
+     */
+    public Optional<String> getEClassImagePath(EClass eClass) {
+        return Optional.ofNullable(this.eClassImagePaths.get(eClass));
     }
 
     @Override
@@ -49,12 +91,20 @@ public class PapyrusObjectService extends DefaultLabelService implements ILabelS
     public List<String> getImagePath(Object object) {
         List<String> images = super.getImagePath(object);
 
-        return images.stream().map(image -> this.imageOverriders.stream().map(imgOverrider -> imgOverrider.getOverrideImage(image)) //
+        return images.stream().map(image -> {
+            if (image == null) {
+                return image;
+            }
+            return this.imagePaths.computeIfAbsent(image, this::computeImagePath);
+        }).toList();
+    }
+
+    private String computeImagePath(String image) {
+        return this.imageOverriders.stream().map(imgOverrider -> imgOverrider.getOverrideImage(image)) //
                 .filter(Optional::isPresent)
                 .map(Optional::get)
                 .findFirst()
-                .orElse(image)
-        ).toList();
+                .orElse(image);
     }
 
 }
@@ -0,0 +1,166 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.configuration;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.eclipse.papyrus.web.application.Monitoring;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
+import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Measures the duration of the Papyrus Java services called by AQL and of the Papyrus {@link IEditingContextProcessor}s,
+ * when the {@value #PROPERTY} property is set.
+ *
+ * <p>
+ * The AQL services are the beans created from their class by the AQL interpreters, whose bean name is their class
+ * name. They are wrapped in a proxy recording a {@link Timer}, with a percentile histogram, tagged by service class,
+ * method and diagram description. The diagram description is the one of the first {@link IDiagramContext} argument of
+ * the method, if any. When the property is not set, the beans are not wrapped at all.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+@Component
+public class ServiceTimingBeanPostProcessor implements BeanPostProcessor {
+
+    /**
+     * The property enabling the timers.
+     */
+    public static final String PROPERTY = "papyrus.web.monitoring.service-timers.enabled";
+
+    private static final String PAPYRUS_PACKAGE = "org.eclipse.papyrus.web.";
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final boolean enabled;
+
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public ServiceTimingBeanPostProcessor(ObjectProvider<MeterRegistry> meterRegistryProvider, @Value("${" + PROPERTY + ":false}") boolean enabled) {
+        this.meterRegistryProvider = Objects.requireNonNull(meterRegistryProvider);
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Object result = bean;
+        if (this.enabled && bean.getClass().getName().startsWith(PAPYRUS_PACKAGE) && this.canBeProxied(bean.getClass())) {
+            if (bean instanceof IEditingContextProcessor) {
+                result = this.createTimingProxy(bean, Monitoring.EDITING_CONTEXT_PROCESSOR);
+            } else if (bean.getClass().getName().equals(beanName)) {
+                // Beans created with AutowireCapableBeanFactory#createBean(Class), as the AQL services are
+                result = this.createTimingProxy(bean, Monitoring.AQL_SERVICE);
+            }
+        }
+        return result;
+    }
+
+    private boolean canBeProxied(Class<?> beanClass) {
+        boolean canBeProxied = !Modifier.isFinal(beanClass.getModifiers());
+        for (Method method : beanClass.getMethods()) {
+            // A final method would be called on the proxy instead of the bean
+            canBeProxied = canBeProxied && !(Modifier.isFinal(method.getModifiers()) && method.getDeclaringClass() != Object.class);
+        }
+        return canBeProxied;
+    }
+
+    private Object createTimingProxy(Object bean, String timerName) {
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        // The proxy must keep the methods of the class since AQL finds the services by reflection
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.setOpaque(true);
+        proxyFactory.addAdvice(new TimingInterceptor(bean.getClass(), timerName));
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+
+    private Timer getTimer(TimerKey timerKey) {
+        return this.timers.computeIfAbsent(timerKey, key -> Timer.builder(key.timerName())
+                .tag(Monitoring.CLASS, key.beanClass().getSimpleName())
+                .tag(Monitoring.METHOD, key.method().getName())
+                .tag(Monitoring.DESCRIPTION, key.descriptionId())
+                .publishPercentileHistogram()
+                .register(this.meterRegistryProvider.getObject()));
+    }
+
+    /**
+     * Records the duration of each call of a public method of a bean.
+     *
+     * @author Arthur Daussy
+     */
+    private final class TimingInterceptor implements MethodInterceptor {
+
+        private final Class<?> beanClass;
+
+        private final String timerName;
+
+        TimingInterceptor(Class<?> beanClass, String timerName) {
+            this.beanClass = beanClass;
+            this.timerName = timerName;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Method method = invocation.getMethod();
+            if (method.getDeclaringClass() == Object.class) {
+                return invocation.proceed();
+            }
+            String descriptionId = Monitoring.NONE;
+            for (Object argument : invocation.getArguments()) {
+                if (argument instanceof IDiagramContext diagramContext && diagramContext.getDiagram() != null) {
+                    descriptionId = diagramContext.getDiagram().getDescriptionId();
+                    break;
+                }
+            }
+            Timer timer = ServiceTimingBeanPostProcessor.this.getTimer(new TimerKey(this.timerName, this.beanClass, method, descriptionId));
+            long start = System.nanoTime();
+            try {
+                return invocation.proceed();
+            } finally {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * The key of a timer.
+     *
+     * @param timerName
+     *            the name of the timer
+     * @param beanClass
+     *            the class of the measured bean
+     * @param method
+     *            the measured method
+     * @param descriptionId
+     *            the id of the diagram description or {@link Monitoring#NONE}
+     * @author Arthur Daussy
+     */
+    private record TimerKey(String timerName, Class<?> beanClass, Method method, String descriptionId) {
+    }
+}
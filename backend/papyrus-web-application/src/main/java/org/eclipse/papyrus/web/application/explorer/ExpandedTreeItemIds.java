@@ -0,0 +1,72 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.explorer;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Growing list of expanded tree item ids, with a constant time {@link #contains(Object)}.
+ *
+ * <p>
+ * Used while computing an "expand all" path, where the same list is given to the tree providers for each visited
+ * item instead of a copy of the ids expanded so far.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public final class ExpandedTreeItemIds extends AbstractList<String> implements RandomAccess {
+
+    private final List<String> ids = new ArrayList<>();
+
+    private final Set<String> idSet = new HashSet<>();
+
+    @Override
+    public boolean add(String id) {
+        boolean added = this.idSet.add(id);
+        if (added) {
+            this.ids.add(id);
+        }
+        return added;
+    }
+
+    @Override
+    public String get(int index) {
+        return this.ids.get(index);
+    }
+
+    @Override
+    public int size() {
+        return this.ids.size();
+    }
+
+    @Override
+    public boolean contains(Object id) {
+        return this.idSet.contains(id);
+    }
+
+    /**
+     * Gets a read only view of the ids as a set.
+     *
+     * @return the expanded ids
+     */
+    public Set<String> asSet() {
+        return Collections.unmodifiableSet(this.idSet);
+    }
+}
@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2024 Obeo an others.
+ * Copyright (c) 2024, 2026 Obeo an others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,11 +14,10 @@
  *****************************************************************************/
 package org.eclipse.papyrus.web.application.explorer;
 
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 import org.eclipse.papyrus.web.application.explorer.builder.UMLDefaultTreeDescriptionBuilder;
 import org.eclipse.sirius.components.collaborative.trees.api.IExpandAllTreePathProvider;
@@ -36,6 +35,8 @@ import org.eclipse.sirius.components.trees.description.TreeDescription;
 import org.eclipse.sirius.components.trees.renderer.TreeRenderer;
 import org.eclipse.uml2.uml.ElementImport;
 import org.eclipse.uml2.uml.PackageImport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 /**
@@ -51,6 +52,18 @@ public class UMLDefaultExplorerExpandAllPathProvider implements IExpandAllTreePa
 
     private static final int MAX_EXPAND_DEPTH_INCREASE = 100;
 
+    /**
+     * Maximum number of tree items expanded at once, the path computed so far is returned once it is reached.
+     */
+    private static final int MAX_EXPANDED_ITEMS = 10_000;
+
+    /**
+     * Maximum duration of the computation, the path computed so far is returned once it is reached.
+     */
+    private static final Duration MAX_DURATION = Duration.ofSeconds(2);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UMLDefaultExplorerExpandAllPathProvider.class);
+
     private final ITreeNavigationService treeNavigationService;
 
     private final IRepresentationDescriptionSearchService representationDescriptionSearchService;
@@ -75,7 +88,7 @@ public class UMLDefaultExplorerExpandAllPathProvider implements IExpandAllTreePa
         int maxDepth = 0;
         String treeItemId = input.treeItemId();
 
-        Set<String> treeItemIdsToExpand = new LinkedHashSet<>();
+        ExpandedTreeItemIds treeItemIdsToExpand = new ExpandedTreeItemIds();
         // We need to get the current depth of the tree item
         var itemAncestors = this.treeNavigationService.getAncestors(editingContext, tree, treeItemId);
         maxDepth = itemAncestors.size();
@@ -87,9 +100,15 @@ public class UMLDefaultExplorerExpandAllPathProvider implements IExpandAllTreePa
             variableManager.put(TreeRenderer.ANCESTOR_IDS, itemAncestors);
             variableManager.put(IEditingContext.EDITING_CONTEXT, editingContext);
             variableManager.put(TreeDescription.ID, treeItemId);
-            maxDepth = this.addAllContents(optionalTreeDescription.get(), treeItemId, maxDepth, treeItemIdsToExpand, maxDepth, variableManager);
+            // The same growing list is shared by all the visited items, the providers only read it
+            variableManager.put(TreeRenderer.EXPANDED, treeItemIdsToExpand);
+            var budget = new ExpandAllBudget(System.nanoTime() + MAX_DURATION.toNanos());
+            maxDepth = this.addAllContents(optionalTreeDescription.get(), treeItemId, maxDepth, treeItemIdsToExpand, maxDepth, variableManager, budget);
+            if (budget.isExhausted(treeItemIdsToExpand)) {
+                LOGGER.info("Expand all of {} stopped after {} tree items", treeItemId, treeItemIdsToExpand.size());
+            }
         }
-        return new ExpandAllTreePathSuccessPayload(input.id(), new TreePath(treeItemIdsToExpand.stream().toList(), maxDepth));
+        return new ExpandAllTreePathSuccessPayload(input.id(), new TreePath(List.copyOf(treeItemIdsToExpand), maxDepth));
     }
 
     private int computeIndexOf(String treeItemId, List<TreeItem> children) {
@@ -105,13 +124,13 @@ public class UMLDefaultExplorerExpandAllPathProvider implements IExpandAllTreePa
         return index;
     }
 
-    private int addAllContents(TreeDescription treeDescription, String treeItemId, int depth, Set<String> treeItemIdsToExpand, int startingDepth, VariableManager variableManager) {
+    private int addAllContents(TreeDescription treeDescription, String treeItemId, int depth, ExpandedTreeItemIds treeItemIdsToExpand, int startingDepth, VariableManager variableManager,
+            ExpandAllBudget budget) {
         var depthConsidered = depth;
-        if (depthConsidered - startingDepth < MAX_EXPAND_DEPTH_INCREASE) {
+        if (depthConsidered - startingDepth < MAX_EXPAND_DEPTH_INCREASE && !budget.isExhausted(treeItemIdsToExpand)) {
 
             var optionalObject = this.getTreeItemObject(treeDescription, variableManager);
             treeItemIdsToExpand.add(treeItemId);
-            variableManager.put(TreeRenderer.EXPANDED, treeItemIdsToExpand.stream().toList());
             if (optionalObject.isPresent() && !this.isElementImport(optionalObject.get())) { // <-- Customization here
                 Object object = optionalObject.get();
                 variableManager.put(VariableManager.SELF, object);
@@ -129,7 +148,8 @@ public class UMLDefaultExplorerExpandAllPathProvider implements IExpandAllTreePa
                         if (optionalChildId.isPresent()) {
                             childVariableManager.put(TreeDescription.ID, optionalChildId.get());
                             var childTreePathMaxDepth = depth + 1;
-                            childTreePathMaxDepth = this.addAllContents(treeDescription, optionalChildId.get(), childTreePathMaxDepth, treeItemIdsToExpand, startingDepth, childVariableManager);
+                            childTreePathMaxDepth = this.addAllContents(treeDescription, optionalChildId.get(), childTreePathMaxDepth, treeItemIdsToExpand, startingDepth, childVariableManager,
+                                    budget);
                             depthConsidered = Math.max(depthConsidered, childTreePathMaxDepth);
                         }
                     }
@@ -172,4 +192,18 @@ public class UMLDefaultExplorerExpandAllPathProvider implements IExpandAllTreePa
                 .map(TreeDescription.class::cast);
     }
 
+    /**
+     * The budget of an "expand all" computation.
+     *
+     * @param deadline
+     *            the {@link System#nanoTime()} after which no more tree item is expanded
+     * @author Arthur Daussy
+     */
+    private record ExpandAllBudget(long deadline) {
+
+        boolean isExhausted(List<String> expandedIds) {
+            return expandedIds.size() >= MAX_EXPANDED_ITEMS || System.nanoTime() - this.deadline > 0;
+        }
+    }
+
 }
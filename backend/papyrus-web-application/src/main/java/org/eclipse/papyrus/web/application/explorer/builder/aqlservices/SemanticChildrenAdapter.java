@@ -0,0 +1,79 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.explorer.builder.aqlservices;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+
+/**
+ * Memoizes the semantic children of an element displayed in the explorer.
+ *
+ * <p>
+ * The children are computed again only once the element has been modified, so refreshing the explorer after an edit
+ * only recomputes the children of the elements touched by that edit.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+final class SemanticChildrenAdapter extends AdapterImpl {
+
+    private List<Object> children;
+
+    private SemanticChildrenAdapter() {
+        super();
+    }
+
+    /**
+     * Gets the memoized children of the given element, computing them if needed.
+     *
+     * @param element
+     *            an element
+     * @param childrenProvider
+     *            used to compute the children of the element
+     * @return the children of the element
+     */
+    static List<Object> getChildren(EObject element, Function<EObject, List<Object>> childrenProvider) {
+        SemanticChildrenAdapter adapter = null;
+        for (var existingAdapter : element.eAdapters()) {
+            if (existingAdapter instanceof SemanticChildrenAdapter semanticChildrenAdapter) {
+                adapter = semanticChildrenAdapter;
+                break;
+            }
+        }
+        if (adapter == null) {
+            adapter = new SemanticChildrenAdapter();
+            element.eAdapters().add(adapter);
+        }
+        if (adapter.children == null) {
+            adapter.children = List.copyOf(childrenProvider.apply(element));
+        }
+        return adapter.children;
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == SemanticChildrenAdapter.class;
+    }
+
+    @Override
+    public void notifyChanged(Notification msg) {
+        if (!msg.isTouch()) {
+            this.children = null;
+        }
+    }
+}
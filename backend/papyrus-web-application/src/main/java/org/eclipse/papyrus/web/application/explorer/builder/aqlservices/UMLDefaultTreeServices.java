@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2024, 2025 CEA LIST.
+ * Copyright (c) 2024, 2026 CEA LIST.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,10 +20,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.eclipse.emf.common.util.EList;
@@ -33,9 +35,12 @@ import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.papyrus.uml.domain.services.labels.UMLCharacters;
+import org.eclipse.papyrus.web.application.explorer.ExpandedTreeItemIds;
 import org.eclipse.papyrus.web.application.explorer.ImportedElementTreeItem;
 import org.eclipse.papyrus.web.application.explorer.PapyrusTreeFilterProvider;
+import org.eclipse.papyrus.web.application.explorer.services.api.IRepresentationTargetIndex;
 import org.eclipse.papyrus.web.application.readonly.services.api.IPapyrusReadOnlyChecker;
+import org.eclipse.papyrus.web.application.uml.ElementLabelCache;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationImageProvider;
 import org.eclipse.sirius.components.core.CoreImageConstants;
 import org.eclipse.sirius.components.core.api.IEditingContext;
@@ -49,8 +54,6 @@ import org.eclipse.sirius.components.trees.TreeItem;
 import org.eclipse.sirius.web.application.UUIDParser;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
 import org.eclipse.sirius.web.application.views.explorer.services.ExplorerDescriptionProvider;
-import org.eclipse.sirius.web.domain.boundedcontexts.projectsemanticdata.ProjectSemanticData;
-import org.eclipse.sirius.web.domain.boundedcontexts.projectsemanticdata.services.api.IProjectSemanticDataSearchService;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataSearchService;
 import org.eclipse.uml2.uml.Element;
@@ -113,18 +116,18 @@ public class UMLDefaultTreeServices {
 
     private final IURLParser urlParser;
 
-    private final IProjectSemanticDataSearchService projectSemanticDataSearchService;
+    private final IRepresentationTargetIndex representationTargetIndex;
 
     public UMLDefaultTreeServices(List<IRepresentationImageProvider> representationImageProviders, IObjectService objectService,
             IRepresentationMetadataSearchService representationMetadataSearchService, IPapyrusReadOnlyChecker readOnlyChecker,
-            IURLParser urlParser, IProjectSemanticDataSearchService projectSemanticDataSearchService) {
+            IURLParser urlParser, IRepresentationTargetIndex representationTargetIndex) {
         super();
         this.representationImageProviders = Objects.requireNonNull(representationImageProviders);
         this.objectService = Objects.requireNonNull(objectService);
         this.representationMetadataSearchService = Objects.requireNonNull(representationMetadataSearchService);
         this.readOnlyChecker = Objects.requireNonNull(readOnlyChecker);
         this.urlParser = Objects.requireNonNull(urlParser);
-        this.projectSemanticDataSearchService = Objects.requireNonNull(projectSemanticDataSearchService);
+        this.representationTargetIndex = Objects.requireNonNull(representationTargetIndex);
     }
 
     /**
@@ -143,13 +146,20 @@ public class UMLDefaultTreeServices {
 
         if (editingContext != null) {
             String id = this.getItemId(self);
-            if (expandedIds.contains(id)) {
+            // Converted for each call since the same service instance renders the trees of concurrent requests
+            Set<String> expandedIdSet;
+            if (expandedIds instanceof ExpandedTreeItemIds expandedTreeItemIds) {
+                expandedIdSet = expandedTreeItemIds.asSet();
+            } else {
+                expandedIdSet = new HashSet<>(expandedIds);
+            }
+            if (expandedIdSet.contains(id)) {
                 if (self instanceof Resource resource) {
                     result.addAll(this.filterNonUMLElement(resource.getContents()));
                 } else if (self instanceof Element element) {
-                    result.addAll(this.getElementDefaultChildren(element, id, editingContext, expandedIds, ancestorsIds, index));
+                    result.addAll(this.getElementDefaultChildren(element, id, editingContext, expandedIdSet, ancestorsIds, index));
                 } else if (self instanceof ImportedElementTreeItem importTreeItem) {
-                    this.getElementDefaultChildren(importTreeItem.importedElement(), id, editingContext, expandedIds, ancestorsIds, index).stream()
+                    this.getElementDefaultChildren(importTreeItem.importedElement(), id, editingContext, expandedIdSet, ancestorsIds, index).stream()
                             .map(c -> this.wrapToImportedElement(c, importTreeItem, ancestorsIds, index))
                             .filter(Objects::nonNull)
                             .forEach(result::add);
@@ -182,10 +192,16 @@ public class UMLDefaultTreeServices {
         if (input instanceof ImportedElementTreeItem item) {
             label = this.getAppliedStereotypesLabel(item.importedElement());
         } else if (input instanceof Element element) {
-            EList<Stereotype> appliedStereotypes = element.getAppliedStereotypes();
-            if (!appliedStereotypes.isEmpty()) {
-                label = appliedStereotypes.stream().map(Stereotype::getName).collect(joining(", ", UMLCharacters.ST_LEFT, UMLCharacters.ST_RIGHT + " "));
-            }
+            label = ElementLabelCache.getLabel(element, ExplorerLabel.APPLIED_STEREOTYPES, e -> this.computeAppliedStereotypesLabel((Element) e));
+        }
+        return label;
+    }
+
+    private String computeAppliedStereotypesLabel(Element element) {
+        String label = "";
+        EList<Stereotype> appliedStereotypes = element.getAppliedStereotypes();
+        if (!appliedStereotypes.isEmpty()) {
+            label = appliedStereotypes.stream().map(Stereotype::getName).collect(joining(", ", UMLCharacters.ST_LEFT, UMLCharacters.ST_RIGHT + " "));
         }
         return label;
     }
@@ -213,14 +229,14 @@ public class UMLDefaultTreeServices {
      * @param editingContext
      *            the current {@link IEditingContext}
      * @param expandedIds
-     *            the list of expanded elements
+     *            the set of expanded elements
      * @param index
      *            index of item in its parent list
      * @param ancestorsIds
      *            list of all ancestor ids
      * @return the children
      */
-    private List<Object> getElementDefaultChildren(Element element, String elementId, IEditingContext editingContext, List<String> expandedIds, List<String> ancestorsIds, int index) {
+    private List<Object> getElementDefaultChildren(Element element, String elementId, IEditingContext editingContext, Set<String> expandedIds, List<String> ancestorsIds, int index) {
         List<Object> result = new ArrayList<>();
 
         result.addAll(this.getRepresentations(elementId, editingContext));
@@ -245,7 +261,14 @@ public class UMLDefaultTreeServices {
     }
 
     private List<Object> getSemanticChildren(Element element) {
-        return this.filterNonUMLElement(this.objectService.getContents(element));
+        List<Object> semanticChildren;
+        if (this.readOnlyChecker.isReadOnly(element)) {
+            // No adapter is installed on the elements of the read only libraries and metamodels
+            semanticChildren = this.filterNonUMLElement(this.objectService.getContents(element));
+        } else {
+            semanticChildren = SemanticChildrenAdapter.getChildren(element, e -> this.filterNonUMLElement(this.objectService.getContents(e)));
+        }
+        return semanticChildren;
     }
 
     private String computeUniqueId(List<String> ancestorIds, int index) {
@@ -269,12 +292,10 @@ public class UMLDefaultTreeServices {
      * @return a list of representation
      */
     private List<RepresentationMetadata> getRepresentations(String elementId, IEditingContext editingContext) {
-        var optionalProjectId = new UUIDParser().parse(editingContext.getId())
-                .flatMap(semanticDataId -> this.projectSemanticDataSearchService.findBySemanticDataId(AggregateReference.to(semanticDataId)))
-                .map(ProjectSemanticData::getProject)
-                .map(AggregateReference::getId);
+        var optionalProjectId = this.representationTargetIndex.getProjectId(editingContext.getId());
 
-        if (optionalProjectId.isPresent()) {
+        // Most elements are not the target of any representation, no need to query them
+        if (optionalProjectId.isPresent() && this.representationTargetIndex.hasRepresentation(editingContext.getId(), elementId)) {
             var projectId = optionalProjectId.get();
             var representationMetadata = new ArrayList<>(this.representationMetadataSearchService.findAllMetadataByProjectAndTargetObjectId(AggregateReference.to(projectId), elementId));
             representationMetadata.sort(Comparator.comparing(RepresentationMetadata::getLabel));
@@ -348,14 +369,7 @@ public class UMLDefaultTreeServices {
     }
 
     private boolean hasRepresentation(EditingContext editingContext, EObject self) {
-        boolean hasChildren = false;
-        var optionalEditingContextId = new UUIDParser().parse(editingContext.getId());
-        if (optionalEditingContextId.isPresent()) {
-            var projectId = optionalEditingContextId.get();
-            String id = this.objectService.getId(self);
-            hasChildren = this.representationMetadataSearchService.existAnyRepresentationForProjectAndTargetObjectId(AggregateReference.to(projectId.toString()), id);
-        }
-        return hasChildren;
+        return this.representationTargetIndex.hasRepresentation(editingContext.getId(), this.objectService.getId(self));
     }
 
     /**
@@ -421,6 +435,10 @@ public class UMLDefaultTreeServices {
      * @return a label
      */
     private String getElementLabel(Element element) {
+        return ElementLabelCache.getLabel(element, ExplorerLabel.ITEM, e -> this.computeElementLabel((Element) e));
+    }
+
+    private String computeElementLabel(Element element) {
         String mainLabel;
 
         if (element instanceof ProfileApplication pApplication) {
@@ -711,4 +729,14 @@ public class UMLDefaultTreeServices {
                 .map(ResourceMetadataAdapter::getName)
                 .orElse(resource.getURI().lastSegment());
     }
+
+    /**
+     * Kinds of the labels displayed in the explorer.
+     *
+     * @author Arthur Daussy
+     */
+    private enum ExplorerLabel {
+        ITEM, APPLIED_STEREOTYPES
+    }
+
 }
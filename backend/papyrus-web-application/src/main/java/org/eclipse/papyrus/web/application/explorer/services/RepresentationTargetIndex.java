@@ -0,0 +1,131 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.explorer.services;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.eclipse.papyrus.web.application.explorer.services.api.IRepresentationTargetIndex;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.events.ProjectDeletedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.projectsemanticdata.ProjectSemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.projectsemanticdata.services.api.IProjectSemanticDataSearchService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationMetadataCreatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationMetadataDeletedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataSearchService;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Implementation of {@link IRepresentationTargetIndex}.
+ *
+ * <p>
+ * The ids of all the elements targeted by a representation of a project are loaded with a single request the first
+ * time the explorer of the project is rendered, instead of one request per rendered element. They are loaded again
+ * once a representation of the project has been created or deleted.
+ * </p>
+ * <p>
+ * The entries of the editing contexts which have been disposed, and the targets of the projects which have no editing
+ * context anymore, are evicted each time a new editing context is indexed.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+@Service
+public class RepresentationTargetIndex implements IRepresentationTargetIndex {
+
+    private final IProjectSemanticDataSearchService projectSemanticDataSearchService;
+
+    private final IRepresentationMetadataSearchService representationMetadataSearchService;
+
+    private final IEditingContextEventProcessorRegistry editingContextEventProcessorRegistry;
+
+    private final Map<String, String> projectIdsByEditingContextId = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> targetObjectIdsByProjectId = new ConcurrentHashMap<>();
+
+    public RepresentationTargetIndex(IProjectSemanticDataSearchService projectSemanticDataSearchService, IRepresentationMetadataSearchService representationMetadataSearchService,
+            IEditingContextEventProcessorRegistry editingContextEventProcessorRegistry) {
+        this.projectSemanticDataSearchService = Objects.requireNonNull(projectSemanticDataSearchService);
+        this.representationMetadataSearchService = Objects.requireNonNull(representationMetadataSearchService);
+        this.editingContextEventProcessorRegistry = Objects.requireNonNull(editingContextEventProcessorRegistry);
+    }
+
+    @Override
+    public Optional<String> getProjectId(String editingContextId) {
+        String projectId = null;
+        if (editingContextId != null) {
+            projectId = this.projectIdsByEditingContextId.get(editingContextId);
+            if (projectId == null) {
+                projectId = new UUIDParser().parse(editingContextId)
+                        .flatMap(semanticDataId -> this.projectSemanticDataSearchService.findBySemanticDataId(AggregateReference.to(semanticDataId)))
+                        .map(ProjectSemanticData::getProject)
+                        .map(AggregateReference::getId)
+                        .orElse(null);
+                if (projectId != null) {
+                    this.evictDisposedEditingContexts();
+                    this.projectIdsByEditingContextId.put(editingContextId, projectId);
+                }
+            }
+        }
+        return Optional.ofNullable(projectId);
+    }
+
+    @Override
+    public boolean hasRepresentation(String editingContextId, String targetObjectId) {
+        return targetObjectId != null && this.getProjectId(editingContextId)
+                .map(projectId -> this.targetObjectIdsByProjectId.computeIfAbsent(projectId, this::loadTargetObjectIds))
+                .filter(targetObjectIds -> targetObjectIds.contains(targetObjectId))
+                .isPresent();
+    }
+
+    @TransactionalEventListener
+    public void onRepresentationMetadataCreatedEvent(RepresentationMetadataCreatedEvent event) {
+        this.targetObjectIdsByProjectId.remove(event.representationMetadata().getProject().getId());
+    }
+
+    @TransactionalEventListener
+    public void onRepresentationMetadataDeletedEvent(RepresentationMetadataDeletedEvent event) {
+        this.targetObjectIdsByProjectId.remove(event.representationMetadata().getProject().getId());
+    }
+
+    @TransactionalEventListener
+    public void onProjectDeletedEvent(ProjectDeletedEvent event) {
+        String projectId = event.project().getId();
+        this.targetObjectIdsByProjectId.remove(projectId);
+        this.projectIdsByEditingContextId.values().removeIf(projectId::equals);
+    }
+
+    private void evictDisposedEditingContexts() {
+        Set<String> liveEditingContextIds = this.editingContextEventProcessorRegistry.getEditingContextEventProcessors().stream()
+                .map(IEditingContextEventProcessor::getEditingContextId)
+                .collect(Collectors.toSet());
+        this.projectIdsByEditingContextId.keySet().retainAll(liveEditingContextIds);
+        this.targetObjectIdsByProjectId.keySet().retainAll(Set.copyOf(this.projectIdsByEditingContextId.values()));
+    }
+
+    private Set<String> loadTargetObjectIds(String projectId) {
+        return this.representationMetadataSearchService.findAllMetadataByProject(AggregateReference.to(projectId)).stream()
+                .map(RepresentationMetadata::getTargetObjectId)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,45 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.explorer.services.api;
+
+import java.util.Optional;
+
+/**
+ * Index of the semantic elements targeted by at least one representation, used to render the explorer.
+ *
+ * @author Arthur Daussy
+ */
+public interface IRepresentationTargetIndex {
+
+    /**
+     * Gets the id of the project of the given editing context.
+     *
+     * @param editingContextId
+     *            the id of an editing context
+     * @return the id of the project or an empty optional if none is found
+     */
+    Optional<String> getProjectId(String editingContextId);
+
+    /**
+     * Checks if at least one representation of the project of the given editing context targets the given object.
+     *
+     * @param editingContextId
+     *            the id of an editing context
+     * @param targetObjectId
+     *            the id of a semantic element
+     * @return <code>true</code> if the element is the target of a representation
+     */
+    boolean hasRepresentation(String editingContextId, String targetObjectId);
+
+}
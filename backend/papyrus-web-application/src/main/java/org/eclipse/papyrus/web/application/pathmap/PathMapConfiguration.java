@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 CEA LIST, Obeo.
+ * Copyright (c) 2022, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,9 +15,12 @@ package org.eclipse.papyrus.web.application.pathmap;
 
 import java.util.List;
 
+import org.eclipse.papyrus.web.application.pathmap.services.PathmapResourcePool;
 import org.eclipse.papyrus.web.application.pathmap.services.StaticPathmapResourceRegistry;
 import org.eclipse.papyrus.web.application.pathmap.services.api.IPathMapProvider;
+import org.eclipse.papyrus.web.application.pathmap.services.api.IPathmapResourcePool;
 import org.eclipse.papyrus.web.application.pathmap.services.api.IStaticPathmapResourceRegistry;
+import org.eclipse.papyrus.web.domain.boundedcontext.profile.service.api.IProfileSearchService;
 import org.eclipse.sirius.components.core.api.IObjectService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -38,4 +41,9 @@ public class PathMapConfiguration {
         });
         return registry;
     }
+
+    @Bean
+    public IPathmapResourcePool pathmapResourcePool(IStaticPathmapResourceRegistry pathmapResourceRegistry, IProfileSearchService profileSearchService) {
+        return new PathmapResourcePool(pathmapResourceRegistry, profileSearchService);
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 CEA LIST, Obeo.
+ * Copyright (c) 2022, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,10 @@
  *******************************************************************************/
 package org.eclipse.papyrus.web.application.pathmap;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -28,7 +28,6 @@ import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.impl.URIHandlerImpl;
 import org.eclipse.papyrus.web.application.pathmap.services.api.IStaticPathmapResourceRegistry;
 import org.eclipse.papyrus.web.application.profile.services.UMLProfileService;
-import org.eclipse.papyrus.web.domain.boundedcontext.profile.ProfileResourceEntity;
 import org.eclipse.papyrus.web.domain.boundedcontext.profile.service.api.IProfileSearchService;
 import org.springframework.core.io.ClassPathResource;
 
@@ -64,10 +63,12 @@ public class PathmapURIHandler extends URIHandlerImpl {
             inputStream = classPathResource.getInputStream();
         } else {
             try {
-                ProfileResourceEntity profileResourceEntity = this.profileSearchService.findById(UUID.fromString(uri.lastSegment())).get();
-                inputStream = new ByteArrayInputStream(profileResourceEntity.getContent().getBytes());
+                inputStream = this.profileSearchService.findContentById(UUID.fromString(uri.lastSegment())).orElseThrow();
             } catch (NoSuchElementException exception) {
                 throw new Resource.IOWrappedException(exception);
+            } catch (UncheckedIOException exception) {
+                // The compressed content of the profile is corrupted
+                throw exception.getCause();
             }
         }
         return inputStream;
@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2024 CEA LIST, Obeo.
+ * Copyright (c) 2024, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,8 @@ package org.eclipse.papyrus.web.application.pathmap;
 import java.util.Objects;
 
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.papyrus.web.application.pathmap.services.api.IPathmapResourcePool;
 import org.eclipse.papyrus.web.application.pathmap.services.api.IStaticPathmapResourceRegistry;
 import org.eclipse.papyrus.web.application.templates.service.api.IUMLProjectCheckerService;
 import org.eclipse.papyrus.web.domain.boundedcontext.profile.service.api.IProfileSearchService;
@@ -25,7 +27,8 @@ import org.eclipse.sirius.web.application.editingcontext.EditingContext;
 import org.springframework.stereotype.Service;
 
 /**
- * Context processor in charge of installing the {@link PathmapURIHandler}.
+ * Context processor in charge of installing the {@link PathmapURIHandler} and the {@link SharedPathmapResourceMap}
+ * which provides the static pathmap resources from the {@link IPathmapResourcePool}.
  *
  * @author Arthur Daussy
  */
@@ -37,8 +40,12 @@ public class PathmapURIHandlerEditingContextConfigurer implements IEditingContex
 
     private final IUMLProjectCheckerService umlChecker;
 
-    public PathmapURIHandlerEditingContextConfigurer(IStaticPathmapResourceRegistry pathMapRegistry, IProfileSearchService profileSearchService, IUMLProjectCheckerService umlChecker) {
+    private final IPathmapResourcePool pathmapResourcePool;
+
+    public PathmapURIHandlerEditingContextConfigurer(IStaticPathmapResourceRegistry pathMapRegistry, IProfileSearchService profileSearchService, IUMLProjectCheckerService umlChecker,
+            IPathmapResourcePool pathmapResourcePool) {
         super();
+        this.pathmapResourcePool = Objects.requireNonNull(pathmapResourcePool);
         this.umlChecker = Objects.requireNonNull(umlChecker);
         this.pathMapRegistry = Objects.requireNonNull(pathMapRegistry);
         this.profileSearchService = Objects.requireNonNull(profileSearchService);
@@ -50,6 +57,10 @@ public class PathmapURIHandlerEditingContextConfigurer implements IEditingContex
             ResourceSet resourceSet = swEditingContext.getDomain().getResourceSet();
             // Plug special URIHandler that handle pathmap:// uris
             resourceSet.getURIConverter().getURIHandlers().add(0, new PathmapURIHandler(this.pathMapRegistry, this.profileSearchService));
+            // Static pathmap resources are shared with the other editing contexts instead of being parsed again
+            if (resourceSet instanceof ResourceSetImpl resourceSetImpl && !(resourceSetImpl.getURIResourceMap() instanceof SharedPathmapResourceMap)) {
+                resourceSetImpl.setURIResourceMap(new SharedPathmapResourceMap(this.pathmapResourcePool, resourceSetImpl.getURIResourceMap()));
+            }
         }
 
     }
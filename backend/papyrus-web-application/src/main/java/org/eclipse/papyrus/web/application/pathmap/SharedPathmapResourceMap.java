@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.papyrus.web.application.pathmap;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.papyrus.web.application.pathmap.services.api.IPathmapResourcePool;
+
+/**
+ * URI resource map of a {@link ResourceSetImpl} which provides the shared resources of the
+ * {@link IPathmapResourcePool}.
+ *
+ * <p>
+ * {@link ResourceSetImpl#getResource(URI, boolean)} looks for a resource in its URI resource map before looking in its
+ * resources and creating a new one. The static pathmap resources are thus found in the pool, when resolving a proxy
+ * for instance, without being added to the resources of the resource set: the adapters of the editing context are
+ * never installed on the shared elements.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public class SharedPathmapResourceMap extends LinkedHashMap<URI, Resource> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient IPathmapResourcePool pathmapResourcePool;
+
+    /**
+     * Creates a map which keeps the given entries.
+     *
+     * @param pathmapResourcePool
+     *            the pool of static pathmap resources
+     * @param uriResourceMap
+     *            the previous URI resource map of the resource set, may be <code>null</code>
+     */
+    public SharedPathmapResourceMap(IPathmapResourcePool pathmapResourcePool, Map<URI, Resource> uriResourceMap) {
+        super();
+        this.pathmapResourcePool = Objects.requireNonNull(pathmapResourcePool);
+        if (uriResourceMap != null) {
+            this.putAll(uriResourceMap);
+        }
+    }
+
+    /**
+     * Gets the shared resources used by the given resource set.
+     *
+     * @param resourceSet
+     *            a resource set
+     * @return the shared resources which have been requested by the resource set, in the order of the requests
+     */
+    public static List<Resource> getSharedResources(ResourceSet resourceSet) {
+        List<Resource> sharedResources = List.of();
+        if (resourceSet instanceof ResourceSetImpl resourceSetImpl && resourceSetImpl.getURIResourceMap() instanceof SharedPathmapResourceMap sharedPathmapResourceMap) {
+            sharedResources = sharedPathmapResourceMap.values().stream()
+                    .filter(sharedPathmapResourceMap.pathmapResourcePool::isShared)
+                    .distinct()
+                    .toList();
+        }
+        return sharedResources;
+    }
+
+    @Override
+    public Resource get(Object key) {
+        Resource resource = super.get(key);
+        if (resource == null && key instanceof URI uri && this.pathmapResourcePool.isPooled(uri)) {
+            resource = this.pathmapResourcePool.getResource(uri);
+            if (resource != null) {
+                this.put(uri, resource);
+            }
+        }
+        return resource;
+    }
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.papyrus.web.application.pathmap.services;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.papyrus.web.application.pathmap.PathmapURIHandler;
+import org.eclipse.papyrus.web.application.pathmap.services.api.IPathmapResourcePool;
+import org.eclipse.papyrus.web.application.pathmap.services.api.IStaticPathmapResourceRegistry;
+import org.eclipse.papyrus.web.application.readonly.ReadOnlyResourceRegistry;
+import org.eclipse.papyrus.web.domain.boundedcontext.profile.service.api.IProfileSearchService;
+import org.eclipse.uml2.uml.internal.resource.UMLResourceFactoryImpl;
+import org.eclipse.uml2.uml.resource.UMLResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default implementation of {@link IPathmapResourcePool}.
+ *
+ * <p>
+ * The pooled resources are loaded in a private {@link ResourceSet} which is never exposed. Once a resource has been
+ * loaded, all the references of the pool are resolved so that no proxy is left to be resolved, and thus no resource is
+ * modified, while the editing contexts read the pooled resources from their own thread. A
+ * {@link ReadOnlyResourceRegistry} is installed on the pool so that the pooled elements are read only for the editing
+ * contexts too.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public class PathmapResourcePool implements IPathmapResourcePool {
+
+    private final Logger logger = LoggerFactory.getLogger(PathmapResourcePool.class);
+
+    private final IStaticPathmapResourceRegistry pathmapResourceRegistry;
+
+    private final ResourceSet pool;
+
+    private final Map<URI, Resource> sharedResources = new HashMap<>();
+
+    private final Set<URI> failedURIs = new HashSet<>();
+
+    public PathmapResourcePool(IStaticPathmapResourceRegistry pathmapResourceRegistry, IProfileSearchService profileSearchService) {
+        this.pathmapResourceRegistry = Objects.requireNonNull(pathmapResourceRegistry);
+        this.pool = new ResourceSetImpl();
+        this.pool.getURIConverter().getURIHandlers().add(0, new PathmapURIHandler(pathmapResourceRegistry, Objects.requireNonNull(profileSearchService)));
+        this.pool.getResourceFactoryRegistry().getExtensionToFactoryMap().put(UMLResource.FILE_EXTENSION, new UMLResourceFactoryImpl());
+        this.pool.eAdapters().add(new ReadOnlyResourceRegistry());
+    }
+
+    @Override
+    public boolean isPooled(URI resourceURI) {
+        return resourceURI != null && this.pathmapResourceRegistry.getClassPathResource(resourceURI) != null;
+    }
+
+    @Override
+    public Resource getResource(URI resourceURI) {
+        Resource sharedResource = null;
+        if (this.isPooled(resourceURI)) {
+            // The pool is shared by all editing contexts, the loading is serialized since EMF objects are not thread
+            // safe
+            synchronized (this.pool) {
+                sharedResource = this.sharedResources.get(resourceURI);
+                if (sharedResource == null && !this.failedURIs.contains(resourceURI)) {
+                    sharedResource = this.load(resourceURI);
+                }
+            }
+        }
+        return sharedResource;
+    }
+
+    @Override
+    public boolean isShared(Resource resource) {
+        return resource != null && resource.getResourceSet() == this.pool;
+    }
+
+    private Resource load(URI resourceURI) {
+        Resource sharedResource = null;
+        try {
+            Resource pooledResource = this.pool.getResource(resourceURI, true);
+            // Resolves the references of the new resource and of the resources it loads before sharing them
+            EcoreUtil.resolveAll(this.pool);
+            this.sharedResources.put(resourceURI, pooledResource);
+            sharedResource = pooledResource;
+        } catch (RuntimeException e) {
+            this.logger.warn("Unable to add the resource {} to the pathmap pool, the resource will be parsed instead", resourceURI, e);
+            this.failedURIs.add(resourceURI);
+        }
+        return sharedResource;
+    }
+}
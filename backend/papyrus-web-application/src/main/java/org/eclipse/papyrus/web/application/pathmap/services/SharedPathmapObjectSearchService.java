@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.papyrus.web.application.pathmap.services;
+
+import java.util.Optional;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.papyrus.web.application.pathmap.SharedPathmapResourceMap;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IObjectSearchServiceDelegate;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.springframework.stereotype.Service;
+
+/**
+ * IObjectSearchServiceDelegate that finds the elements of the shared static pathmap resources, which are not part of
+ * the resources of the editing contexts (see {@link SharedPathmapResourceMap}).
+ *
+ * @author Arthur Daussy
+ */
+@Service
+public class SharedPathmapObjectSearchService implements IObjectSearchServiceDelegate {
+
+    @Override
+    public boolean canHandle(IEditingContext editingContext, String objectId) {
+        return this.findObject(editingContext, objectId).isPresent();
+    }
+
+    @Override
+    public Optional<Object> getObject(IEditingContext editingContext, String objectId) {
+        return this.findObject(editingContext, objectId);
+    }
+
+    private Optional<Object> findObject(IEditingContext editingContext, String objectId) {
+        Optional<Object> result = Optional.empty();
+        if (objectId != null && editingContext instanceof IEMFEditingContext emfEditingContext) {
+            // Only the ids of the XMI resources are used, looking for another kind of id would walk the resources
+            for (Resource sharedResource : SharedPathmapResourceMap.getSharedResources(emfEditingContext.getDomain().getResourceSet())) {
+                if (sharedResource instanceof XMLResource xmlResource) {
+                    EObject eObject = xmlResource.getIDToEObjectMap().get(objectId);
+                    if (eObject != null) {
+                        result = Optional.of(eObject);
+                        break;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.papyrus.web.application.pathmap.services.api;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+
+/**
+ * JVM-wide pool of the static pathmap resources (see {@link IStaticPathmapResourceRegistry}).
+ *
+ * <p>
+ * Each static pathmap resource is parsed only once, in a resource set owned by the pool, and then shared by reference
+ * by all the editing contexts. A pooled resource is frozen before being shared: all its references are resolved and it
+ * is read only, so that reading it from several editing contexts never modifies it. The pooled resources are not
+ * added to the resource sets of the editing contexts, they are only found from their {@link URI}.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public interface IPathmapResourcePool {
+
+    /**
+     * Checks if the resource identified by the given {@link URI} can be provided by the pool.
+     *
+     * @param resourceURI
+     *            the URI of a resource
+     * @return <code>true</code> if the resource is a static pathmap resource
+     */
+    boolean isPooled(URI resourceURI);
+
+    /**
+     * Gets the shared resource with the given {@link URI}, loading it in the pool if needed.
+     *
+     * @param resourceURI
+     *            the URI of a static pathmap resource
+     * @return the shared resource or <code>null</code> if the pool is not able to provide it, the resource then has to
+     *         be loaded the usual way
+     */
+    Resource getResource(URI resourceURI);
+
+    /**
+     * Checks if the given resource is one of the shared resources of the pool.
+     *
+     * @param resource
+     *            a resource
+     * @return <code>true</code> if the resource is owned by the pool
+     */
+    boolean isShared(Resource resource);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author Arthur Daussy
+     */
+    class NoOp implements IPathmapResourcePool {
+
+        @Override
+        public boolean isPooled(URI resourceURI) {
+            return false;
+        }
+
+        @Override
+        public Resource getResource(URI resourceURI) {
+            return null;
+        }
+
+        @Override
+        public boolean isShared(Resource resource) {
+            return false;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 CEA LIST, Obeo.
+ * Copyright (c) 2022, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.papyrus.web.application.profile;
 import java.util.List;
 
 import org.eclipse.emf.ecore.resource.Resource.Factory.Registry;
+import org.eclipse.papyrus.web.application.profile.services.DynamicProfileMetadataIndex;
 import org.eclipse.papyrus.web.application.profile.services.UMLProfileService;
 import org.eclipse.papyrus.web.application.profile.services.api.IUMLProfileProvider;
 import org.eclipse.papyrus.web.domain.boundedcontext.profile.service.api.IProfileCreationService;
@@ -32,16 +33,22 @@ import org.springframework.context.annotation.Configuration;
  */
 @Configuration
 public class UMLProfileConfiguration {
+
+    @Bean
+    public DynamicProfileMetadataIndex dynamicProfileMetadataIndex(Registry factoryRegistry) {
+        return new DynamicProfileMetadataIndex(factoryRegistry);
+    }
+
     @Bean
     public UMLProfileService profileDescriptionService(List<IUMLProfileProvider> umlProfileDescriptionProviders, IObjectService objectService, IProfileSearchService profilesearchService,
             IProfileDeletionService profileDeletionService,
-            IProfileCreationService profileCreationService, Registry factoryRegistry) {
+            IProfileCreationService profileCreationService, Registry factoryRegistry, DynamicProfileMetadataIndex profileMetadataIndex) {
         UMLProfileMetadataRegistry registry = new UMLProfileMetadataRegistry();
         umlProfileDescriptionProviders.stream().flatMap(uMLProfileProvider -> {
             return uMLProfileProvider.getUMLProfiles().stream();
         }).forEach(umlProfile -> {
             registry.add(umlProfile);
         });
-        return new UMLProfileService(registry, objectService, profilesearchService, profileDeletionService, profileCreationService, factoryRegistry);
+        return new UMLProfileService(registry, objectService, profilesearchService, profileDeletionService, profileCreationService, factoryRegistry, profileMetadataIndex);
     }
 }
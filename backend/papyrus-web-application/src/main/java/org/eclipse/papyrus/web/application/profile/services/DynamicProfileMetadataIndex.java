@@ -0,0 +1,280 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.profile.services;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EModelElement;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.Resource.Factory;
+import org.eclipse.emf.ecore.resource.Resource.Factory.Registry;
+import org.eclipse.papyrus.uml.domain.services.EMFUtils;
+import org.eclipse.papyrus.web.application.profile.dto.UMLProfileMetadata;
+import org.eclipse.papyrus.web.application.profile.dto.UMLProfileVersion;
+import org.eclipse.papyrus.web.domain.boundedcontext.profile.ProfileResourceEntity;
+import org.eclipse.papyrus.web.domain.boundedcontext.profile.events.ProfilePublishedEvent;
+import org.eclipse.papyrus.web.domain.boundedcontext.profile.projections.ProfileMetadataOnly;
+import org.eclipse.uml2.uml.Profile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Index of the metadata of the published dynamic profiles.
+ *
+ * <p>
+ * The XMI content of a published profile is only parsed when it is indexed, which happens when the profile is
+ * published (see {@link ProfilePublishedEvent}) or the first time its metadata are requested. An entry is only reused
+ * if the metadata columns of the profile (name, version, nsURI and content size) have not changed since it has been
+ * indexed.
+ * </p>
+ * <p>
+ * The profiles published before those columns have been introduced only have a content size, their name, version and
+ * nsURI are <code>null</code> until they are published again. They are indexed the same way, using only their content
+ * size to detect a change, so their content is still parsed only once.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public class DynamicProfileMetadataIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DynamicProfileMetadataIndex.class);
+
+    private final Map<UUID, IndexedProfileResource> indexedResources = new ConcurrentHashMap<>();
+
+    private final Registry factoryRegistry;
+
+    public DynamicProfileMetadataIndex(Registry factoryRegistry) {
+        this.factoryRegistry = Objects.requireNonNull(factoryRegistry);
+    }
+
+    /**
+     * Gets the metadata of the profiles contained in the given published profile resource.
+     *
+     * @param profileResourceEntity
+     *            a published profile resource
+     * @return the metadata of all the profiles of the resource
+     */
+    public List<DynamicProfileEntry> getEntries(ProfileResourceEntity profileResourceEntity) {
+        IndexedProfileResource indexedResource = this.indexedResources.get(profileResourceEntity.getId());
+        if (indexedResource == null || !indexedResource.fingerprint().equals(ProfileFingerprint.of(profileResourceEntity))) {
+            indexedResource = this.index(profileResourceEntity);
+        }
+        return indexedResource.entries();
+    }
+
+    /**
+     * Gets the metadata of the profiles contained in the published profile resource described by the given metadata.
+     *
+     * <p>
+     * The content of the profile resource is only loaded if the resource is not yet indexed or has changed since it
+     * has been indexed.
+     * </p>
+     *
+     * @param profileMetadata
+     *            the metadata of a published profile resource
+     * @param profileResourceLoader
+     *            used to load the whole profile resource
+     * @return the metadata of all the profiles of the resource
+     */
+    public List<DynamicProfileEntry> getEntries(ProfileMetadataOnly profileMetadata, Function<UUID, Optional<ProfileResourceEntity>> profileResourceLoader) {
+        IndexedProfileResource indexedResource = this.indexedResources.get(profileMetadata.id());
+        if (indexedResource == null || !indexedResource.fingerprint().equals(ProfileFingerprint.of(profileMetadata))) {
+            indexedResource = profileResourceLoader.apply(profileMetadata.id())
+                    .map(this::index)
+                    .orElse(null);
+        }
+        return Optional.ofNullable(indexedResource).map(IndexedProfileResource::entries).orElse(List.of());
+    }
+
+    /**
+     * Removes from the index all the profile resources which are not part of the given ids.
+     *
+     * @param profileResourceIds
+     *            the ids of the existing profile resources
+     */
+    public void retainAll(Collection<UUID> profileResourceIds) {
+        this.indexedResources.keySet().retainAll(profileResourceIds);
+    }
+
+    /**
+     * Removes the given profile resource from the index.
+     *
+     * @param profileResourceId
+     *            the id of a profile resource
+     */
+    public void evict(UUID profileResourceId) {
+        this.indexedResources.remove(profileResourceId);
+    }
+
+    /**
+     * Indexes a newly published profile.
+     *
+     * @param event
+     *            the publication event
+     */
+    @TransactionalEventListener
+    public void onProfilePublishedEvent(ProfilePublishedEvent event) {
+        this.index(event.profile());
+    }
+
+    private IndexedProfileResource index(ProfileResourceEntity profileResourceEntity) {
+        IndexedProfileResource indexedResource = new IndexedProfileResource(ProfileFingerprint.of(profileResourceEntity), this.parseEntries(profileResourceEntity));
+        this.indexedResources.put(profileResourceEntity.getId(), indexedResource);
+        return indexedResource;
+    }
+
+    private List<DynamicProfileEntry> parseEntries(ProfileResourceEntity profileResourceEntity) {
+        // No need to resoveProxies
+        URI resourceUri = URI.createURI(UMLProfileService.WEB_DYNAMIC_PROFILE_RESOURCE_PREFIX + profileResourceEntity.getId().toString());
+        Resource resource = ((Factory) this.factoryRegistry.getExtensionToFactoryMap().get("uml")).createResource(resourceUri);
+        try (var inputStream = profileResourceEntity.getContentStream()) {
+            resource.load(inputStream, null);
+            return EMFUtils.allContainedObjectOfType(resource, Profile.class)
+                    .map(profile -> new DynamicProfileEntry(profile.getName(), resource.getURIFragment(profile), getVersionLabel(profile), this.getVersionFromProfile(profile)))
+                    .toList();
+        } catch (IOException exception) {
+            LOGGER.warn(exception.getMessage(), exception);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Gets the version of the given profile, as displayed to the user.
+     *
+     * @param profile
+     *            a profile
+     * @return the version of the profile or an empty string if the profile has not been published yet
+     */
+    static String getVersionLabel(Profile profile) {
+        String version = "";
+        EPackage definition = profile.getDefinition();
+        if (definition != null) {
+            EAnnotation eAnnotation = definition.getEAnnotation("PapyrusVersion");
+            if (eAnnotation != null && eAnnotation.getDetails().get("Version") != null) {
+                version = eAnnotation.getDetails().get("Version");
+            }
+        }
+        return version;
+    }
+
+    private Optional<UMLProfileVersion> getVersionFromProfile(Profile profile) {
+        Optional<UMLProfileVersion> versionOpt = Optional.empty();
+        EAnnotation eAnnotationMain = profile.getEAnnotation("http://www.eclipse.org/uml2/2.0.0/UML");
+        // A profile which has never been defined has no definition, it gets the default version as a profile without
+        // version
+        Optional<EPackage> ePackageOpt = Optional.ofNullable(eAnnotationMain).stream()//
+                .flatMap(eAnnotation -> eAnnotation.getContents().stream())//
+                .filter(EPackage.class::isInstance)//
+                .map(EPackage.class::cast)//
+                .findFirst();
+        if (ePackageOpt.isPresent()) {
+            versionOpt = ePackageOpt.map(ePackage -> ((EModelElement) ePackage).getEAnnotation("PapyrusVersion"))//
+                    .map(eAnnotation -> eAnnotation.getDetails().get("Version")) //
+                    .map(strVersion -> {
+                        UMLProfileVersion profileLastVersion = null;
+                        String[] versions = strVersion.split("\\.");
+                        if (versions.length == 3) {
+                            try {
+                                profileLastVersion = new UMLProfileVersion(Integer.parseInt(versions[0]), Integer.parseInt(versions[1]), Integer.parseInt(versions[2]));
+                            } catch (NumberFormatException e) {
+                                LOGGER.error(
+                                        MessageFormat.format("Invalid version format of profile {0} in profile resource with id {1}", profile.getName(), profile.eResource().getURI().lastSegment()));
+                            }
+                        }
+
+                        return profileLastVersion;
+                    });
+        } else {
+            versionOpt = Optional.of(new UMLProfileVersion(0, 0, 0));
+        }
+        return versionOpt;
+    }
+
+    /**
+     * The metadata of a profile contained in a published profile resource.
+     *
+     * @param name
+     *            the name of the profile
+     * @param uriFragment
+     *            the URI fragment of the profile in its resource
+     * @param version
+     *            the version of the profile, as displayed to the user
+     * @param lastVersion
+     *            the parsed version of the profile
+     * @author Arthur Daussy
+     */
+    public record DynamicProfileEntry(String name, String uriFragment, String version, Optional<UMLProfileVersion> lastVersion) {
+
+        /**
+         * Converts this entry into an {@link UMLProfileMetadata}.
+         *
+         * @param profileResourceId
+         *            the id of the resource containing the profile
+         * @return a new {@link UMLProfileMetadata}
+         */
+        public UMLProfileMetadata toMetadata(UUID profileResourceId) {
+            return new UMLProfileMetadata(this.name, UMLProfileService.WEB_DYNAMIC_PROFILE_RESOURCE_PREFIX + profileResourceId + "#" + this.uriFragment, this.version);
+        }
+    }
+
+    /**
+     * An indexed profile resource.
+     *
+     * @param fingerprint
+     *            the fingerprint of the profile resource when it has been indexed
+     * @param entries
+     *            the metadata of the profiles of the resource
+     * @author Arthur Daussy
+     */
+    private record IndexedProfileResource(ProfileFingerprint fingerprint, List<DynamicProfileEntry> entries) {
+    }
+
+    /**
+     * The metadata of a profile resource which are updated each time it is published.
+     *
+     * @param name
+     *            the name of the published profile
+     * @param version
+     *            the version of the published profile
+     * @param nsUri
+     *            the nsURI of the definition of the published profile
+     * @param contentSize
+     *            the size of the content of the profile resource
+     * @author Arthur Daussy
+     */
+    private record ProfileFingerprint(String name, String version, String nsUri, long contentSize) {
+
+        static ProfileFingerprint of(ProfileResourceEntity profileResourceEntity) {
+            return new ProfileFingerprint(profileResourceEntity.getName(), profileResourceEntity.getVersion(), profileResourceEntity.getNsUri(), profileResourceEntity.getContentSize());
+        }
+
+        static ProfileFingerprint of(ProfileMetadataOnly profileMetadata) {
+            return new ProfileFingerprint(profileMetadata.name(), profileMetadata.version(), profileMetadata.nsUri(), profileMetadata.contentSize());
+        }
+    }
+}
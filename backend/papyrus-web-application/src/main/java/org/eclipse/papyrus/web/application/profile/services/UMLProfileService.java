@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 CEA LIST, Obeo.
+ * Copyright (c) 2022, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,23 +13,19 @@
  *******************************************************************************/
 package org.eclipse.papyrus.web.application.profile.services;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import org.eclipse.emf.common.util.URI;
-import org.eclipse.emf.ecore.EAnnotation;
-import org.eclipse.emf.ecore.EModelElement;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.resource.Resource;
@@ -38,7 +34,6 @@ import org.eclipse.emf.ecore.resource.Resource.Factory.Registry;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.util.EcoreUtil.Copier;
 import org.eclipse.emf.ecore.xmi.impl.XMLResourceImpl;
-import org.eclipse.papyrus.uml.domain.services.EMFUtils;
 import org.eclipse.papyrus.uml.domain.services.profile.DynamicProfileConverter;
 import org.eclipse.papyrus.uml.domain.services.profile.ProfileDefinition;
 import org.eclipse.papyrus.uml.domain.services.profile.ProfileVersion;
@@ -50,8 +45,10 @@ import org.eclipse.papyrus.web.application.profile.dto.DeleteProfileSuccessPaylo
 import org.eclipse.papyrus.web.application.profile.dto.PublishProfileInput;
 import org.eclipse.papyrus.web.application.profile.dto.UMLProfileMetadata;
 import org.eclipse.papyrus.web.application.profile.dto.UMLProfileVersion;
+import org.eclipse.papyrus.web.application.profile.services.DynamicProfileMetadataIndex.DynamicProfileEntry;
 import org.eclipse.papyrus.web.application.profile.services.api.IUMLProfileService;
 import org.eclipse.papyrus.web.domain.boundedcontext.profile.ProfileResourceEntity;
+import org.eclipse.papyrus.web.domain.boundedcontext.profile.projections.ProfileMetadataOnly;
 import org.eclipse.papyrus.web.domain.boundedcontext.profile.service.api.IProfileCreationService;
 import org.eclipse.papyrus.web.domain.boundedcontext.profile.service.api.IProfileDeletionService;
 import org.eclipse.papyrus.web.domain.boundedcontext.profile.service.api.IProfileSearchService;
@@ -94,10 +91,13 @@ public class UMLProfileService implements IUMLProfileService {
 
     private final IProfileCreationService profileCreationService;
 
+    private final DynamicProfileMetadataIndex profileMetadataIndex;
+
     private Registry factoryRegistry;
 
     public UMLProfileService(UMLProfileMetadataRegistry registry, IObjectService objectService, IProfileSearchService profileSearchService, IProfileDeletionService profileDeletionService,
-            IProfileCreationService profileCreationService, Registry factoryRegistry) {
+            IProfileCreationService profileCreationService, Registry factoryRegistry, DynamicProfileMetadataIndex profileMetadataIndex) {
+        this.profileMetadataIndex = Objects.requireNonNull(profileMetadataIndex);
         this.profileDeletionService = Objects.requireNonNull(profileDeletionService);
         this.profileCreationService = Objects.requireNonNull(profileCreationService);
         this.umlRegistry = Objects.requireNonNull(registry);
@@ -109,37 +109,18 @@ public class UMLProfileService implements IUMLProfileService {
     @Override
     @Transactional(readOnly = true)
     public List<UMLProfileMetadata> getAllUMLProfiles() {
-        List<UMLProfileMetadata> dynamicProfiles = StreamSupport.stream(this.profileSearchService.findAll().spliterator(), false)
-                .flatMap(profileResourceEntity -> this.getDynamicProfileMetadata(profileResourceEntity).stream()).collect(Collectors.toList());
+        List<ProfileMetadataOnly> profileMetadatas = this.profileSearchService.findAllMetadata();
+        this.profileMetadataIndex.retainAll(profileMetadatas.stream().map(ProfileMetadataOnly::id).toList());
+        List<UMLProfileMetadata> dynamicProfiles = profileMetadatas.stream()
+                .flatMap(profileMetadata -> this.profileMetadataIndex.getEntries(profileMetadata, this.profileSearchService::findById).stream()
+                        .map(entry -> entry.toMetadata(profileMetadata.id())))
+                .collect(Collectors.toList());
 
         List<UMLProfileMetadata> profiles = new ArrayList<>(dynamicProfiles);
         profiles.addAll(this.umlRegistry.getUMLProfileDescriptions());
         return profiles;
     }
 
-    private List<UMLProfileMetadata> getDynamicProfileMetadata(ProfileResourceEntity profileResourceEntity) {
-
-        // No need to resoveProxies
-        Resource resource = this.createResource(profileResourceEntity.getId().toString());
-        try (var inputStream = new ByteArrayInputStream(profileResourceEntity.getContent().getBytes())) {
-            resource.load(inputStream, null);
-            return EMFUtils.allContainedObjectOfType(resource, Profile.class).map(profile -> {
-                String profileId = profile.eResource().getURIFragment(profile);
-                EPackage definition = profile.getDefinition();
-                EAnnotation eAnnotation = definition.getEAnnotation("PapyrusVersion");
-                String version = "";
-                if (eAnnotation != null) {
-                    version = eAnnotation.getDetails().get("Version");
-                }
-                return new UMLProfileMetadata(profile.getName(), resource.getURI() + "#" + profileId, version);
-            }).toList();
-        } catch (IOException exception) {
-            LOGGER.warn(exception.getMessage(), exception);
-            return Collections.emptyList();
-        }
-
-    }
-
     private void copyAllKeepingId(Collection<EObject> eObjects, Resource resource) {
         if (resource instanceof XMLResourceImpl) {
             XMLResourceImpl xmlResource = (XMLResourceImpl) resource;
@@ -230,17 +211,10 @@ public class UMLProfileService implements IUMLProfileService {
                     .map(segment -> UUID.nameUUIDFromBytes(segment.getBytes()))//
                     .flatMap(this.profileSearchService::findById);
             if (profileResourceEntityOpt.isPresent()) {
-                versionOpt = profileResourceEntityOpt.flatMap(profileResourceEntity -> {
-                    Resource resource = this.createResource(profileResourceEntity.getId().toString());
-
-                    try (var inputStream = new ByteArrayInputStream(profileResourceEntity.getContent().getBytes())) {
-                        resource.load(inputStream, null);
-                        return this.getLastProfileVersion(resource, profileId);
-                    } catch (IOException exception) {
-                        LOGGER.warn(exception.getMessage(), exception);
-                    }
-                    return null;
-                });
+                versionOpt = this.profileMetadataIndex.getEntries(profileResourceEntityOpt.get()).stream()//
+                        .filter(entry -> profileId.equals(entry.uriFragment()))//
+                        .findFirst()//
+                        .flatMap(DynamicProfileEntry::lastVersion);
             } else {
                 versionOpt = Optional.of(new UMLProfileVersion(0, 0, 0));
             }
@@ -249,47 +223,6 @@ public class UMLProfileService implements IUMLProfileService {
         return versionOpt;
     }
 
-    private Optional<UMLProfileVersion> getLastProfileVersion(Resource resourceOfPublishedProfile, String profileId) {
-        return EMFUtils.allContainedObjectOfType(resourceOfPublishedProfile, Profile.class)//
-                .filter(profile -> this.matchId(resourceOfPublishedProfile, profileId, profile))//
-                .findFirst() //
-                .flatMap(this::getVersionFromProfile);
-    }
-
-    private boolean matchId(Resource resourceOfPublishedProfile, String profileId, Profile profile) {
-        return profileId.equals(resourceOfPublishedProfile.getURIFragment(profile));
-    }
-
-    private Optional<UMLProfileVersion> getVersionFromProfile(Profile profile) {
-        Optional<UMLProfileVersion> versionOpt = Optional.empty();
-        EAnnotation eAnnotationMain = profile.getEAnnotation("http://www.eclipse.org/uml2/2.0.0/UML");
-        Optional<EPackage> ePackageOpt = eAnnotationMain.getContents().stream()//
-                .filter(EPackage.class::isInstance)//
-                .map(EPackage.class::cast)//
-                .findFirst();
-        if (ePackageOpt.isPresent()) {
-            versionOpt = ePackageOpt.map(ePackage -> ((EModelElement) ePackage).getEAnnotation("PapyrusVersion"))//
-                    .map(eAnnotation -> eAnnotation.getDetails().get("Version")) //
-                    .map(strVersion -> {
-                        UMLProfileVersion profileLastVersion = null;
-                        String[] versions = strVersion.split("\\.");
-                        if (versions.length == 3) {
-                            try {
-                                profileLastVersion = new UMLProfileVersion(Integer.parseInt(versions[0]), Integer.parseInt(versions[1]), Integer.parseInt(versions[2]));
-                            } catch (NumberFormatException e) {
-                                LOGGER.error(
-                                        MessageFormat.format("Invalid version format of profile {0} in profile resource with id {0}", profile.getName(), profile.eResource().getURI().lastSegment()));
-                            }
-                        }
-
-                        return profileLastVersion;
-                    });
-        } else {
-            versionOpt = Optional.of(new UMLProfileVersion(0, 0, 0));
-        }
-        return versionOpt;
-    }
-
     @Override
     public IPayload publishProfile(IEditingContext editingContext, PublishProfileInput publishProfileInput) {
         Optional<Profile> profileOpt = this.objectService.getObject(editingContext, publishProfileInput.objectId())//
@@ -308,24 +241,15 @@ public class UMLProfileService implements IUMLProfileService {
 
     @Override
     public IPayload deletePublishedDynamicProfileByName(String name) {
-        StreamSupport.stream(this.profileSearchService.findAll().spliterator(), false).filter(pr -> this.hasName(pr, name)).forEach(pr -> {
-            this.profileDeletionService.deleteProfile(pr.getId());
+        this.profileSearchService.findAllMetadata().stream().filter(pr -> this.hasName(pr, name)).forEach(pr -> {
+            this.profileDeletionService.deleteProfile(pr.id());
+            this.profileMetadataIndex.evict(pr.id());
         });
         return new DeleteProfileSuccessPayload(UUID.randomUUID());
     }
 
-    private boolean hasName(ProfileResourceEntity profileResourceEntity, String profileName) {
-
-        // No need to resoveProxies
-        Resource resource = this.createResource(profileResourceEntity.getId().toString());
-        try (var inputStream = new ByteArrayInputStream(profileResourceEntity.getContent().getBytes())) {
-            resource.load(inputStream, null);
-            return EMFUtils.allContainedObjectOfType(resource, Profile.class).anyMatch(p -> profileName.equals(p.getName()));
-        } catch (IOException exception) {
-            LOGGER.warn(exception.getMessage(), exception);
-            return false;
-        }
-
+    private boolean hasName(ProfileMetadataOnly profileMetadata, String profileName) {
+        return this.profileMetadataIndex.getEntries(profileMetadata, this.profileSearchService::findById).stream().anyMatch(entry -> profileName.equals(entry.name()));
     }
 
     private IPayload doPublishProfile(IEditingContext editingContext, PublishProfileInput publishProfileInput, Profile profile) {
@@ -379,8 +303,10 @@ public class UMLProfileService implements IUMLProfileService {
             Optional<byte[]> optionalBytes = Optional.of(outputStream.toByteArray());
             if (optionalBytes.isPresent()) {
                 byte[] bytes = optionalBytes.get();
-                String content = new String(bytes);
-                return this.profileCreationService.createProfile(cause, UUID.nameUUIDFromBytes(resourceId.getBytes()), content);
+                String content = new String(bytes, StandardCharsets.UTF_8);
+                String nsUri = Optional.ofNullable(profile.getDefinition()).map(EPackage::getNsURI).orElse(null);
+                return this.profileCreationService.createProfile(cause, UUID.nameUUIDFromBytes(resourceId.getBytes()), content, profile.getName(),
+                        DynamicProfileMetadataIndex.getVersionLabel(profile), nsUri);
             }
         } catch (IOException exception) {
             LOGGER.warn(exception.getMessage(), exception);
@@ -0,0 +1,312 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.properties;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.emf.common.util.WrappedException;
+import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.uml2.uml.UMLPackage;
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * Compact index of the documentation stored in "/org.eclipse.uml2.uml/model/UML.ecore" resource.
+ *
+ * <p>
+ * The documentation is extracted at build time in the {@value #INDEX_PATH} resource. Each documentation text is stored
+ * once, as UTF-8 bytes, even if it is shared by the features inherited by many classifiers, and it is only decoded when
+ * it is asked for.
+ * </p>
+ *
+ * @author Jerome Gout
+ */
+public final class UMLDocumentationIndex {
+
+    /**
+     * The classpath location of the index.
+     */
+    public static final String INDEX_PATH = "uml-documentation/UML.documentation";
+
+    /**
+     * Value of the "source" attribute to get the right EAnnotation which contains the documentation for each model
+     * element.
+     */
+    private static final String SOURCE_ANNOTATION_GEN_MODEL = "http://www.eclipse.org/emf/2002/GenModel";
+
+    private static final String SOURCE_ANNOTATION_DUPLICATES = "duplicates";
+
+    /**
+     * The key of the EAnnotation details map used to get the documentation for each model element.
+     */
+    private static final String DOCUMENTATION_ANNOTATION_DETAILS_KEY = "documentation";
+
+    /**
+     * The pattern used to match additional documentation from superclasses.
+     */
+    private static final Pattern SUPERCLASS_DOCUMENTATION_PATTERN = Pattern.compile("<p>.*</p>");
+
+    /**
+     * The example of valid formats for the multiplicity text widget, displayed in the Help content.
+     */
+    private static final String MULTIPLICITY_DOC_EXAMPLE = "Example of valid formats: 1, 0..12, 1..*, *";
+
+    private final Map<String, Integer> documentationIndexes;
+
+    private final int[] offsets;
+
+    private final byte[] documentations;
+
+    private UMLDocumentationIndex(Map<String, Integer> documentationIndexes, int[] offsets, byte[] documentations) {
+        this.documentationIndexes = documentationIndexes;
+        this.offsets = offsets;
+        this.documentations = documentations;
+    }
+
+    /**
+     * Loads the index generated at build time, or extracts it from the UML metamodel if it has not been generated.
+     *
+     * @return the index
+     */
+    public static UMLDocumentationIndex load() {
+        ClassPathResource index = new ClassPathResource(INDEX_PATH);
+        try {
+            if (index.exists()) {
+                try (var inputStream = index.getInputStream()) {
+                    return read(inputStream);
+                }
+            }
+            return extract();
+        } catch (IOException exception) {
+            throw new WrappedException(exception);
+        }
+    }
+
+    /**
+     * Extracts the index from the UML metamodel.
+     *
+     * @return the index
+     */
+    public static UMLDocumentationIndex extract() {
+        return of(extractDocumentation());
+    }
+
+    /**
+     * Reads an index written by {@link #write(OutputStream)}.
+     *
+     * @param inputStream
+     *            the input stream of the index
+     * @return the index
+     * @throws IOException
+     *             if the index cannot be read
+     */
+    public static UMLDocumentationIndex read(InputStream inputStream) throws IOException {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(inputStream));
+        int documentationCount = input.readInt();
+        List<byte[]> encodedDocumentations = new ArrayList<>(documentationCount);
+        for (int i = 0; i < documentationCount; i++) {
+            byte[] encodedDocumentation = new byte[input.readInt()];
+            input.readFully(encodedDocumentation);
+            encodedDocumentations.add(encodedDocumentation);
+        }
+        int entryCount = input.readInt();
+        Map<String, Integer> documentationIndexes = new HashMap<>();
+        for (int i = 0; i < entryCount; i++) {
+            documentationIndexes.put(input.readUTF(), input.readInt());
+        }
+        return of(documentationIndexes, encodedDocumentations);
+    }
+
+    /**
+     * Writes this index.
+     *
+     * @param outputStream
+     *            the output stream of the index
+     * @throws IOException
+     *             if the index cannot be written
+     */
+    public void write(OutputStream outputStream) throws IOException {
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputStream));
+        output.writeInt(this.offsets.length - 1);
+        for (int i = 0; i < this.offsets.length - 1; i++) {
+            output.writeInt(this.offsets[i + 1] - this.offsets[i]);
+            output.write(this.documentations, this.offsets[i], this.offsets[i + 1] - this.offsets[i]);
+        }
+        output.writeInt(this.documentationIndexes.size());
+        for (var entry : this.documentationIndexes.entrySet()) {
+            output.writeUTF(entry.getKey());
+            output.writeInt(entry.getValue());
+        }
+        output.flush();
+    }
+
+    /**
+     * Returns the keys of all the documentation entries.
+     *
+     * @return the documentation entry keys
+     */
+    public Set<String> getEntryKeys() {
+        return this.documentationIndexes.keySet();
+    }
+
+    /**
+     * Returns the documentation associated to the given documentation entry key.
+     *
+     * @param entryKey
+     *            the documentation entry key
+     * @return the documentation or {@code null} if no such documentation exists
+     */
+    public String getDocumentation(String entryKey) {
+        Integer documentationIndex = this.documentationIndexes.get(entryKey);
+        String documentation = null;
+        if (documentationIndex != null) {
+            int offset = this.offsets[documentationIndex];
+            documentation = new String(this.documentations, offset, this.offsets[documentationIndex + 1] - offset, StandardCharsets.UTF_8);
+        }
+        return documentation;
+    }
+
+    /**
+     * Writes the index of the UML documentation.
+     *
+     * @param args
+     *            the output folder
+     * @throws IOException
+     *             if the index cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: UMLDocumentationIndex <output folder>");
+        }
+        Path index = Path.of(args[0]).resolve(INDEX_PATH);
+        Files.createDirectories(index.getParent());
+        try (OutputStream outputStream = Files.newOutputStream(index)) {
+            extract().write(outputStream);
+        }
+    }
+
+    private static UMLDocumentationIndex of(Map<String, String> documentationEntries) {
+        Map<String, Integer> documentationIndexes = new HashMap<>();
+        Map<String, Integer> distinctDocumentations = new LinkedHashMap<>();
+        documentationEntries.forEach((key, documentation) -> {
+            Integer documentationIndex = distinctDocumentations.computeIfAbsent(documentation, d -> distinctDocumentations.size());
+            documentationIndexes.put(key, documentationIndex);
+        });
+        List<byte[]> encodedDocumentations = new ArrayList<>();
+        for (String documentation : distinctDocumentations.keySet()) {
+            encodedDocumentations.add(documentation.getBytes(StandardCharsets.UTF_8));
+        }
+        return of(documentationIndexes, encodedDocumentations);
+    }
+
+    private static UMLDocumentationIndex of(Map<String, Integer> documentationIndexes, List<byte[]> encodedDocumentations) {
+        int[] offsets = new int[encodedDocumentations.size() + 1];
+        for (int i = 0; i < encodedDocumentations.size(); i++) {
+            offsets[i + 1] = offsets[i] + encodedDocumentations.get(i).length;
+        }
+        byte[] documentations = new byte[offsets[encodedDocumentations.size()]];
+        for (int i = 0; i < encodedDocumentations.size(); i++) {
+            byte[] encodedDocumentation = encodedDocumentations.get(i);
+            System.arraycopy(encodedDocumentation, 0, documentations, offsets[i], encodedDocumentation.length);
+        }
+        return new UMLDocumentationIndex(Collections.unmodifiableMap(documentationIndexes), offsets, documentations);
+    }
+
+    private static Map<String, String> extractDocumentation() {
+        Map<String, String> documentationEntries = new HashMap<>();
+        Resource resource = new XMIResourceImpl();
+        try (var inputStream = new ClassPathResource("model/UML.ecore").getInputStream()) {
+            resource.load(inputStream, Collections.emptyMap());
+        } catch (IOException exception) {
+            throw new WrappedException(exception);
+        }
+        EPackage uml2EPackage = (EPackage) resource.getContents().get(0);
+        for (EClassifier eClassifier : uml2EPackage.getEClassifiers()) {
+            if (eClassifier instanceof EClass) {
+                EClass clazz = (EClass) eClassifier;
+                for (EStructuralFeature feature : clazz.getEAllStructuralFeatures()) {
+                    String doc = findDocumentation(clazz, feature);
+                    String docKey = UMLDocumentationService.getEntryKey(eClassifier.getName(), feature.getName());
+                    documentationEntries.put(docKey, doc);
+                }
+            }
+        }
+        // store the MultiplicityElement root documentation
+        String multiplicityElementTypeName = UMLPackage.eINSTANCE.getMultiplicityElement().getName();
+        EClassifier multiplicityClassifier = uml2EPackage.getEClassifier(multiplicityElementTypeName);
+        EAnnotation eAnnotation = multiplicityClassifier.getEAnnotation(SOURCE_ANNOTATION_GEN_MODEL);
+        String description = extractDescriptionFromEAnnotation(eAnnotation).concat(MULTIPLICITY_DOC_EXAMPLE);
+        String docKey = UMLDocumentationService.getEntryKey(multiplicityElementTypeName, "");
+        documentationEntries.put(docKey, description);
+        // an annotation without documentation details gives no entry
+        documentationEntries.values().removeIf(d -> d == null);
+        return documentationEntries;
+    }
+
+    private static String findDocumentation(EClass clazz, EStructuralFeature feature) {
+        EAnnotation docAnnotation = feature.getEAnnotation(SOURCE_ANNOTATION_GEN_MODEL);
+        // this feature may have redefined its documentation
+        EAnnotation dupAnnotation = clazz.getEAnnotation(SOURCE_ANNOTATION_DUPLICATES);
+        if (dupAnnotation != null) {
+            EReference redefinedRef = dupAnnotation.getContents()//
+                    .stream()//
+                    .filter(EReference.class::isInstance)//
+                    .map(EReference.class::cast)//
+                    .filter(ref -> feature.getName().equals(ref.getName()))//
+                    .findFirst().orElse(null);
+            if (redefinedRef != null) {
+                docAnnotation = redefinedRef.getEAnnotation(SOURCE_ANNOTATION_GEN_MODEL);
+            }
+        }
+        return extractDescriptionFromEAnnotation(docAnnotation);
+    }
+
+    private static String extractDescriptionFromEAnnotation(EAnnotation eAnnotation) {
+        String description = "";
+        if (eAnnotation != null) {
+            description = eAnnotation.getDetails().get(DOCUMENTATION_ANNOTATION_DETAILS_KEY);
+            if (description != null) {
+                Matcher m = SUPERCLASS_DOCUMENTATION_PATTERN.matcher(description);
+                if (m.find()) {
+                    description = description.replaceAll(m.group(0), "");
+                }
+            }
+        }
+        return description;
+    }
+}
@@ -0,0 +1,133 @@
+/*****************************************************************************
+ * Copyright (c) 2024, 2026 CEA LIST.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.readonly;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+
+/**
+ * Registry of the read only resources of a {@link ResourceSet}.
+ *
+ * <p>
+ * The registry is installed as an adapter on the resource set and keeps track of the resources added to it. An element
+ * is read only if its resource is, so there is no need to tag each element.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public class ReadOnlyResourceRegistry extends AdapterImpl {
+
+    private static final String PATHMAP_SCHEME = "pathmap";
+
+    private final Set<Resource> readOnlyResources = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    /**
+     * Gets the registry installed on the given resource set.
+     *
+     * @param resourceSet
+     *            a resource set
+     * @return the registry or <code>null</code> if none is installed
+     */
+    public static ReadOnlyResourceRegistry getRegistry(ResourceSet resourceSet) {
+        ReadOnlyResourceRegistry registry = null;
+        if (resourceSet != null) {
+            // Only a few adapters are installed on a resource set
+            for (var adapter : resourceSet.eAdapters()) {
+                if (adapter instanceof ReadOnlyResourceRegistry readOnlyResourceRegistry) {
+                    registry = readOnlyResourceRegistry;
+                    break;
+                }
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * Registers all the read only resources of the given resource set.
+     *
+     * @param resources
+     *            the resources of a resource set
+     */
+    public void registerAll(Collection<Resource> resources) {
+        resources.forEach(this::register);
+    }
+
+    /**
+     * Checks if the given resource is read only.
+     *
+     * @param resource
+     *            a resource
+     * @return <code>true</code> if the resource is read only
+     */
+    public boolean isReadOnly(Resource resource) {
+        return this.readOnlyResources.contains(resource);
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == ReadOnlyResourceRegistry.class;
+    }
+
+    @Override
+    public void notifyChanged(Notification msg) {
+        if (msg.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES) {
+            switch (msg.getEventType()) {
+                case Notification.ADD -> this.register(msg.getNewValue());
+                case Notification.ADD_MANY -> this.registerList(msg.getNewValue());
+                case Notification.REMOVE -> this.readOnlyResources.remove(msg.getOldValue());
+                case Notification.REMOVE_MANY -> this.unregisterList(msg.getOldValue());
+                default -> {
+                    // Nothing to do
+                }
+            }
+        }
+    }
+
+    private void registerList(Object resources) {
+        if (resources instanceof List<?> list) {
+            list.forEach(this::register);
+        }
+    }
+
+    private void unregisterList(Object resources) {
+        if (resources instanceof List<?> list) {
+            list.forEach(this.readOnlyResources::remove);
+        }
+    }
+
+    private void register(Object object) {
+        if (object instanceof Resource resource && isPathmapResource(resource)) {
+            this.readOnlyResources.add(resource);
+        }
+    }
+
+    /**
+     * Checks if the given resource is a pathmap resource, the resources the registry considers read only.
+     *
+     * @param resource
+     *            a resource
+     * @return <code>true</code> if the resource is a pathmap resource
+     */
+    public static boolean isPathmapResource(Resource resource) {
+        return resource.getURI() != null && PATHMAP_SCHEME.equals(resource.getURI().scheme());
+    }
+}
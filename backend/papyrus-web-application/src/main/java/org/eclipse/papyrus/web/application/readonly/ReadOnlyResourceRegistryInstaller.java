@@ -0,0 +1,50 @@
+/*****************************************************************************
+ * Copyright (c) 2024, 2026 CEA LIST.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.readonly;
+
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.papyrus.web.application.templates.service.api.IUMLProjectCheckerService;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.springframework.stereotype.Service;
+
+/**
+ * Installs the {@link ReadOnlyResourceRegistry} on the resource set of Papyrus editing contexts.
+ *
+ * @author Arthur Daussy
+ */
+@Service
+public class ReadOnlyResourceRegistryInstaller implements IEditingContextProcessor {
+
+    private final IUMLProjectCheckerService umlChecker;
+
+    public ReadOnlyResourceRegistryInstaller(IUMLProjectCheckerService umlChecker) {
+        super();
+        this.umlChecker = umlChecker;
+    }
+
+    @Override
+    public void postProcess(IEditingContext editingContext) {
+        if (editingContext instanceof IEMFEditingContext emfEditingContext && this.umlChecker.isPapyrusProject(editingContext.getId())) {
+            ResourceSet resourceSet = emfEditingContext.getDomain().getResourceSet();
+            if (ReadOnlyResourceRegistry.getRegistry(resourceSet) == null) {
+                ReadOnlyResourceRegistry registry = new ReadOnlyResourceRegistry();
+                registry.registerAll(resourceSet.getResources());
+                resourceSet.eAdapters().add(registry);
+            }
+        }
+    }
+
+}
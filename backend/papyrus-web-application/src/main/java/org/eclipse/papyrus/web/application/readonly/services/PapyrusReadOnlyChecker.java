@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2024 CEA LIST.
+ * Copyright (c) 2024, 2026 CEA LIST.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,14 +13,20 @@
  *****************************************************************************/
 package org.eclipse.papyrus.web.application.readonly.services;
 
-import org.eclipse.emf.common.notify.Notifier;
-import org.eclipse.papyrus.web.application.readonly.ReadOnlyAdapter;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.papyrus.web.application.readonly.ReadOnlyResourceRegistry;
 import org.eclipse.papyrus.web.application.readonly.services.api.IPapyrusReadOnlyChecker;
 import org.springframework.stereotype.Service;
 
 /**
  * Checks if an element is read only.
  *
+ * <p>
+ * An element is read only if its resource has been registered in the {@link ReadOnlyResourceRegistry} of its resource
+ * set.
+ * </p>
+ *
  * @author Arthur Daussy
  */
 @Service
@@ -28,11 +34,19 @@ public class PapyrusReadOnlyChecker implements IPapyrusReadOnlyChecker {
 
     @Override
     public boolean isReadOnly(Object object) {
-        if (object instanceof Notifier notifier) {
-            return notifier.eAdapters().stream().anyMatch(ReadOnlyAdapter.class::isInstance);
+        Resource resource = null;
+        if (object instanceof Resource objectResource) {
+            resource = objectResource;
+        } else if (object instanceof EObject eObject) {
+            resource = eObject.eResource();
+        }
 
+        boolean isReadOnly = false;
+        if (resource != null) {
+            ReadOnlyResourceRegistry registry = ReadOnlyResourceRegistry.getRegistry(resource.getResourceSet());
+            isReadOnly = registry != null && registry.isReadOnly(resource);
         }
-        return false;
+        return isReadOnly;
     }
 
 }
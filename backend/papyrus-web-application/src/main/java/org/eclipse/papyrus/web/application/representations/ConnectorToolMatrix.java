@@ -0,0 +1,78 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.representations;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.components.diagrams.description.IDiagramElementDescription;
+import org.eclipse.sirius.components.diagrams.tools.ITool;
+import org.eclipse.sirius.components.diagrams.tools.SingleClickOnTwoDiagramElementsCandidate;
+import org.eclipse.sirius.components.diagrams.tools.SingleClickOnTwoDiagramElementsTool;
+
+/**
+ * The connector tools of a diagram description, indexed by the ids of the source and target element descriptions
+ * they can connect.
+ *
+ * <p>
+ * The matrix is computed once, when the diagram description is registered, from all the palettes and tool sections
+ * of the description. The tools keep their palette order.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+final class ConnectorToolMatrix {
+
+    private final Map<String, Map<String, List<ITool>>> toolsBySourceAndTarget = new HashMap<>();
+
+    ConnectorToolMatrix(DiagramDescription diagramDescription) {
+        diagramDescription.getPalettes().stream()
+                .flatMap(palette -> Stream.concat(palette.getTools().stream(), palette.getToolSections().stream().flatMap(toolSection -> toolSection.getTools().stream())))
+                .filter(SingleClickOnTwoDiagramElementsTool.class::isInstance)
+                .map(SingleClickOnTwoDiagramElementsTool.class::cast)
+                .forEach(this::index);
+        this.toolsBySourceAndTarget.values().forEach(toolsByTarget -> toolsByTarget.replaceAll((targetId, tools) -> List.copyOf(tools)));
+    }
+
+    private void index(SingleClickOnTwoDiagramElementsTool tool) {
+        for (SingleClickOnTwoDiagramElementsCandidate candidate : tool.getCandidates()) {
+            for (IDiagramElementDescription source : candidate.getSources()) {
+                Map<String, List<ITool>> toolsByTarget = this.toolsBySourceAndTarget.computeIfAbsent(source.getId(), id -> new HashMap<>());
+                for (IDiagramElementDescription target : candidate.getTargets()) {
+                    List<ITool> tools = toolsByTarget.computeIfAbsent(target.getId(), id -> new ArrayList<>());
+                    if (!tools.contains(tool)) {
+                        tools.add(tool);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the connector tools that can connect the given source and target element descriptions.
+     *
+     * @param sourceDescriptionId
+     *            the id of the description of the source element
+     * @param targetDescriptionId
+     *            the id of the description of the target element
+     * @return the connector tools
+     */
+    List<ITool> getConnectorTools(String sourceDescriptionId, String targetDescriptionId) {
+        return this.toolsBySourceAndTarget.getOrDefault(sourceDescriptionId, Map.of()).getOrDefault(targetDescriptionId, List.of());
+    }
+}
@@ -0,0 +1,53 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.representations;
+
+/**
+ * How the Papyrus representation descriptions are created at startup, set with the
+ * {@value #PROPERTY} property.
+ *
+ * @author Arthur Daussy
+ */
+public enum DescriptionLoadingMode {
+
+    /**
+     * The descriptions are built and converted one after another.
+     */
+    SEQUENTIAL,
+
+    /**
+     * The diagram descriptions are built and converted concurrently.
+     */
+    PARALLEL,
+
+    /**
+     * The diagram descriptions are loaded from the snapshots generated at build time and converted concurrently, the
+     * missing snapshots being built instead.
+     */
+    SNAPSHOT;
+
+    /**
+     * The property used to choose the loading mode.
+     */
+    public static final String PROPERTY = "papyrus.web.representations.loading";
+
+    /**
+     * Checks if the diagram descriptions can be converted concurrently.
+     *
+     * @return <code>true</code> if the diagram descriptions can be converted concurrently
+     */
+    public boolean isParallel() {
+        return this != SEQUENTIAL;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 CEA LIST, Obeo.
+ * Copyright (c) 2022, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,8 @@ package org.eclipse.papyrus.web.application.representations;
 
 import static org.eclipse.papyrus.uml.domain.services.EMFUtils.allContainedObjectOfType;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -28,6 +30,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.util.TreeIterator;
@@ -41,14 +44,16 @@ import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.papyrus.uml.domain.services.EMFUtils;
 import org.eclipse.papyrus.web.application.representations.uml.AbstractRepresentationDescriptionBuilder;
+import org.eclipse.papyrus.web.application.representations.uml.PapyrusDiagramSnapshots;
+import org.eclipse.papyrus.web.sirius.contributions.ViewDiagramDescriptionIndex;
 import org.eclipse.sirius.components.diagrams.description.EdgeDescription;
 import org.eclipse.sirius.components.diagrams.description.IDiagramElementDescription;
 import org.eclipse.sirius.components.diagrams.description.NodeDescription;
+import org.eclipse.sirius.components.diagrams.tools.ITool;
 import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
 import org.eclipse.sirius.components.representations.IRepresentationDescription;
 import org.eclipse.sirius.components.view.RepresentationDescription;
 import org.eclipse.sirius.components.view.View;
-import org.eclipse.sirius.components.view.ViewFactory;
 import org.eclipse.sirius.components.view.diagram.DiagramDescription;
 import org.eclipse.sirius.components.view.diagram.DiagramElementDescription;
 import org.eclipse.sirius.components.view.emf.IViewConverter;
@@ -61,6 +66,14 @@ import org.slf4j.LoggerFactory;
 /**
  * Registry that keeps track of all {@link IRepresentationDescription}s used in Papyrus application.
  *
+ * <p>
+ * The diagram descriptions and their node and edge descriptions are indexed by id, by name and from the view
+ * description to the API description when they are registered, so that looking for a description never requires to
+ * walk all the registered descriptions. The indexes are built in a {@link PendingIndexes} during each registration and
+ * then replaced by unmodifiable copies, they are never modified once the descriptions are shared by the editing
+ * contexts. The connector tools of each diagram are indexed by the source and target descriptions they connect.
+ * </p>
+ *
  * @author Arthur Daussy
  */
 public class PapyrusRepresentationDescriptionRegistry {
@@ -69,17 +82,25 @@ public class PapyrusRepresentationDescriptionRegistry {
 
     private IDiagramIdProvider idProvider;
 
-    private List<Match> diagrams = new ArrayList<>();
+    private List<Match> diagrams = List.of();
+
+    private Map<String, Match> diagramsById = Map.of();
+
+    private Map<String, Match> diagramsByName = Map.of();
+
+    private Map<String, DiagramDescription> viewDiagramDescriptionById = Map.of();
+
+    private Map<String, org.eclipse.sirius.components.diagrams.description.DiagramDescription> apiDiagramDescriptionById = Map.of();
 
-    private Map<String, DiagramDescription> viewDiagramDescriptionById = new HashMap<>();
+    private Map<String, DiagramElementDescription> viewDiagramElementDescriptionById = Map.of();
 
-    private Map<String, org.eclipse.sirius.components.diagrams.description.DiagramDescription> apiDiagramDescriptionById = new HashMap<>();
+    private Map<String, IDiagramElementDescription> apiDiagramElementDescriptionById = Map.of();
 
-    private Map<String, DiagramElementDescription> viewDiagramElementDescriptionById = new HashMap<>();
+    private Map<DiagramElementDescription, IDiagramElementDescription> apiDiagramElementDescriptionByView = Map.of();
 
-    private Map<String, IDiagramElementDescription> apiDiagramElementDescriptionById = new HashMap<>();
+    private Map<String, Map<String, DiagramElementDescription>> viewDiagramElementDescriptionByName = Map.of();
 
-    private Map<FormDescription, org.eclipse.sirius.components.forms.description.FormDescription> formsConvertion = new HashMap<>();
+    private Map<FormDescription, org.eclipse.sirius.components.forms.description.FormDescription> formsConvertion = Map.of();
 
     private ResourceSetImpl viewResourceSet;
 
@@ -106,31 +127,115 @@ public class PapyrusRepresentationDescriptionRegistry {
      *            a diagram builder.
      */
     public void registerDiagram(AbstractRepresentationDescriptionBuilder diagramBuilder) {
+        this.registerDiagramViews(List.of(PapyrusDiagramSnapshots.buildView(diagramBuilder)), false);
+    }
+
+    /**
+     * Register the diagrams of the given views in this registry.
+     *
+     * <p>
+     * This method should be called during initialization phase. For example during a @PostConstruct in a service class.
+     * The diagrams are registered in the order of the views, even when they are converted concurrently.
+     * </p>
+     *
+     * @param views
+     *            the views containing the diagram descriptions, built by
+     *            {@link PapyrusDiagramSnapshots#buildView(AbstractRepresentationDescriptionBuilder)} or loaded by
+     *            {@link #loadDiagramView(String, InputStream)}
+     * @param parallel
+     *            <code>true</code> to convert the views concurrently
+     */
+    public void registerDiagramViews(List<View> views, boolean parallel) {
         List<EPackage> staticEPackages = this.ePackagesRegistry.values().stream()
                 .filter(EPackage.class::isInstance)
                 .map(EPackage.class::cast)
                 .collect(Collectors.toList());
 
-        View view = this.createView(diagramBuilder.getRepresentationName());
-
-        DiagramDescription diagramDescription = diagramBuilder.createDiagramDescription(view);
-
-        Resource eResource = view.eResource();
+        for (View view : views) {
+            Resource eResource = view.eResource();
+            this.viewResourceSet.getResources().add(eResource);
+            this.generateStaticIds(this.getDiagramDescription(view), eResource);
+        }
 
-        this.generateStaticIds(diagramDescription, eResource);
+        Stream<View> viewStream;
+        if (parallel) {
+            viewStream = views.parallelStream();
+        } else {
+            viewStream = views.stream();
+        }
+        List<List<IRepresentationDescription>> convertedViews = viewStream.map(view -> this.viewConverter.convert(Collections.singletonList(view), staticEPackages)).toList();
+
+        PendingIndexes pendingIndexes = new PendingIndexes(this);
+        for (int i = 0; i < views.size(); i++) {
+            View view = views.get(i);
+            DiagramDescription diagramDescription = this.getDiagramDescription(view);
+            // Workaround https://github.com/eclipse-sirius/sirius-components/issues/1345
+            for (var description : convertedViews.get(i)) {
+                if (description instanceof org.eclipse.sirius.components.diagrams.description.DiagramDescription) {
+                    this.add(diagramDescription, (org.eclipse.sirius.components.diagrams.description.DiagramDescription) description, pendingIndexes);
+                    LOGGER.info(MessageFormat.format("Contributing representation {0} with id {1}", description.getLabel(), description.getId()));
+                }
+            }
 
-        List<IRepresentationDescription> representationDescriptions = this.viewConverter.convert(Collections.singletonList(view), staticEPackages);
+            view.eAdapters().add(new UnmodifableModel());
+        }
+        this.setIndexes(pendingIndexes);
+    }
 
-        // Workaround https://github.com/eclipse-sirius/sirius-components/issues/1345
-        for (var description : representationDescriptions) {
-            if (description instanceof org.eclipse.sirius.components.diagrams.description.DiagramDescription) {
-                this.add(diagramDescription, (org.eclipse.sirius.components.diagrams.description.DiagramDescription) description);
-                LOGGER.info(MessageFormat.format("Contributing representation {0} with id {1}", description.getLabel(), description.getId()));
-            }
+    private void setIndexes(PendingIndexes pendingIndexes) {
+        Map<String, Match> matchesById = new HashMap<>();
+        Map<String, Match> matchesByName = new HashMap<>();
+        for (Match match : pendingIndexes.matches) {
+            matchesById.put(match.getId(), match);
+            matchesByName.putIfAbsent(match.getViewDiagramDescription().getName(), match);
         }
+        Map<String, Map<String, DiagramElementDescription>> elementsByName = new HashMap<>();
+        pendingIndexes.viewElementsByName.forEach((diagramName, elements) -> elementsByName.put(diagramName, Map.copyOf(elements)));
+
+        this.diagrams = List.copyOf(pendingIndexes.matches);
+        this.diagramsById = Map.copyOf(matchesById);
+        this.diagramsByName = Map.copyOf(matchesByName);
+        this.viewDiagramDescriptionById = Map.copyOf(pendingIndexes.viewDiagramsById);
+        this.apiDiagramDescriptionById = Map.copyOf(pendingIndexes.apiDiagramsById);
+        this.viewDiagramElementDescriptionById = Map.copyOf(pendingIndexes.viewElementsById);
+        this.apiDiagramElementDescriptionById = Map.copyOf(pendingIndexes.apiElementsById);
+        this.apiDiagramElementDescriptionByView = Map.copyOf(pendingIndexes.apiElementsByView);
+        this.viewDiagramElementDescriptionByName = Map.copyOf(elementsByName);
+    }
 
-        view.eAdapters().add(new UnmodifableModel());
+    /**
+     * Loads the view of a diagram from its snapshot.
+     *
+     * @param representationName
+     *            the name of the diagram
+     * @param snapshot
+     *            the snapshot written by {@link PapyrusDiagramSnapshots}
+     * @return the view containing the diagram description
+     * @throws IOException
+     *             if the snapshot cannot be read
+     */
+    public View loadDiagramView(String representationName, InputStream snapshot) throws IOException {
+        // The snapshot is read in its own resource set to use the EPackages of the application
+        ResourceSetImpl loadingResourceSet = new ResourceSetImpl();
+        loadingResourceSet.setPackageRegistry(this.ePackagesRegistry);
+        JsonResource resource = new JSONResourceFactory().createResource(PapyrusDiagramSnapshots.getViewURI(representationName));
+        loadingResourceSet.getResources().add(resource);
+        resource.load(snapshot, Map.of());
+        loadingResourceSet.getResources().remove(resource);
+
+        return resource.getContents().stream()
+                .filter(View.class::isInstance)
+                .map(View.class::cast)
+                .findFirst()
+                .orElseThrow(() -> new IOException("No view in the snapshot of " + representationName));
+    }
 
+    private DiagramDescription getDiagramDescription(View view) {
+        return view.getDescriptions().stream()
+                .filter(DiagramDescription.class::isInstance)
+                .map(DiagramDescription.class::cast)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No diagram description in view " + view.eResource().getURI()));
     }
 
     /**
@@ -147,24 +252,12 @@ public class PapyrusRepresentationDescriptionRegistry {
      */
     // This can be improved by relocated the conversion from View to API inside this class
     public void registerForm(FormDescription viewFormDescription, org.eclipse.sirius.components.forms.description.FormDescription formDescription) {
-        this.formsConvertion.put(viewFormDescription, formDescription);
+        Map<FormDescription, org.eclipse.sirius.components.forms.description.FormDescription> forms = new HashMap<>(this.formsConvertion);
+        forms.put(viewFormDescription, formDescription);
+        this.formsConvertion = Map.copyOf(forms);
         viewFormDescription.eAdapters().add(new UnmodifableModel());
     }
 
-    private View createView(String representatioName) {
-        // Required to have a unique URIs - workaround https://github.com/eclipse-sirius/sirius-components/issues/1345
-        View view = ViewFactory.eINSTANCE.createView();
-        JSONResourceFactory jsonResourceFactory = new JSONResourceFactory();
-        var uri = jsonResourceFactory.createResourceURI(UUID.nameUUIDFromBytes(representatioName.getBytes()).toString());
-
-        JsonResource impl = jsonResourceFactory.createResource(uri);
-
-        impl.getContents().add(view);
-        this.viewResourceSet.getResources().add(impl);
-
-        return view;
-    }
-
     private void generateStaticIds(RepresentationDescription diagramDescription, Resource eResource) {
         TreeIterator<EObject> contentIterator = eResource.getAllContents();
         Set<String> uniqueDescriptionIds = new HashSet<>();
@@ -174,12 +267,30 @@ public class PapyrusRepresentationDescriptionRegistry {
             if (next instanceof DiagramElementDescription desc) {
                 id = this.getUniqueIdentifier(diagramDescription, uniqueDescriptionIds, desc);
             } else {
-                id = EcoreUtil.getURI(next).toString();
+                id = this.getPathURI(next, eResource);
             }
             ((JsonResource) eResource).setID(next, UUID.nameUUIDFromBytes(id.getBytes()).toString());
         }
     }
 
+    /**
+     * Gets the URI of the given element built from its containment path, as {@link EcoreUtil#getURI(EObject)} does
+     * for an element without id. The ids read from a snapshot are ignored so that a loaded view gets the same static
+     * ids as a built one.
+     */
+    private String getPathURI(EObject eObject, Resource eResource) {
+        String rootSegment = "";
+        if (eResource.getContents().size() > 1) {
+            rootSegment = Integer.toString(eResource.getContents().indexOf(EcoreUtil.getRootContainer(eObject)));
+        }
+        String fragment = "/" + rootSegment;
+        String path = EcoreUtil.getRelativeURIFragmentPath(null, eObject);
+        if (!path.isEmpty()) {
+            fragment = fragment + "/" + path;
+        }
+        return eResource.getURI().appendFragment(fragment).toString();
+    }
+
     private String getUniqueIdentifier(RepresentationDescription diagramDescription, Set<String> uniqueDescriptionIds, DiagramElementDescription desc) {
         String name = desc.getName();
 
@@ -192,37 +303,49 @@ public class PapyrusRepresentationDescriptionRegistry {
         }
     }
 
-    private void add(DiagramDescription description, org.eclipse.sirius.components.diagrams.description.DiagramDescription converted) {
+    private void add(DiagramDescription description, org.eclipse.sirius.components.diagrams.description.DiagramDescription converted, PendingIndexes pendingIndexes) {
         String viewId = this.idProvider.getId(description);
         String apiId = converted.getId();
 
         if (!Objects.equals(apiId, viewId)) {
             throw new IllegalStateException("Invalid diagram ids. View id =" + viewId + " API id=" + apiId);
         }
-        this.viewDiagramDescriptionById.put(viewId, description);
-        this.apiDiagramDescriptionById.put(apiId, converted);
+        pendingIndexes.viewDiagramsById.put(viewId, description);
+        pendingIndexes.apiDiagramsById.put(apiId, converted);
 
-        EMFUtils.allContainedObjectOfType(description, DiagramElementDescription.class).forEach(de -> this.registerViewDiagramElement(de));
-        Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> convertedNodes = this.buildConvertedNodeMap(description, converted);
-        Map<org.eclipse.sirius.components.view.diagram.EdgeDescription, EdgeDescription> convertedEdges = this.buildConvertedEdgeMap(description, converted);
+        Map<String, DiagramElementDescription> elementsByName = pendingIndexes.viewElementsByName.computeIfAbsent(description.getName(), name -> new HashMap<>());
+        EMFUtils.allContainedObjectOfType(description, DiagramElementDescription.class).forEach(de -> {
+            pendingIndexes.viewElementsById.put(this.idProvider.getId(de), de);
+            elementsByName.put(de.getName(), de);
+        });
+        Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> convertedNodes = this.buildConvertedNodeMap(description, converted, pendingIndexes);
+        Map<org.eclipse.sirius.components.view.diagram.EdgeDescription, EdgeDescription> convertedEdges = this.buildConvertedEdgeMap(description, converted, pendingIndexes);
+        convertedNodes.forEach((viewNode, apiNode) -> this.putIfConverted(pendingIndexes.apiElementsByView, viewNode, apiNode));
+        convertedEdges.forEach((viewEdge, apiEdge) -> this.putIfConverted(pendingIndexes.apiElementsByView, viewEdge, apiEdge));
 
-        this.diagrams.add(new Match(viewId, description, converted, convertedNodes, convertedEdges));
+        // Installed now since the descriptions are then shared by all the editing contexts
+        ViewDiagramDescriptionIndex index = ViewDiagramDescriptionIndex.getOrInstall(description);
+        index.indexConvertedNodes(convertedNodes);
+        index.indexConvertedEdges(convertedEdges);
 
+        pendingIndexes.matches.add(new Match(viewId, description, converted, convertedNodes, convertedEdges));
     }
 
-    private DiagramElementDescription registerViewDiagramElement(DiagramElementDescription de) {
-        return this.viewDiagramElementDescriptionById.put(this.idProvider.getId(de), de);
+    private void putIfConverted(Map<DiagramElementDescription, IDiagramElementDescription> apiElementsByView, DiagramElementDescription viewDescription, IDiagramElementDescription apiDescription) {
+        if (apiDescription != null) {
+            apiElementsByView.put(viewDescription, apiDescription);
+        }
     }
 
     private Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> buildConvertedNodeMap(DiagramDescription diagramDescription,
-            org.eclipse.sirius.components.diagrams.description.DiagramDescription converted) {
+            org.eclipse.sirius.components.diagrams.description.DiagramDescription converted, PendingIndexes pendingIndexes) {
 
         Map<String, NodeDescription> nodeIdToDescriptions = new HashMap<>();
         for (NodeDescription node : converted.getNodeDescriptions()) {
             this.collectNote(node, nodeIdToDescriptions);
         }
 
-        this.apiDiagramElementDescriptionById.putAll(nodeIdToDescriptions);
+        pendingIndexes.apiElementsById.putAll(nodeIdToDescriptions);
 
         Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> converterNodes = new HashMap<>();
         allContainedObjectOfType(diagramDescription, org.eclipse.sirius.components.view.diagram.NodeDescription.class).forEach(n -> {
@@ -233,14 +356,14 @@ public class PapyrusRepresentationDescriptionRegistry {
     }
 
     private Map<org.eclipse.sirius.components.view.diagram.EdgeDescription, EdgeDescription> buildConvertedEdgeMap(DiagramDescription diagramDescription,
-            org.eclipse.sirius.components.diagrams.description.DiagramDescription converted) {
+            org.eclipse.sirius.components.diagrams.description.DiagramDescription converted, PendingIndexes pendingIndexes) {
 
         Map<String, EdgeDescription> edgeIdToDescriptions = new HashMap<>();
         for (EdgeDescription edge : converted.getEdgeDescriptions()) {
             edgeIdToDescriptions.put(edge.getId(), edge);
         }
 
-        this.apiDiagramElementDescriptionById.putAll(edgeIdToDescriptions);
+        pendingIndexes.apiElementsById.putAll(edgeIdToDescriptions);
 
         Map<org.eclipse.sirius.components.view.diagram.EdgeDescription, EdgeDescription> convertedEdges = new HashMap<>();
         allContainedObjectOfType(diagramDescription, org.eclipse.sirius.components.view.diagram.EdgeDescription.class).forEach(e -> {
@@ -257,12 +380,47 @@ public class PapyrusRepresentationDescriptionRegistry {
         return Optional.ofNullable((org.eclipse.sirius.components.view.diagram.EdgeDescription) this.viewDiagramElementDescriptionById.get(id));
     }
 
+    /**
+     * Gets the API description converted from the given view diagram element description.
+     *
+     * @param viewDescription
+     *            a view node or edge description
+     * @return the API description or an empty optional if the view description has not been registered
+     */
+    public Optional<IDiagramElementDescription> getApiDiagramElementDescription(DiagramElementDescription viewDescription) {
+        return Optional.ofNullable(this.apiDiagramElementDescriptionByView.get(viewDescription));
+    }
+
+    /**
+     * Gets the API node or edge description with the given id.
+     *
+     * @param id
+     *            the id of an API description
+     * @return the API description or an empty optional if none has been registered with this id
+     */
+    public Optional<IDiagramElementDescription> getApiDiagramElementDescriptionById(String id) {
+        return Optional.ofNullable(this.apiDiagramElementDescriptionById.get(id));
+    }
+
+    /**
+     * Gets the view node or edge description with the given name in a diagram description.
+     *
+     * @param diagramName
+     *            the name of the diagram description
+     * @param elementName
+     *            the name of the node or edge description
+     * @return the view description or an empty optional if the diagram description has no such element
+     */
+    public Optional<DiagramElementDescription> getViewDiagramElementDescriptionByName(String diagramName, String elementName) {
+        return Optional.ofNullable(this.viewDiagramElementDescriptionByName.getOrDefault(diagramName, Map.of()).get(elementName));
+    }
+
     public Optional<DiagramDescription> getViewDiagramDescriptionById(String id) {
-        return this.diagrams.stream().filter(m -> m.getId().equals(id)).map(Match::getViewDiagramDescription).findFirst();
+        return Optional.ofNullable(this.viewDiagramDescriptionById.get(id));
     }
 
     public Optional<IRepresentationDescription> getApiDiagramDescriptionById(String id) {
-        return this.diagrams.stream().filter(m -> m.getId().equals(id)).map(Match::getApiDiagramDescription).findFirst();
+        return Optional.ofNullable(this.apiDiagramDescriptionById.get(id));
     }
 
     private void collectNote(NodeDescription node, Map<String, NodeDescription> nodeIdToDescriptions) {
@@ -280,19 +438,35 @@ public class PapyrusRepresentationDescriptionRegistry {
     }
 
     public Optional<DiagramDescription> getViewDiagramDescriptionByName(String diagramName) {
-        return this.diagrams.stream().filter(m -> Objects.equals(diagramName, m.getViewDiagramDescription().getName())).map(Match::getViewDiagramDescription).findFirst();
+        return Optional.ofNullable(this.diagramsByName.get(diagramName)).map(Match::getViewDiagramDescription);
     }
 
     public Optional<IRepresentationDescription> getApiDiagramDescriptionByName(String diagramName) {
-        return this.diagrams.stream().filter(m -> Objects.equals(diagramName, m.getViewDiagramDescription().getName())).map(Match::getApiDiagramDescription).findFirst();
+        return Optional.ofNullable(this.diagramsByName.get(diagramName)).map(Match::getApiDiagramDescription);
     }
 
     public Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> getConvertedNode(String descriptionName) {
-        return this.diagrams.stream().filter(m -> Objects.equals(descriptionName, m.getViewDiagramDescription().getName())).map(Match::getConvertedNodes).findFirst().orElse(Collections.emptyMap());
+        return Optional.ofNullable(this.diagramsByName.get(descriptionName)).map(Match::getConvertedNodes).orElse(Collections.emptyMap());
     }
 
     public Map<org.eclipse.sirius.components.view.diagram.EdgeDescription, EdgeDescription> getConvertedEdges(String descriptionName) {
-        return this.diagrams.stream().filter(m -> Objects.equals(descriptionName, m.getViewDiagramDescription().getName())).map(Match::getConvertedEdges).findFirst().orElse(Collections.emptyMap());
+        return Optional.ofNullable(this.diagramsByName.get(descriptionName)).map(Match::getConvertedEdges).orElse(Collections.emptyMap());
+    }
+
+    /**
+     * Gets the connector tools of a registered diagram that can connect the given source and target element
+     * descriptions.
+     *
+     * @param diagramDescriptionId
+     *            the id of the API diagram description
+     * @param sourceDescriptionId
+     *            the id of the description of the source element
+     * @param targetDescriptionId
+     *            the id of the description of the target element
+     * @return the connector tools, in palette order, or an empty optional if the diagram has not been registered
+     */
+    public Optional<List<ITool>> getConnectorTools(String diagramDescriptionId, String sourceDescriptionId, String targetDescriptionId) {
+        return Optional.ofNullable(this.diagramsById.get(diagramDescriptionId)).map(match -> match.getConnectorToolMatrix().getConnectorTools(sourceDescriptionId, targetDescriptionId));
     }
 
     public List<DiagramDescription> getViewDiagrams() {
@@ -324,10 +498,12 @@ public class PapyrusRepresentationDescriptionRegistry {
 
         private final Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> convertedNodes;
 
-        private Map<org.eclipse.sirius.components.view.diagram.EdgeDescription, EdgeDescription> convertedEdges;
+        private final Map<org.eclipse.sirius.components.view.diagram.EdgeDescription, EdgeDescription> convertedEdges;
 
         private final String id;
 
+        private final ConnectorToolMatrix connectorToolMatrix;
+
         private Match(String id, DiagramDescription viewDiagramDescription, org.eclipse.sirius.components.diagrams.description.DiagramDescription apiDiagramDescription,
                 Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> convertedNodes,
                 Map<org.eclipse.sirius.components.view.diagram.EdgeDescription, EdgeDescription> convertedEdges) {
@@ -336,7 +512,8 @@ public class PapyrusRepresentationDescriptionRegistry {
             this.viewDiagramDescription = Objects.requireNonNull(viewDiagramDescription);
             this.apiDiagramDescription = Objects.requireNonNull(apiDiagramDescription);
             this.convertedNodes = Collections.unmodifiableMap(Objects.requireNonNull(convertedNodes));
-            this.convertedEdges = convertedEdges;
+            this.convertedEdges = Collections.unmodifiableMap(Objects.requireNonNull(convertedEdges));
+            this.connectorToolMatrix = new ConnectorToolMatrix(apiDiagramDescription);
         }
 
         public DiagramDescription getViewDiagramDescription() {
@@ -358,6 +535,43 @@ public class PapyrusRepresentationDescriptionRegistry {
         public Map<org.eclipse.sirius.components.view.diagram.EdgeDescription, EdgeDescription> getConvertedEdges() {
             return this.convertedEdges;
         }
+
+        public ConnectorToolMatrix getConnectorToolMatrix() {
+            return this.connectorToolMatrix;
+        }
+    }
+
+    /**
+     * Mutable copies of the indexes of the registry, filled during a registration and then frozen by
+     * {@link PapyrusRepresentationDescriptionRegistry#setIndexes(PendingIndexes)}.
+     *
+     * @author Arthur Daussy
+     */
+    private static final class PendingIndexes {
+
+        private final List<Match> matches;
+
+        private final Map<String, DiagramDescription> viewDiagramsById;
+
+        private final Map<String, org.eclipse.sirius.components.diagrams.description.DiagramDescription> apiDiagramsById;
+
+        private final Map<String, DiagramElementDescription> viewElementsById;
+
+        private final Map<String, IDiagramElementDescription> apiElementsById;
+
+        private final Map<DiagramElementDescription, IDiagramElementDescription> apiElementsByView;
+
+        private final Map<String, Map<String, DiagramElementDescription>> viewElementsByName = new HashMap<>();
+
+        private PendingIndexes(PapyrusRepresentationDescriptionRegistry registry) {
+            this.matches = new ArrayList<>(registry.diagrams);
+            this.viewDiagramsById = new HashMap<>(registry.viewDiagramDescriptionById);
+            this.apiDiagramsById = new HashMap<>(registry.apiDiagramDescriptionById);
+            this.viewElementsById = new HashMap<>(registry.viewDiagramElementDescriptionById);
+            this.apiElementsById = new HashMap<>(registry.apiDiagramElementDescriptionById);
+            this.apiElementsByView = new HashMap<>(registry.apiDiagramElementDescriptionByView);
+            registry.viewDiagramElementDescriptionByName.forEach((diagramName, elements) -> this.viewElementsByName.put(diagramName, new HashMap<>(elements)));
+        }
     }
 
     /**
@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2024 CEA LIST, Obeo.
+ * Copyright (c) 2024, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,18 +13,14 @@
  *****************************************************************************/
 package org.eclipse.papyrus.web.application.representations;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
-import org.eclipse.papyrus.web.application.representations.uml.ADDiagramDescriptionBuilder;
-import org.eclipse.papyrus.web.application.representations.uml.CDDiagramDescriptionBuilder;
-import org.eclipse.papyrus.web.application.representations.uml.CODDiagramDescriptionBuilder;
-import org.eclipse.papyrus.web.application.representations.uml.CPDDiagramDescriptionBuilder;
-import org.eclipse.papyrus.web.application.representations.uml.CSDDiagramDescriptionBuilder;
-import org.eclipse.papyrus.web.application.representations.uml.DDDiagramDescriptionBuilder;
-import org.eclipse.papyrus.web.application.representations.uml.PADDiagramDescriptionBuilder;
-import org.eclipse.papyrus.web.application.representations.uml.PRDDiagramDescriptionBuilder;
-import org.eclipse.papyrus.web.application.representations.uml.SMDDiagramDescriptionBuilder;
-import org.eclipse.papyrus.web.application.representations.uml.UCDDiagramDescriptionBuilder;
+import org.eclipse.papyrus.web.application.representations.uml.AbstractRepresentationDescriptionBuilder;
+import org.eclipse.papyrus.web.application.representations.uml.PapyrusDiagramSnapshots;
 import org.eclipse.papyrus.web.application.templates.service.api.IUMLProjectCheckerService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
@@ -32,6 +28,7 @@ import org.eclipse.sirius.components.view.View;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import jakarta.annotation.PostConstruct;
@@ -50,25 +47,47 @@ public class PapyrusRepresentationInstaller implements IEditingContextProcessor
 
     private final IUMLProjectCheckerService umlChecker;
 
-    public PapyrusRepresentationInstaller(PapyrusRepresentationDescriptionRegistry papyrusRepresentationRegistry, IUMLProjectCheckerService umlChecker) {
+    private final DescriptionLoadingMode loadingMode;
+
+    public PapyrusRepresentationInstaller(PapyrusRepresentationDescriptionRegistry papyrusRepresentationRegistry, IUMLProjectCheckerService umlChecker,
+            @Value("${" + DescriptionLoadingMode.PROPERTY + ":SEQUENTIAL}") DescriptionLoadingMode loadingMode) {
         super();
         this.papyrusRepresentationRegistry = Objects.requireNonNull(papyrusRepresentationRegistry);
         this.umlChecker = Objects.requireNonNull(umlChecker);
+        this.loadingMode = Objects.requireNonNull(loadingMode);
     }
 
     @PostConstruct
     private void fillPapyrusRegistry() {
+        long start = System.currentTimeMillis();
         // Create the view models only once
-        this.papyrusRepresentationRegistry.registerDiagram(new CSDDiagramDescriptionBuilder());
-        this.papyrusRepresentationRegistry.registerDiagram(new PADDiagramDescriptionBuilder());
-        this.papyrusRepresentationRegistry.registerDiagram(new SMDDiagramDescriptionBuilder());
-        this.papyrusRepresentationRegistry.registerDiagram(new CDDiagramDescriptionBuilder());
-        this.papyrusRepresentationRegistry.registerDiagram(new UCDDiagramDescriptionBuilder());
-        this.papyrusRepresentationRegistry.registerDiagram(new PRDDiagramDescriptionBuilder());
-        this.papyrusRepresentationRegistry.registerDiagram(new CODDiagramDescriptionBuilder());
-        this.papyrusRepresentationRegistry.registerDiagram(new ADDiagramDescriptionBuilder());
-        this.papyrusRepresentationRegistry.registerDiagram(new CPDDiagramDescriptionBuilder());
-        this.papyrusRepresentationRegistry.registerDiagram(new DDDiagramDescriptionBuilder());
+        List<AbstractRepresentationDescriptionBuilder> diagramBuilders = PapyrusDiagramSnapshots.createBuilders();
+        final List<View> views;
+        if (this.loadingMode == DescriptionLoadingMode.SNAPSHOT) {
+            views = diagramBuilders.parallelStream()
+                    .map(diagramBuilder -> this.loadDiagramView(diagramBuilder.getRepresentationName()).orElseGet(() -> PapyrusDiagramSnapshots.buildView(diagramBuilder)))
+                    .toList();
+        } else if (this.loadingMode == DescriptionLoadingMode.PARALLEL) {
+            views = diagramBuilders.parallelStream().map(PapyrusDiagramSnapshots::buildView).toList();
+        } else {
+            views = diagramBuilders.stream().map(PapyrusDiagramSnapshots::buildView).toList();
+        }
+        this.papyrusRepresentationRegistry.registerDiagramViews(views, this.loadingMode.isParallel());
+        LOGGER.info("Papyrus diagram descriptions registered in {} ms ({} mode)", System.currentTimeMillis() - start, this.loadingMode);
+    }
+
+    private Optional<View> loadDiagramView(String representationName) {
+        String snapshotPath = PapyrusDiagramSnapshots.getSnapshotPath(representationName);
+        try (InputStream snapshot = PapyrusRepresentationInstaller.class.getClassLoader().getResourceAsStream(snapshotPath)) {
+            if (snapshot == null) {
+                LOGGER.warn("No snapshot of the {} description, it is built instead", representationName);
+                return Optional.empty();
+            }
+            return Optional.of(this.papyrusRepresentationRegistry.loadDiagramView(representationName, snapshot));
+        } catch (IOException exception) {
+            LOGGER.warn("Unable to load the snapshot of the {} description, it is built instead", representationName, exception);
+            return Optional.empty();
+        }
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2022, 2024 CEA LIST, Obeo.
+ * Copyright (c) 2022, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -39,6 +39,7 @@ import org.eclipse.papyrus.web.application.representations.aqlservices.propertie
 import org.eclipse.papyrus.web.application.representations.aqlservices.properties.PropertiesMemberEndServicesWrapper;
 import org.eclipse.papyrus.web.application.representations.aqlservices.properties.PropertiesProfileServices;
 import org.eclipse.papyrus.web.application.representations.aqlservices.properties.PropertiesReferenceTypeServices;
+import org.eclipse.papyrus.web.application.representations.aqlservices.scope.ReachableCandidatesServices;
 import org.eclipse.papyrus.web.application.representations.aqlservices.scope.ReachableElementsServices;
 import org.eclipse.papyrus.web.application.representations.aqlservices.statemachine.StateMachineDiagramService;
 import org.eclipse.papyrus.web.application.representations.aqlservices.tables.TableService;
@@ -92,6 +93,7 @@ public class RepresentationServicesProvider implements IJavaServiceProvider {
         if (name != null) {
             // Generic services
             services.add(UMLService.class);
+            services.add(ReachableCandidatesServices.class);
             services.add(DebugService.class);
             String repName = representationDescription.getName();
             // Handle both in memory and serialized version
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 CEA LIST, Obeo.
+ * Copyright (c) 2022, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import org.eclipse.papyrus.uml.domain.services.create.ICreator;
 import org.eclipse.papyrus.uml.domain.services.status.State;
 import org.eclipse.papyrus.web.application.representations.aqlservices.utils.IViewHelper;
 import org.eclipse.papyrus.web.application.representations.aqlservices.utils.ViewHelper;
+import org.eclipse.papyrus.web.sirius.contributions.IDiagramNavigationService;
 import org.eclipse.papyrus.web.sirius.contributions.IDiagramOperationsService;
 import org.eclipse.papyrus.web.sirius.contributions.IViewDiagramDescriptionService;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
@@ -41,16 +42,19 @@ public class WebDiagramElementCreator {
 
     private final IViewDiagramDescriptionService viewDiagramNavigationService;
 
+    private final IDiagramNavigationService diagramNavigationService;
+
     private final IDiagramOperationsService diagramOperationsService;
 
     private final ICreator elementCreator;
 
-    public WebDiagramElementCreator(ICreator elementCreator, IObjectService objectService, IViewDiagramDescriptionService diagramNavigationService,
-            IDiagramOperationsService diagramOperationsService) {
+    public WebDiagramElementCreator(ICreator elementCreator, IObjectService objectService, IViewDiagramDescriptionService viewDiagramNavigationService,
+            IDiagramNavigationService diagramNavigationService, IDiagramOperationsService diagramOperationsService) {
         super();
         this.elementCreator = Objects.requireNonNull(elementCreator);
         this.objectService = Objects.requireNonNull(objectService);
-        this.viewDiagramNavigationService = Objects.requireNonNull(diagramNavigationService);
+        this.viewDiagramNavigationService = Objects.requireNonNull(viewDiagramNavigationService);
+        this.diagramNavigationService = Objects.requireNonNull(diagramNavigationService);
         this.diagramOperationsService = Objects.requireNonNull(diagramOperationsService);
     }
 
@@ -66,7 +70,8 @@ public class WebDiagramElementCreator {
         if (status.getState() == State.DONE) {
             EObject semanticElement = status.getElement();
             if (semanticElement != null) {
-                IViewHelper createViewHelper = ViewHelper.create(this.objectService, this.viewDiagramNavigationService, this.diagramOperationsService, diagramContext, capturedNodeDescriptions);
+                IViewHelper createViewHelper = ViewHelper.create(this.objectService, this.viewDiagramNavigationService, this.diagramNavigationService, this.diagramOperationsService, diagramContext,
+                        capturedNodeDescriptions);
                 if (targetView == null) {
                     createViewHelper.createRootView(semanticElement);
                 } else {
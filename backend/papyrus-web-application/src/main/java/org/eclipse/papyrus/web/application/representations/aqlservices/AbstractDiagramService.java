@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2022, 2024 CEA LIST, Obeo.
+ * Copyright (c) 2022, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,9 @@ import static java.util.stream.Collectors.toSet;
 
 import java.text.MessageFormat;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -84,6 +87,7 @@ import org.eclipse.papyrus.web.application.representations.aqlservices.utils.Gen
 import org.eclipse.papyrus.web.application.representations.aqlservices.utils.IViewHelper;
 import org.eclipse.papyrus.web.application.representations.aqlservices.utils.ViewHelper;
 import org.eclipse.papyrus.web.application.representations.aqlservices.utils.WebRepresentationQuerier;
+import org.eclipse.papyrus.web.application.uml.ElementLabelCache;
 import org.eclipse.papyrus.web.sirius.contributions.AqlServiceClass;
 import org.eclipse.papyrus.web.sirius.contributions.DiagramElementHelper;
 import org.eclipse.papyrus.web.sirius.contributions.DiagramNavigator;
@@ -98,6 +102,7 @@ import org.eclipse.sirius.components.core.api.IObjectService;
 import org.eclipse.sirius.components.diagrams.Diagram;
 import org.eclipse.sirius.components.diagrams.Edge;
 import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.ViewCreationRequest;
 import org.eclipse.sirius.components.diagrams.description.NodeDescription;
 import org.eclipse.sirius.components.diagrams.elements.NodeElementProps;
 import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
@@ -376,13 +381,119 @@ public abstract class AbstractDiagramService {
      */
     public EObject semanticDrop(EObject droppedElement, Node targetView, IEditingContext editionContext, IDiagramContext diagramContext,
             Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> capturedNodeDescriptions) {
-        this.buildSemanticDropBehaviorProvider(droppedElement, editionContext, diagramContext, capturedNodeDescriptions).handleSemanticDrop(droppedElement, targetView);
+        IViewHelper viewHelper = ViewHelper.create(this.getObjectService(), this.viewDiagramService, this.diagramNavigationService, this.getDiagramOperationsService(),
+                diagramContext, capturedNodeDescriptions);
+        this.buildSemanticDropBehaviorProvider(droppedElement, editionContext, diagramContext, capturedNodeDescriptions, viewHelper).handleSemanticDrop(droppedElement, targetView);
         return droppedElement;
     }
 
+    /**
+     * Drops several elements at once.
+     *
+     * <p>
+     * All the elements are dropped with the same drop behavior, so the diagram is only indexed once, and all the view
+     * creation requests are handled by the next refresh of the diagram. The containers are dropped before their
+     * contents, and an element contained by another dropped element is dropped in the view requested for its
+     * container when the diagram description allows it, on the target view otherwise.
+     * </p>
+     *
+     * @param droppedElements
+     *            the dropped elements
+     * @param targetView
+     *            the view on which the elements are dropped (<code>null</code> if dropped on the diagram)
+     * @param editionContext
+     *            the {@link IEditingContext}
+     * @param diagramContext
+     *            the {@link IDiagramContext}
+     * @param capturedNodeDescriptions
+     *            a map of all converted node descriptions of the current diagram description (
+     *            {@link org.eclipse.sirius.components.view.NodeDescription} -> {@link NodeDescription})
+     * @return the dropped elements
+     */
+    public List<? extends EObject> semanticDropAll(List<? extends EObject> droppedElements, Node targetView, IEditingContext editionContext, IDiagramContext diagramContext,
+            Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> capturedNodeDescriptions) {
+        if (!droppedElements.isEmpty()) {
+            // The same view helper is used to drop the elements and to find the views requested for the containers
+            IViewHelper viewHelper = ViewHelper.create(this.getObjectService(), this.viewDiagramService, this.diagramNavigationService, this.getDiagramOperationsService(),
+                    diagramContext, capturedNodeDescriptions);
+            IWebExternalSourceToRepresentationDropBehaviorProvider dropBehaviorProvider = this.buildSemanticDropBehaviorProvider(droppedElements.get(0), editionContext, diagramContext,
+                    capturedNodeDescriptions, viewHelper);
+
+            Set<EObject> droppedElementSet = new HashSet<>(droppedElements);
+            Set<EObject> containers = new HashSet<>();
+            for (EObject droppedElement : droppedElements) {
+                this.getDroppedContainer(droppedElement, droppedElementSet).ifPresent(containers::add);
+            }
+            Map<EObject, Node> requestedViews = new HashMap<>();
+            List<? extends EObject> sortedElements = droppedElements.stream()
+                    .sorted(Comparator.comparingInt(this::getContainmentDepth))
+                    .toList();
+            for (EObject droppedElement : sortedElements) {
+                Node parentView = this.getDroppedContainer(droppedElement, droppedElementSet)
+                        .map(requestedViews::get)
+                        .filter(containerView -> !viewHelper.createFakeNodes(droppedElement, containerView).isEmpty())
+                        .orElse(targetView);
+
+                int requestCount = diagramContext.getViewCreationRequests().size();
+                dropBehaviorProvider.handleSemanticDrop(droppedElement, parentView);
+                if (containers.contains(droppedElement)) {
+                    this.getRequestedView(droppedElement, parentView, requestCount, diagramContext, viewHelper).ifPresent(view -> requestedViews.put(droppedElement, view));
+                }
+            }
+        }
+        return droppedElements;
+    }
+
+    private Optional<EObject> getDroppedContainer(EObject droppedElement, Set<EObject> droppedElements) {
+        EObject container = droppedElement.eContainer();
+        while (container != null && !droppedElements.contains(container)) {
+            container = container.eContainer();
+        }
+        return Optional.ofNullable(container);
+    }
+
+    private int getContainmentDepth(EObject element) {
+        int depth = 0;
+        EObject container = element.eContainer();
+        while (container != null) {
+            depth++;
+            container = container.eContainer();
+        }
+        return depth;
+    }
+
+    /**
+     * Gets the node which will be created for the view of the given element requested since the given number of view
+     * creation requests.
+     */
+    private Optional<Node> getRequestedView(EObject droppedElement, Node parentView, int requestCount, IDiagramContext diagramContext, IViewHelper viewHelper) {
+        String targetObjectId = this.getObjectService().getId(droppedElement);
+        List<ViewCreationRequest> viewCreationRequests = diagramContext.getViewCreationRequests();
+        return viewCreationRequests.subList(requestCount, viewCreationRequests.size()).stream()
+                .filter(request -> Objects.equals(targetObjectId, request.getTargetObjectId()))
+                .findFirst()
+                .flatMap(request -> viewHelper.createFakeNodes(droppedElement, parentView).stream()
+                        .filter(node -> node.getDescriptionId().equals(request.getDescriptionId()))
+                        .findFirst());
+    }
+
+    /**
+     * Builds the behavior of a semantic drop.
+     *
+     * @param droppedElement
+     *            the dropped element
+     * @param editionContext
+     *            the {@link IEditingContext}
+     * @param diagramContext
+     *            the {@link IDiagramContext}
+     * @param capturedNodeDescriptions
+     *            a map of all converted node descriptions of the current diagram description
+     * @param createViewHelper
+     *            the view helper used to create the views of the dropped elements
+     * @return the drop behavior
+     */
     protected IWebExternalSourceToRepresentationDropBehaviorProvider buildSemanticDropBehaviorProvider(EObject droppedElement, IEditingContext editionContext, IDiagramContext diagramContext,
-            Map<org.eclipse.sirius.components.view.diagram.NodeDescription, org.eclipse.sirius.components.diagrams.description.NodeDescription> capturedNodeDescriptions) {
-        IViewHelper createViewHelper = ViewHelper.create(this.getObjectService(), this.viewDiagramService, this.getDiagramOperationsService(), diagramContext, capturedNodeDescriptions);
+            Map<org.eclipse.sirius.components.view.diagram.NodeDescription, org.eclipse.sirius.components.diagrams.description.NodeDescription> capturedNodeDescriptions, IViewHelper createViewHelper) {
         return new GenericWebExternalDropBehaviorProvider(createViewHelper, new DiagramNavigator(this.diagramNavigationService, diagramContext.getDiagram(), capturedNodeDescriptions), this.logger);
     }
 
@@ -394,7 +505,8 @@ public abstract class AbstractDiagramService {
 
     protected IWebInternalSourceToRepresentationDropBehaviorProvider buildGraphicalDropBehaviorProvider(EObject semanticDroppedElement, IEditingContext editionContext, IDiagramContext diagramContext,
             Map<org.eclipse.sirius.components.view.diagram.NodeDescription, org.eclipse.sirius.components.diagrams.description.NodeDescription> capturedNodeDescriptions) {
-        IViewHelper createViewHelper = ViewHelper.create(this.getObjectService(), this.viewDiagramService, this.getDiagramOperationsService(), diagramContext, capturedNodeDescriptions);
+        IViewHelper createViewHelper = ViewHelper.create(this.getObjectService(), this.viewDiagramService, this.diagramNavigationService, this.getDiagramOperationsService(),
+                diagramContext, capturedNodeDescriptions);
         return new GenericWebInternalDropBehaviorProvider(createViewHelper, new DiagramNavigator(this.diagramNavigationService, diagramContext.getDiagram(), capturedNodeDescriptions), this.logger);
     }
 
@@ -448,7 +560,7 @@ public abstract class AbstractDiagramService {
      * @return a label
      */
     public String renderLabel(EObject semanticObject) {
-        return this.buildLabelRenderer().getLabel(semanticObject);
+        return ElementLabelCache.getLabel(semanticObject, new RenderedLabel(this.getClass()), element -> this.buildLabelRenderer().getLabel(element));
     }
 
     /**
@@ -463,6 +575,11 @@ public abstract class AbstractDiagramService {
      * @return a label
      */
     public String renderSimpleOneLineLabel(EObject semanticObject, boolean displayKeyword, boolean displayStereotypes) {
+        return ElementLabelCache.getLabel(semanticObject, new SimpleOneLineLabel(displayKeyword, displayStereotypes),
+                element -> this.computeSimpleOneLineLabel(element, displayKeyword, displayStereotypes));
+    }
+
+    private String computeSimpleOneLineLabel(EObject semanticObject, boolean displayKeyword, boolean displayStereotypes) {
         Builder builder = ElementLabelProvider.builder()//
                 .withNameProvider(new DefaultNamedElementNameProvider());
 
@@ -603,7 +720,8 @@ public abstract class AbstractDiagramService {
                 result = null;
             } else {
 
-                WebDiagramElementCreator elementCreator = new WebDiagramElementCreator(this.buildElementCreator(parent), this.objectService, this.viewDiagramService, this.diagramOperationsService);
+                WebDiagramElementCreator elementCreator = new WebDiagramElementCreator(this.buildElementCreator(parent), this.objectService, this.viewDiagramService, this.diagramNavigationService,
+                        this.diagramOperationsService);
                 CreationStatus status = elementCreator.handleCreation(parent, type, referenceName, targetView, diagramContext, capturedNodeDescriptions);
                 result = status.getElement();
 
@@ -993,4 +1111,28 @@ public abstract class AbstractDiagramService {
         return diagramContext.getDiagram().getNodes();
     }
 
+    /**
+     * Kind of the labels rendered by {@link AbstractDiagramService#renderLabel(EObject)}, which depend on the label
+     * renderer of the service.
+     *
+     * @param serviceClass
+     *            the class of the diagram service
+     * @author Arthur Daussy
+     */
+    private record RenderedLabel(Class<?> serviceClass) {
+    }
+
+    /**
+     * Kind of the labels rendered by
+     * {@link AbstractDiagramService#renderSimpleOneLineLabel(EObject, boolean, boolean)}.
+     *
+     * @param displayKeyword
+     *            if the keyword is displayed
+     * @param displayStereotypes
+     *            if the applied stereotypes are displayed
+     * @author Arthur Daussy
+     */
+    private record SimpleOneLineLabel(boolean displayKeyword, boolean displayStereotypes) {
+    }
+
 }
@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2024 CEA LIST, Obeo.
+ * Copyright (c) 2024, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -100,7 +100,7 @@ public class ActivityGraphicalDropBehaviorProvider implements IWebInternalSource
         Optional<Node> optionalTargetNode = Optional.ofNullable(targetNode);
 
         Optional<EObject> optionalOldContainer = this.diagramNavigator.getParentNode(droppedNode)
-                .map(node -> (EObject) this.objectService.getObject(this.editionContext, node.getTargetObjectId()).orElse(null));
+                .map(node -> (EObject) this.diagramNavigator.getSemanticElement(this.objectService, this.editionContext, node.getTargetObjectId()).orElse(null));
         Optional<EObject> optionalNewContainer = Optional.ofNullable(targetElement);
         new GraphicalDropSwitch(optionalTargetNode, optionalOldContainer, optionalNewContainer, this.viewHelper, this.diagramNavigator, droppedNode, this.logger) //
                 .withDropChecker(new ActivityInternalSourceToRepresentationDropChecker()) //
@@ -108,11 +108,12 @@ public class ActivityGraphicalDropBehaviorProvider implements IWebInternalSource
                 .withCrossRef(this.crossRef) //
                 .withEditableChecker(this.editableChecker) //
                 .withEObjectResolver(this::getSemanticObject) //
+                .withObjectService(this.objectService) //
                 .doSwitch(droppedElement);
     }
 
     private Object getSemanticObject(String id) {
-        return this.objectService.getObject(this.editionContext, id).orElse(null);
+        return this.diagramNavigator.getSemanticElement(this.objectService, this.editionContext, id).orElse(null);
     }
 
 }
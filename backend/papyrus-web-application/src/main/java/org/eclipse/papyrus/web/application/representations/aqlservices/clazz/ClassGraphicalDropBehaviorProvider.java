@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2024 CEA LIST, Obeo, Artal Technologies.
+ * Copyright (c) 2024, 2026 CEA LIST, Obeo, Artal Technologies.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -111,11 +111,12 @@ public class ClassGraphicalDropBehaviorProvider implements IWebInternalSourceToR
                 .withCrossRef(this.crossRef) //
                 .withEditableChecker(this.editableChecker) //
                 .withEObjectResolver(this::getSemanticObject) //
+                .withObjectService(this.objectService) //
                 .doSwitch(droppedElement);
     }
 
     private Object getSemanticObject(String id) {
-        return this.objectService.getObject(this.editionContext, id).orElse(null);
+        return this.diagramNavigator.getSemanticElement(this.objectService, this.editionContext, id).orElse(null);
     }
 
 }
@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2022, 2024 CEA LIST, Obeo.
+ * Copyright (c) 2022, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -99,10 +99,11 @@ public class ClassSemanticDropBehaviorProvider implements IWebExternalSourceToRe
                 .withCrossRef(this.crossRef) //
                 .withEditableChecker(this.editableChecker) //
                 .withEObjectResolver(this::getSemanticObject) //
+                .withObjectService(this.objectService) //
                 .doSwitch(droppedElement);
     }
 
     private Object getSemanticObject(String id) {
-        return this.objectService.getObject(this.editionContext, id).orElse(null);
+        return this.diagramNavigator.getSemanticElement(this.objectService, this.editionContext, id).orElse(null);
     }
 }
@@ -0,0 +1,398 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.representations.aqlservices.scope;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.papyrus.web.application.readonly.ReadOnlyResourceRegistry;
+
+/**
+ * Index of all the elements of a {@link ResourceSet} by {@link EClass}, including the stereotype applications.
+ *
+ * <p>
+ * The index is installed on the resource set the first time it is needed. It then follows the elements added to and
+ * removed from the resource set, so looking for the instances of a type no longer requires to walk the whole model.
+ * The elements of the read only resources, the pathmap libraries and profiles, are indexed once when their resource is
+ * loaded: only their resource is adapted since their elements never change.
+ * </p>
+ * <p>
+ * The instances are indexed by resource and returned in containment order, the order of the resources in the resource
+ * set and then the order of a depth first walk of each resource, as when walking the model. The order of a read only
+ * resource is known once it has been indexed. The order of another resource is computed again by a walk of this
+ * resource only, the first time it is needed after one of its elements has been added, removed or moved: an edit never
+ * leads to walk the other resources, and a resource which is not reachable from the queries is never walked.
+ * </p>
+ * <p>
+ * Queries based on the indexed instances can also be memoized until an element is added to or removed from the
+ * resource set, which is used to share their result between all the descriptions of a diagram refresh.
+ * </p>
+ * <p>
+ * The resource set of an editing context is only modified by the thread processing the events of this editing
+ * context, which is also the one calling the AQL services. The index is synchronized anyway so that a query never sees
+ * an index being updated.
+ * </p>
+ *
+ * @author Jerome Gout
+ */
+public final class EClassInstanceIndex extends EContentAdapter {
+
+    private final ResourceSet resourceSet;
+
+    private final Map<Resource, ResourceInstances> instancesByResource = new IdentityHashMap<>();
+
+    private final Set<EClass> indexedEClasses = new HashSet<>();
+
+    /**
+     * Concrete EClasses compatible with a type, computed again each time an instance of a new EClass is indexed.
+     */
+    private final Map<EClass, List<EClass>> compatibleEClasses = new HashMap<>();
+
+    private final Map<Object, List<? extends EObject>> memoizedQueries = new HashMap<>();
+
+    private EClassInstanceIndex(ResourceSet resourceSet) {
+        super();
+        this.resourceSet = resourceSet;
+    }
+
+    /**
+     * Gets the index of the given resource set, installing it if needed.
+     *
+     * @param resourceSet
+     *            a resource set
+     * @return the index of the resource set
+     */
+    public static synchronized EClassInstanceIndex getOrInstall(ResourceSet resourceSet) {
+        for (var adapter : resourceSet.eAdapters()) {
+            if (adapter instanceof EClassInstanceIndex eClassInstanceIndex) {
+                return eClassInstanceIndex;
+            }
+        }
+        EClassInstanceIndex eClassInstanceIndex = new EClassInstanceIndex(resourceSet);
+        resourceSet.eAdapters().add(eClassInstanceIndex);
+        return eClassInstanceIndex;
+    }
+
+    /**
+     * Gets all the indexed instances of the given type or of one of its sub types, in containment order.
+     *
+     * @param type
+     *            a type
+     * @return the instances of the type
+     */
+    public synchronized Stream<EObject> getInstances(EClass type) {
+        List<EObject> instances = new ArrayList<>();
+        for (Resource resource : List.copyOf(this.resourceSet.getResources())) {
+            instances.addAll(this.getInstances(type, resource));
+        }
+        return instances.stream();
+    }
+
+    /**
+     * Gets the indexed instances of the given type or of one of its sub types contained by the given resource, in
+     * containment order.
+     *
+     * @param type
+     *            a type
+     * @param resource
+     *            a resource of the resource set
+     * @return the instances of the type in the resource
+     */
+    public synchronized List<EObject> getInstances(EClass type, Resource resource) {
+        List<EObject> instances = List.of();
+        ResourceInstances resourceInstances = this.instancesByResource.get(resource);
+        if (resourceInstances != null) {
+            instances = resourceInstances.getInstances(type, this.compatibleEClasses.computeIfAbsent(type, this::computeCompatibleEClasses), resource);
+        }
+        return instances;
+    }
+
+    /**
+     * Gets the position of the given element in the containment order of its resource.
+     *
+     * @param element
+     *            an element
+     * @return the position of the element, {@link Integer#MAX_VALUE} if it is not in the resource set
+     */
+    public synchronized int getTreeOrder(EObject element) {
+        int position = Integer.MAX_VALUE;
+        Resource resource = element.eResource();
+        ResourceInstances resourceInstances = this.instancesByResource.get(resource);
+        if (resourceInstances != null) {
+            position = resourceInstances.getPosition(element, resource);
+        }
+        return position;
+    }
+
+    /**
+     * Gets the result of the given query, computing it only if an element has been added to or removed from the
+     * resource set since it has been computed.
+     *
+     * @param key
+     *            the key of the query, with a value based equality
+     * @param query
+     *            the query, which result only depends on the elements of the resource set
+     * @return the result of the query
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T extends EObject> List<T> memoize(Object key, Supplier<List<T>> query) {
+        List<T> result = (List<T>) this.memoizedQueries.get(key);
+        if (result == null) {
+            result = List.copyOf(query.get());
+            this.memoizedQueries.put(key, result);
+        }
+        return result;
+    }
+
+    private List<EClass> computeCompatibleEClasses(EClass type) {
+        List<EClass> eClasses = new ArrayList<>();
+        for (EClass eClass : this.indexedEClasses) {
+            if (type == eClass || type.isSuperTypeOf(eClass)) {
+                eClasses.add(eClass);
+            }
+        }
+        return eClasses;
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == EClassInstanceIndex.class;
+    }
+
+    @Override
+    protected boolean resolve() {
+        // Never load a resource only to index it
+        return false;
+    }
+
+    @Override
+    protected void selfAdapt(Notification notification) {
+        if (notification.getNotifier() instanceof Resource resource && ReadOnlyResourceRegistry.isPathmapResource(resource)) {
+            // The resource is indexed again once it has been loaded, not each time a root is added while loading
+            int featureID = notification.getFeatureID(Resource.class);
+            boolean isLoading = resource instanceof Resource.Internal internalResource && internalResource.isLoading();
+            if ((featureID == Resource.RESOURCE__CONTENTS && !isLoading) || featureID == Resource.RESOURCE__IS_LOADED) {
+                synchronized (this) {
+                    this.unindexReadOnlyResource(resource);
+                    this.indexReadOnlyResource(resource);
+                }
+            }
+        } else {
+            super.selfAdapt(notification);
+            if (this.isContainmentChange(notification)) {
+                // Moving an element does not index it again but changes its position in its resource
+                synchronized (this) {
+                    this.memoizedQueries.clear();
+                    this.getChangedResource(notification).ifPresent(ResourceInstances::clearOrder);
+                }
+            }
+        }
+    }
+
+    private boolean isContainmentChange(Notification notification) {
+        boolean isContainmentChange;
+        if (notification.getNotifier() instanceof ResourceSet) {
+            isContainmentChange = notification.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES;
+        } else if (notification.getNotifier() instanceof Resource) {
+            isContainmentChange = notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS;
+        } else {
+            isContainmentChange = notification.getFeature() instanceof EReference reference && reference.isContainment();
+        }
+        return isContainmentChange && !notification.isTouch();
+    }
+
+    private Optional<ResourceInstances> getChangedResource(Notification notification) {
+        Resource resource = null;
+        if (notification.getNotifier() instanceof Resource notifierResource) {
+            resource = notifierResource;
+        } else if (notification.getNotifier() instanceof EObject container) {
+            resource = container.eResource();
+        }
+        return Optional.ofNullable(this.instancesByResource.get(resource));
+    }
+
+    @Override
+    protected void setTarget(Resource target) {
+        if (ReadOnlyResourceRegistry.isPathmapResource(target)) {
+            this.basicSetTarget(target);
+            synchronized (this) {
+                this.indexReadOnlyResource(target);
+            }
+        } else {
+            super.setTarget(target);
+        }
+    }
+
+    @Override
+    protected void unsetTarget(Resource target) {
+        if (ReadOnlyResourceRegistry.isPathmapResource(target)) {
+            this.basicUnsetTarget(target);
+            synchronized (this) {
+                this.unindexReadOnlyResource(target);
+            }
+        } else {
+            synchronized (this) {
+                this.instancesByResource.remove(target);
+                this.memoizedQueries.clear();
+            }
+            super.unsetTarget(target);
+        }
+    }
+
+    @Override
+    protected synchronized void setTarget(EObject target) {
+        super.setTarget(target);
+        this.index(target);
+    }
+
+    @Override
+    protected synchronized void unsetTarget(EObject target) {
+        super.unsetTarget(target);
+        this.unindex(target);
+    }
+
+    private void indexReadOnlyResource(Resource resource) {
+        // The elements of a read only resource never move, their order is the one of this walk
+        ResourceInstances resourceInstances = new ResourceInstances(new IdentityHashMap<>());
+        TreeIterator<EObject> iterator = EcoreUtil.getAllProperContents(resource, false);
+        while (iterator.hasNext()) {
+            EObject element = iterator.next();
+            this.indexEClass(element.eClass());
+            resourceInstances.add(element);
+            resourceInstances.positions.put(element, resourceInstances.positions.size());
+        }
+        this.instancesByResource.put(resource, resourceInstances);
+        this.memoizedQueries.clear();
+    }
+
+    private void unindexReadOnlyResource(Resource resource) {
+        if (this.instancesByResource.remove(resource) != null) {
+            this.memoizedQueries.clear();
+        }
+    }
+
+    private void index(EObject element) {
+        Resource resource = element.eResource();
+        if (resource != null) {
+            this.indexEClass(element.eClass());
+            ResourceInstances resourceInstances = this.instancesByResource.computeIfAbsent(resource, r -> new ResourceInstances(null));
+            resourceInstances.add(element);
+            resourceInstances.clearOrder();
+        }
+        this.memoizedQueries.clear();
+    }
+
+    private void unindex(EObject element) {
+        // The element has already been removed from its resource
+        for (ResourceInstances resourceInstances : this.instancesByResource.values()) {
+            if (resourceInstances.remove(element)) {
+                resourceInstances.clearOrder();
+            }
+        }
+        this.memoizedQueries.clear();
+    }
+
+    private void indexEClass(EClass eClass) {
+        if (this.indexedEClasses.add(eClass)) {
+            this.compatibleEClasses.clear();
+        }
+    }
+
+    /**
+     * The instances of a resource, by EClass, with their order computed when needed.
+     *
+     * @author Jerome Gout
+     */
+    private static final class ResourceInstances {
+
+        private final Map<EClass, Set<EObject>> instancesByEClass = new HashMap<>();
+
+        /**
+         * Instances of each queried type, in containment order, kept until the order of the resource changes.
+         */
+        private final Map<EClass, List<EObject>> orderedInstances = new HashMap<>();
+
+        private final boolean isFrozen;
+
+        /**
+         * Position of each element of the resource in containment order, <code>null</code> until it is needed.
+         */
+        private Map<EObject, Integer> positions;
+
+        ResourceInstances(Map<EObject, Integer> positions) {
+            this.positions = positions;
+            this.isFrozen = positions != null;
+        }
+
+        void add(EObject element) {
+            this.instancesByEClass.computeIfAbsent(element.eClass(), eClass -> new LinkedHashSet<>()).add(element);
+        }
+
+        boolean remove(EObject element) {
+            Set<EObject> instances = this.instancesByEClass.get(element.eClass());
+            return instances != null && instances.remove(element);
+        }
+
+        void clearOrder() {
+            if (!this.isFrozen) {
+                this.positions = null;
+            }
+            this.orderedInstances.clear();
+        }
+
+        List<EObject> getInstances(EClass type, List<EClass> compatibleEClasses, Resource resource) {
+            List<EObject> instances = this.orderedInstances.get(type);
+            if (instances == null) {
+                List<EObject> unorderedInstances = new ArrayList<>();
+                for (EClass eClass : compatibleEClasses) {
+                    unorderedInstances.addAll(this.instancesByEClass.getOrDefault(eClass, Set.of()));
+                }
+                unorderedInstances.sort(Comparator.comparingInt(element -> this.getPosition(element, resource)));
+                instances = List.copyOf(unorderedInstances);
+                this.orderedInstances.put(type, instances);
+            }
+            return instances;
+        }
+
+        int getPosition(EObject element, Resource resource) {
+            if (this.positions == null) {
+                this.positions = new IdentityHashMap<>();
+                TreeIterator<EObject> iterator = EcoreUtil.getAllProperContents(resource, false);
+                while (iterator.hasNext()) {
+                    this.positions.putIfAbsent(iterator.next(), this.positions.size());
+                }
+            }
+            return this.positions.getOrDefault(element, Integer.MAX_VALUE);
+        }
+    }
+}
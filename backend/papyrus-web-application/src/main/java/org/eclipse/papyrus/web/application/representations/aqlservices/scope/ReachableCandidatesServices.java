@@ -0,0 +1,138 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.representations.aqlservices.scope;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.papyrus.uml.domain.services.EMFUtils;
+import org.eclipse.uml2.uml.UMLPackage;
+
+/**
+ * Services used to compute the semantic candidates of the diagram descriptions.
+ *
+ * <p>
+ * All the descriptions of a diagram looking for the same type share the same result, which is computed once from the
+ * {@link EClassInstanceIndex} of the resource set and kept until an element is added, removed or moved. The candidates
+ * are in the order of the former <code>getAllReachable</code> service: by reachable root and then in containment
+ * order.
+ * </p>
+ *
+ * @author Jerome Gout
+ */
+public class ReachableCandidatesServices {
+
+    /**
+     * Gets all the reachable elements of the given type or of one of its sub types.
+     *
+     * @param self
+     *            the semantic element of the diagram
+     * @param typeName
+     *            the name of a UML EClass
+     * @return the reachable instances of the type
+     */
+    public List<EObject> getAllReachableCandidates(EObject self, String typeName) {
+        return this.getAllReachableCandidates(self, typeName, true);
+    }
+
+    /**
+     * Gets all the reachable elements of the given type.
+     *
+     * @param self
+     *            the semantic element of the diagram
+     * @param typeName
+     *            the name of a UML EClass
+     * @param withSubTypes
+     *            <code>false</code> to ignore the instances of the sub types
+     * @return the reachable instances of the type
+     */
+    public List<EObject> getAllReachableCandidates(EObject self, String typeName, boolean withSubTypes) {
+        if (self == null || !(UMLPackage.eINSTANCE.getEClassifier(typeName) instanceof EClass type)) {
+            return List.of();
+        }
+        List<Notifier> roots = ReachableRoots.getReachableRoots(self);
+        ResourceSet resourceSet = null;
+        if (self.eResource() != null) {
+            resourceSet = self.eResource().getResourceSet();
+        }
+
+        List<EObject> candidates;
+        if (resourceSet != null) {
+            EClassInstanceIndex index = EClassInstanceIndex.getOrInstall(resourceSet);
+            ResourceSet indexedResourceSet = resourceSet;
+            candidates = index.memoize(new CandidatesKey(roots.stream().map(RootReference::new).toList(), type, withSubTypes),
+                    () -> this.findCandidates(index, indexedResourceSet, roots, type, withSubTypes));
+        } else {
+            candidates = roots.stream()
+                    .flatMap(root -> EMFUtils.allContainedObjectOfType(root, EObject.class))
+                    .filter(candidate -> this.isCompatible(candidate, type, withSubTypes))
+                    .toList();
+        }
+        return candidates;
+    }
+
+    private List<EObject> findCandidates(EClassInstanceIndex index, ResourceSet resourceSet, List<Notifier> roots, EClass type, boolean withSubTypes) {
+        return new ReachableRoots(roots).getInstances(index, resourceSet, type)
+                .filter(candidate -> this.isCompatible(candidate, type, withSubTypes))
+                .toList();
+    }
+
+    private boolean isCompatible(EObject candidate, EClass type, boolean withSubTypes) {
+        return candidate.eClass() == type || (withSubTypes && type.isSuperTypeOf(candidate.eClass()));
+    }
+
+    /**
+     * The key of a semantic candidates query, it does not keep the reachable roots alive.
+     *
+     * @param roots
+     *            the references to the reachable roots
+     * @param type
+     *            the searched type
+     * @param withSubTypes
+     *            <code>false</code> if the instances of the sub types are ignored
+     * @author Jerome Gout
+     */
+    private record CandidatesKey(List<RootReference> roots, EClass type, boolean withSubTypes) {
+    }
+
+    /**
+     * A weak reference to a reachable root, equal to the other references to the same root.
+     *
+     * @author Jerome Gout
+     */
+    private static final class RootReference extends WeakReference<Notifier> {
+
+        private final int hashCode;
+
+        RootReference(Notifier root) {
+            super(root);
+            this.hashCode = System.identityHashCode(root);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            Notifier root = this.get();
+            return obj instanceof RootReference other && root != null && root == other.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2023 CEA LIST, Obeo.
+ * Copyright (c) 2023, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,20 +15,29 @@ package org.eclipse.papyrus.web.application.representations.aqlservices.scope;
 
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.eclipse.emf.common.notify.Notifier;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.papyrus.uml.domain.services.EMFUtils;
 import org.eclipse.papyrus.uml.domain.services.profile.StereotypeUtil;
-import org.eclipse.papyrus.uml.domain.services.scope.ElementRootCandidateSeachProvider;
+import org.eclipse.papyrus.web.application.pathmap.SharedPathmapResourceMap;
 import org.eclipse.uml2.uml.Element;
 import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.UMLPackage;
 
 /**
  * Services used to retrieve reachable elements.
  *
+ * <p>
+ * The elements of a resource set are looked up in its {@link EClassInstanceIndex} instead of walking all the reachable
+ * elements, elements outside of a resource set, or in the shared pathmap resources, are still found by walking their
+ * roots. The elements are returned in the order of the walk: by reachable root and then in containment order.
+ * </p>
+ *
  * @author Jerome Gout
  */
 
@@ -61,7 +70,14 @@ public class ReachableElementsServices {
     public <T extends EObject> List<T> getAllReachableElements(EObject self, EClass typeClass) {
         @SuppressWarnings("unchecked")
         Class<T> type = (Class<T>) typeClass.getInstanceClass();
-        List<Notifier> roots = new ElementRootCandidateSeachProvider().getReachableRoots(self);
+        List<Notifier> roots = ReachableRoots.getReachableRoots(self);
+        ResourceSet resourceSet = this.getResourceSet(self);
+        if (resourceSet != null) {
+            return new ReachableRoots(roots).getInstances(EClassInstanceIndex.getOrInstall(resourceSet), resourceSet, typeClass)
+                    .filter(type::isInstance)
+                    .map(type::cast)
+                    .toList();
+        }
         return roots.stream().flatMap(r -> EMFUtils.allContainedObjectOfType(r, type)).toList();
     }
 
@@ -74,7 +90,7 @@ public class ReachableElementsServices {
      * @return the list of root elements
      */
     public List<Notifier> getAllReachableRootElements(EObject self) {
-        return new ElementRootCandidateSeachProvider().getReachableRoots(self);
+        return ReachableRoots.getReachableRoots(self);
     }
 
     /**
@@ -104,7 +120,23 @@ public class ReachableElementsServices {
             // Used for dynamic profile (profile with no generated java code)
             filter = e -> typeClass.isSuperTypeOf(e.eClass());
         }
-        List<Notifier> roots = new ElementRootCandidateSeachProvider().getReachableRoots(self);
+        List<Notifier> roots = ReachableRoots.getReachableRoots(self);
+        ResourceSet resourceSet = this.getResourceSet(self);
+        if (resourceSet != null) {
+            ReachableRoots reachableRoots = new ReachableRoots(roots);
+            EClassInstanceIndex index = EClassInstanceIndex.getOrInstall(resourceSet);
+            Stream<EObject> indexedApplications = index.getInstances(typeClass)
+                    .filter(stereotypeApplication -> {
+                        Element baseElement = StereotypeUtil.getBaseElement(stereotypeApplication);
+                        return baseElement != null && reachableRoots.isReachable(baseElement);
+                    });
+            // The stereotype applications of the roots outside of the resource set are walked in order
+            Stream<EObject> outsideApplications = reachableRoots.getRootsOutside(resourceSet)
+                    .flatMap(r -> EMFUtils.allContainedObjectOfType(r, Element.class))
+                    .flatMap(e -> e.getStereotypeApplications().stream());
+            // Sorted as their base elements, the stereotype applications of a same element keep their order
+            return reachableRoots.sortInWalkOrder(index, resourceSet, Stream.concat(indexedApplications, outsideApplications).filter(filter), StereotypeUtil::getBaseElement);
+        }
         return roots.stream().flatMap(r -> EMFUtils.allContainedObjectOfType(r, Element.class))//
                 .flatMap(e -> e.getStereotypeApplications().stream())//
                 .filter(filter)//
@@ -119,7 +151,9 @@ public class ReachableElementsServices {
      * @return the list of root {@link Package} elements.
      */
     public List<Package> getAllRootPackages(EObject self) {
-        return self.eResource().getResourceSet().getResources().stream()//
+        ResourceSet resourceSet = self.eResource().getResourceSet();
+        // The shared pathmap resources used by the resource set are not part of its resources
+        return Stream.concat(resourceSet.getResources().stream(), SharedPathmapResourceMap.getSharedResources(resourceSet).stream())//
                 .flatMap(r -> r.getContents().stream())//
                 .filter(Package.class::isInstance)//
                 .map(Package.class::cast)//
@@ -135,7 +169,22 @@ public class ReachableElementsServices {
      */
     public List<Package> getAllUMLPackages(EObject self) {
         var roots = this.getAllRootPackages(self);
+        ResourceSet resourceSet = this.getResourceSet(self);
+        if (resourceSet != null) {
+            return new ReachableRoots(roots).getInstances(EClassInstanceIndex.getOrInstall(resourceSet), resourceSet, UMLPackage.eINSTANCE.getPackage())
+                    .filter(Package.class::isInstance)
+                    .map(Package.class::cast)
+                    .toList();
+        }
         return roots.stream().flatMap(e -> EMFUtils.allContainedObjectOfType(e, Package.class)).toList();
     }
 
+    private ResourceSet getResourceSet(EObject self) {
+        ResourceSet resourceSet = null;
+        if (self.eResource() != null) {
+            resourceSet = self.eResource().getResourceSet();
+        }
+        return resourceSet;
+    }
+
 }
@@ -0,0 +1,242 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.representations.aqlservices.scope;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.papyrus.uml.domain.services.EMFUtils;
+import org.eclipse.papyrus.uml.domain.services.scope.ElementRootCandidateSeachProvider;
+import org.eclipse.papyrus.web.application.pathmap.SharedPathmapResourceMap;
+
+/**
+ * The reachable roots of an element, used to filter and sort the instances found in an {@link EClassInstanceIndex} as
+ * if they had been found by walking the roots one after the other.
+ *
+ * <p>
+ * The instances are requested from the index for each root, in the order of the roots, so only the resources of the
+ * reachable roots are ordered by the index. The shared pathmap resources (see {@link SharedPathmapResourceMap}) are not
+ * part of the resource set, their elements are not indexed and are found by walking them.
+ * </p>
+ *
+ * @author Jerome Gout
+ */
+final class ReachableRoots {
+
+    private final List<Notifier> roots = new ArrayList<>();
+
+    private final Map<Notifier, Integer> positions = new IdentityHashMap<>();
+
+    /**
+     * <code>true</code> if some roots are elements, only the resources of the elements are checked otherwise.
+     */
+    private final boolean hasElementRoots;
+
+    ReachableRoots(List<? extends Notifier> roots) {
+        for (Notifier root : roots) {
+            if (this.positions.putIfAbsent(root, this.positions.size()) == null) {
+                this.roots.add(root);
+            }
+        }
+        this.hasElementRoots = this.roots.stream().anyMatch(EObject.class::isInstance);
+    }
+
+    /**
+     * Gets the roots reachable from the given element.
+     *
+     * <p>
+     * When the resources of the resource set are reachable, the shared pathmap resources used by the resource set are
+     * reachable too, as they were when they were loaded in the resource set.
+     * </p>
+     *
+     * @param self
+     *            an element
+     * @return the reachable roots
+     */
+    static List<Notifier> getReachableRoots(EObject self) {
+        List<Notifier> roots = new ElementRootCandidateSeachProvider().getReachableRoots(self);
+        ResourceSet resourceSet = getResourceSet(self);
+        if (resourceSet != null && roots.stream().anyMatch(root -> root instanceof Resource resource && resource.getResourceSet() == resourceSet)) {
+            List<Notifier> allRoots = new ArrayList<>(roots);
+            for (Resource sharedResource : SharedPathmapResourceMap.getSharedResources(resourceSet)) {
+                if (!roots.contains(sharedResource)) {
+                    allRoots.add(sharedResource);
+                }
+            }
+            roots = allRoots;
+        }
+        return roots;
+    }
+
+    /**
+     * Gets the reachable instances of the given type or of one of its sub types, in the order of the walk of the
+     * roots.
+     *
+     * @param index
+     *            the index of the resource set of the reachable roots
+     * @param resourceSet
+     *            the indexed resource set
+     * @param type
+     *            a type
+     * @return the reachable instances, the instances of the roots outside of the resource set are found by walking
+     *         them
+     */
+    Stream<EObject> getInstances(EClassInstanceIndex index, ResourceSet resourceSet, EClass type) {
+        return this.roots.stream().flatMap(root -> this.getInstances(index, resourceSet, type, root));
+    }
+
+    /**
+     * Gets the roots which are not part of the given resource set, such as the shared pathmap resources.
+     *
+     * @param resourceSet
+     *            the indexed resource set
+     * @return the roots outside of the resource set, in the order of the walk
+     */
+    Stream<Notifier> getRootsOutside(ResourceSet resourceSet) {
+        return this.roots.stream().filter(root -> !isInResourceSet(root, resourceSet));
+    }
+
+    /**
+     * Checks if the given element is contained by one of the roots.
+     *
+     * @param element
+     *            an element
+     * @return <code>true</code> if the element is reachable
+     */
+    boolean isReachable(EObject element) {
+        return this.getPosition(element) >= 0;
+    }
+
+    /**
+     * Sorts the given values in the order of the walk of the roots of their elements.
+     *
+     * <p>
+     * The position of each element is computed once before sorting. The sort is stable, the values of the elements
+     * outside of the resource set keep their order.
+     * </p>
+     *
+     * @param index
+     *            the index of the resource set of the reachable roots
+     * @param resourceSet
+     *            the indexed resource set
+     * @param values
+     *            the values to sort
+     * @param elementProvider
+     *            provides the reachable element of a value
+     * @return the sorted values
+     */
+    <T> List<T> sortInWalkOrder(EClassInstanceIndex index, ResourceSet resourceSet, Stream<T> values, Function<T, ? extends EObject> elementProvider) {
+        Map<Resource, Integer> resourcePositions = new IdentityHashMap<>();
+        for (Resource resource : resourceSet.getResources()) {
+            resourcePositions.putIfAbsent(resource, resourcePositions.size());
+        }
+        return values.map(value -> this.getWalkPosition(index, resourcePositions, value, elementProvider.apply(value)))
+                .sorted(Comparator.<WalkPosition<T>> comparingInt(WalkPosition::root)
+                        .thenComparingInt(WalkPosition::resource)
+                        .thenComparingInt(WalkPosition::treeOrder))
+                .map(WalkPosition::value)
+                .toList();
+    }
+
+    private <T> WalkPosition<T> getWalkPosition(EClassInstanceIndex index, Map<Resource, Integer> resourcePositions, T value, EObject element) {
+        final WalkPosition<T> walkPosition;
+        Integer resourcePosition = resourcePositions.get(element.eResource());
+        if (resourcePosition != null) {
+            walkPosition = new WalkPosition<>(value, this.getPosition(element), resourcePosition, index.getTreeOrder(element));
+        } else {
+            // Outside of the resource set, the elements have been found by walking their root
+            walkPosition = new WalkPosition<>(value, this.getPosition(element), 0, 0);
+        }
+        return walkPosition;
+    }
+
+    private Stream<EObject> getInstances(EClassInstanceIndex index, ResourceSet resourceSet, EClass type, Notifier root) {
+        final Stream<EObject> instances;
+        if (root == resourceSet) {
+            instances = List.copyOf(resourceSet.getResources()).stream().flatMap(resource -> index.getInstances(type, resource).stream());
+        } else if (root instanceof Resource resource && resource.getResourceSet() == resourceSet) {
+            instances = index.getInstances(type, resource).stream();
+        } else if (root instanceof EObject element && isInResourceSet(element, resourceSet)) {
+            instances = index.getInstances(type, element.eResource()).stream().filter(instance -> EcoreUtil.isAncestor(element, instance));
+        } else {
+            instances = EMFUtils.allContainedObjectOfType(root, EObject.class).filter(element -> type.isSuperTypeOf(element.eClass()));
+        }
+        return instances;
+    }
+
+    private int getPosition(EObject element) {
+        Integer position = null;
+        if (this.hasElementRoots) {
+            for (EObject container = element; container != null && position == null; container = container.eContainer()) {
+                position = this.positions.get(container);
+            }
+        }
+        Resource resource = element.eResource();
+        if (position == null && resource != null) {
+            position = this.positions.get(resource);
+            if (position == null && resource.getResourceSet() != null) {
+                position = this.positions.get(resource.getResourceSet());
+            }
+        }
+        if (position == null) {
+            position = -1;
+        }
+        return position;
+    }
+
+    private static boolean isInResourceSet(Notifier root, ResourceSet resourceSet) {
+        Resource resource = null;
+        if (root instanceof Resource rootResource) {
+            resource = rootResource;
+        } else if (root instanceof EObject rootElement) {
+            resource = rootElement.eResource();
+        }
+        return root == resourceSet || (resource != null && resource.getResourceSet() == resourceSet);
+    }
+
+    private static ResourceSet getResourceSet(EObject self) {
+        ResourceSet resourceSet = null;
+        if (self.eResource() != null) {
+            resourceSet = self.eResource().getResourceSet();
+        }
+        return resourceSet;
+    }
+
+    /**
+     * A value with the position of its element in the walk of the roots.
+     *
+     * @param value
+     *            the value
+     * @param root
+     *            the position of the root of the element
+     * @param resource
+     *            the position of the resource of the element in the resource set
+     * @param treeOrder
+     *            the position of the element in its resource
+     * @author Jerome Gout
+     */
+    private record WalkPosition<T>(T value, int root, int resource, int treeOrder) {
+    }
+}
@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2022, 2023 CEA LIST, Obeo.
+ * Copyright (c) 2022, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,6 @@
 package org.eclipse.papyrus.web.application.representations.aqlservices.utils;
 
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -22,7 +21,9 @@ import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
 import org.eclipse.papyrus.uml.domain.services.IEditableChecker;
 import org.eclipse.papyrus.web.application.representations.uml.UMLMetamodelHelper;
+import org.eclipse.papyrus.web.sirius.contributions.DiagramIndex;
 import org.eclipse.papyrus.web.sirius.contributions.DiagramNavigator;
+import org.eclipse.sirius.components.core.api.IObjectService;
 import org.eclipse.sirius.components.diagrams.Diagram;
 import org.eclipse.sirius.components.diagrams.Edge;
 import org.eclipse.sirius.components.diagrams.Node;
@@ -68,6 +69,11 @@ public class AbstractDropSwitch extends UMLSwitch<Boolean> {
      */
     protected Function<String, Object> eObjectResolver;
 
+    /**
+     * Service used to get the id of a semantic element, to look for its representations in the diagram.
+     */
+    protected IObjectService objectService;
+
     /**
      * The target node where element should be dropped.
      */
@@ -291,9 +297,7 @@ public class AbstractDropSwitch extends UMLSwitch<Boolean> {
      * @return the {@link Edge} from the diagram that represents the given {@code semanticEdge}
      */
     protected Optional<Edge> getEdgeFromDiagram(EObject semanticEdge) {
-        return this.diagramNavigator.getDiagram().getEdges().stream()
-                .filter(edge -> Objects.equals(semanticEdge, this.getSemanticElementFromId(edge.getTargetObjectId())))
-                .findFirst();
+        return this.diagramNavigator.getDiagramIndex().getEdgesByTargetObjectId(this.objectService.getId(semanticEdge)).stream().findFirst();
     }
 
     /**
@@ -306,25 +310,12 @@ public class AbstractDropSwitch extends UMLSwitch<Boolean> {
      * @see #getNodeFromParentNodeAndItsChildren(Node, EObject)
      */
     protected Node getNodeFromDiagramAndItsChildren(EObject semanticElement) {
-        List<Node> nodes = this.diagramNavigator.getDiagram().getNodes();
-        int i = 0;
-        boolean isFound = false;
-        Node semanticNodeFound = null;
-        while (!isFound && i < nodes.size()) {
-            Node node = nodes.get(i);
-            EObject semanticNode = this.getSemanticNode(node);
-            if (semanticElement.equals(semanticNode)) {
-                isFound = true;
-                semanticNodeFound = node;
-            } else {
-                semanticNodeFound = this.getNodeFromParentNodeAndItsChildren(node, semanticElement);
-                if (semanticNodeFound != null) {
-                    isFound = true;
-                }
-            }
-            i++;
-        }
-        return semanticNodeFound;
+        DiagramIndex diagramIndex = this.diagramNavigator.getDiagramIndex();
+        // The border nodes are not searched
+        return diagramIndex.getNodesByTargetObjectId(this.objectService.getId(semanticElement)).stream()
+                .filter(node -> !diagramIndex.isInBorderNode(node.getId()))
+                .findFirst()
+                .orElse(null);
     }
 
     /**
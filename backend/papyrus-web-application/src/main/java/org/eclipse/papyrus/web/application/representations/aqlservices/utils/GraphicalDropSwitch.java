@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2023, 2024 CEA LIST, Obeo, Artal Technologies.
+ * Copyright (c) 2023, 2026 CEA LIST, Obeo, Artal Technologies.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,6 +35,7 @@ import org.eclipse.papyrus.uml.domain.services.status.State;
 import org.eclipse.papyrus.uml.domain.services.status.Status;
 import org.eclipse.papyrus.web.application.representations.uml.PRDDiagramDescriptionBuilder;
 import org.eclipse.papyrus.web.sirius.contributions.DiagramNavigator;
+import org.eclipse.sirius.components.core.api.IObjectService;
 import org.eclipse.sirius.components.diagrams.Node;
 import org.eclipse.uml2.uml.Class;
 import org.eclipse.uml2.uml.ElementImport;
@@ -191,6 +192,18 @@ public final class GraphicalDropSwitch extends AbstractDropSwitch {
         return this;
     }
 
+    /**
+     * Sets the object service used to get the id of the semantic elements represented in the diagram.
+     *
+     * @param theObjectService
+     *            the object service
+     * @return this GraphicalDropSwitch
+     */
+    public GraphicalDropSwitch withObjectService(IObjectService theObjectService) {
+        this.objectService = theObjectService;
+        return this;
+    }
+
     @Override
     public Boolean caseClass(Class umlClass) {
         Boolean isDragAndDropValid = Boolean.FALSE;
@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2022, 2024 CEA LIST, Obeo, Artal Technologies.
+ * Copyright (c) 2022, 2026 CEA LIST, Obeo, Artal Technologies.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -169,7 +169,7 @@ public interface IViewHelper {
 
         @Override
         public List<Node> createFakeNodes(EObject semanticElement, Node optionalParentNode) {
-            return null;
+            return List.of();
         }
 
     }
@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2022, 2024 CEA LIST, Obeo.
+ * Copyright (c) 2022, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -34,6 +34,7 @@ import org.eclipse.papyrus.uml.domain.services.status.CheckStatus;
 import org.eclipse.papyrus.uml.domain.services.status.State;
 import org.eclipse.papyrus.web.application.representations.uml.PRDDiagramDescriptionBuilder;
 import org.eclipse.papyrus.web.sirius.contributions.DiagramNavigator;
+import org.eclipse.sirius.components.core.api.IObjectService;
 import org.eclipse.sirius.components.diagrams.Node;
 import org.eclipse.uml2.uml.ActivityEdge;
 import org.eclipse.uml2.uml.ActivityNode;
@@ -169,6 +170,18 @@ public final class SemanticDropSwitch extends AbstractDropSwitch {
         return this;
     }
 
+    /**
+     * Sets the object service used to get the id of the semantic elements represented in the diagram.
+     *
+     * @param theObjectService
+     *            the object service
+     * @return this SemanticDropSwitch
+     */
+    public SemanticDropSwitch withObjectService(IObjectService theObjectService) {
+        this.objectService = theObjectService;
+        return this;
+    }
+
     @Override
     public Boolean caseRelationship(Relationship relationship) {
         return this.createDnDEdgeView(relationship);
@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2022, 2024 CEA LIST, Obeo, Artal Technologies.
+ * Copyright (c) 2022, 2026 CEA LIST, Obeo, Artal Technologies.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,35 +14,33 @@
  *****************************************************************************/
 package org.eclipse.papyrus.web.application.representations.aqlservices.utils;
 
-import static java.util.stream.Collectors.toList;
-
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.BiPredicate;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EClassifier;
 import org.eclipse.emf.ecore.EObject;
-import org.eclipse.papyrus.uml.domain.services.EMFUtils;
 import org.eclipse.papyrus.uml.domain.services.UMLHelper;
 import org.eclipse.papyrus.web.application.representations.uml.AbstractRepresentationDescriptionBuilder;
 import org.eclipse.papyrus.web.application.representations.view.IdBuilder;
+import org.eclipse.papyrus.web.sirius.contributions.DiagramIndex;
 import org.eclipse.papyrus.web.sirius.contributions.FactoryMethod;
 import org.eclipse.papyrus.web.sirius.contributions.IDiagramNavigationService;
 import org.eclipse.papyrus.web.sirius.contributions.IDiagramOperationsService;
 import org.eclipse.papyrus.web.sirius.contributions.IViewDiagramDescriptionService;
+import org.eclipse.papyrus.web.sirius.contributions.ViewDiagramDescriptionIndex;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
 import org.eclipse.sirius.components.core.api.IObjectService;
 import org.eclipse.sirius.components.diagrams.CollapsingState;
-import org.eclipse.sirius.components.diagrams.Diagram;
 import org.eclipse.sirius.components.diagrams.FreeFormLayoutStrategy;
 import org.eclipse.sirius.components.diagrams.InsideLabel;
 import org.eclipse.sirius.components.diagrams.InsideLabelLocation;
@@ -71,8 +69,15 @@ public class ViewHelper implements IViewHelper {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ViewHelper.class);
 
+    /**
+     * Distance from a type to the UML Element EClass in its super types hierarchy.
+     */
+    private static final Map<EClassifier, Integer> DISTANCES_TO_ELEMENT = new ConcurrentHashMap<>();
+
     private final IObjectService objectService;
 
+    private final IDiagramNavigationService diagramNavigationService;
+
     private final IDiagramOperationsService diagramOperationsService;
 
     private final IDiagramContext diagramContext;
@@ -81,10 +86,11 @@ public class ViewHelper implements IViewHelper {
 
     private final Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> capturedNodeDescriptions;
 
-    public ViewHelper(IObjectService objectService, IDiagramOperationsService diagramOperationsService, IDiagramContext diagramContext, DiagramDescription diagramDescription,
-            Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> capturedNodeDescriptions) {
+    public ViewHelper(IObjectService objectService, IDiagramNavigationService diagramNavigationService, IDiagramOperationsService diagramOperationsService, IDiagramContext diagramContext,
+            DiagramDescription diagramDescription, Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> capturedNodeDescriptions) {
         super();
         this.objectService = objectService;
+        this.diagramNavigationService = Objects.requireNonNull(diagramNavigationService);
         this.diagramOperationsService = Objects.requireNonNull(diagramOperationsService);
         this.diagramContext = diagramContext;
         this.diagramDescription = diagramDescription;
@@ -101,6 +107,8 @@ public class ViewHelper implements IViewHelper {
      * @param objectService
      *            the {@link IObjectService}
      * @param viewDiagramService
+     *            the {@link IViewDiagramDescriptionService}
+     * @param diagramNavigationService
      *            the {@link IDiagramNavigationService}
      * @param diagramOperationsService
      *            the {@link IDiagramOperationsService}
@@ -112,10 +120,11 @@ public class ViewHelper implements IViewHelper {
      * @return a new instance
      */
     @FactoryMethod
-    public static IViewHelper create(IObjectService objectService, IViewDiagramDescriptionService viewDiagramService, IDiagramOperationsService diagramOperationsService,
-            IDiagramContext diagramContext, Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> capturedNodeDescriptions) {
+    public static IViewHelper create(IObjectService objectService, IViewDiagramDescriptionService viewDiagramService, IDiagramNavigationService diagramNavigationService,
+            IDiagramOperationsService diagramOperationsService, IDiagramContext diagramContext,
+            Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> capturedNodeDescriptions) {
         return viewDiagramService.getDiagramDescription(capturedNodeDescriptions)
-                .map(dd -> (IViewHelper) new ViewHelper(objectService, diagramOperationsService, diagramContext, dd, capturedNodeDescriptions))
+                .map(dd -> (IViewHelper) new ViewHelper(objectService, diagramNavigationService, diagramOperationsService, diagramContext, dd, capturedNodeDescriptions))
                 .orElse(new IViewHelper.NoOp());
 
     }
@@ -248,9 +257,7 @@ public class ViewHelper implements IViewHelper {
 
             // Workaround to avoid java.lang.IllegalStateException: Duplicate key problem -
             // https://github.com/eclipse-sirius/sirius-components/issues/1317
-            List<Node> matchingNodes = this.getAllNode(this.diagramContext.getDiagram(), (parent, node) -> this.matchExistingNode(parent, node, semanticId, nodeDescriptionId, selectedNode));
-
-            if (semanticId == null || matchingNodes.isEmpty()) {
+            if (semanticId == null || !this.isAlreadyRepresented(semanticId, nodeDescriptionId, selectedNode)) {
 
                 this.diagramOperationsService.createView(this.diagramContext, semanticElement, Optional.ofNullable(selectedNode), nodeDescription, containmentKind);
                 return true;
@@ -358,28 +365,53 @@ public class ViewHelper implements IViewHelper {
         return parentCheck && searchedSemanticElementID.equals(inspectedNode.getTargetObjectId()) && inspectedNode.getDescriptionId().equals(searchNodeDescription);
     }
 
-    private List<Node> getAllNode(Diagram diagram, BiPredicate<Node, Node> filter) {
-        Set<Node> visitedNode = new HashSet<>();
-        List<Node> nodes = new ArrayList<>();
-        for (Node c : diagram.getNodes()) {
-            this.getAllNode(null, c, visitedNode, nodes, filter);
+    private boolean isAlreadyRepresented(String semanticId, String nodeDescriptionId, Node selectedParent) {
+        // The index is shared by all the helpers of the diagram since the diagram is not modified before the next
+        // refresh
+        DiagramIndex index = this.diagramNavigationService.getDiagramIndex(this.diagramContext.getDiagram());
+        return index.getNodesByTargetObjectId(semanticId).stream()
+                .anyMatch(node -> this.matchExistingNode(index.getParentNode(node.getId()).orElse(null), node, semanticId, nodeDescriptionId, selectedParent));
+    }
+
+    private org.eclipse.sirius.components.view.diagram.NodeDescription getChildrenNodeDescriptionsOfType(org.eclipse.sirius.components.view.diagram.NodeDescription parent, EClass eClass) {
+        NodeDescriptionCandidates candidates = this.getNodeDescriptionCandidates(parent, eClass);
+        final org.eclipse.sirius.components.view.diagram.NodeDescription byDefault;
+        if (candidates.ranked().isEmpty()) {
+            byDefault = null;
+        } else if (!candidates.perfect().isEmpty()) {
+            byDefault = candidates.perfect().get(0);
+        } else {
+            byDefault = candidates.ranked().get(0);
         }
-        return nodes;
+        return byDefault;
     }
 
-    private void getAllNode(Node parent, Node node, Set<Node> visitedNode, List<Node> collector, BiPredicate<Node, Node> filter) {
-        if (!visitedNode.contains(node)) {
-            if (filter.test(parent, node)) {
-                collector.add(node);
-            }
-            for (Node child : node.getChildNodes()) {
-                this.getAllNode(node, child, visitedNode, collector, filter);
-            }
+    private List<org.eclipse.sirius.components.view.diagram.NodeDescription> getAllChildrenNodeDescriptionsOfType(org.eclipse.sirius.components.view.diagram.NodeDescription parent, EClass eClass) {
+        NodeDescriptionCandidates candidates = this.getNodeDescriptionCandidates(parent, eClass);
+        if (candidates.perfect().isEmpty()) {
+            return candidates.ranked();
         }
+        return candidates.perfect();
     }
 
-    private org.eclipse.sirius.components.view.diagram.NodeDescription getChildrenNodeDescriptionsOfType(org.eclipse.sirius.components.view.diagram.NodeDescription parent, EClass eClass) {
+    /**
+     * Gets the node descriptions which can represent an element of the given type in the given parent.
+     *
+     * <p>
+     * The candidates only depend on the diagram description, so they are computed once for each parent description
+     * and type.
+     * </p>
+     */
+    private NodeDescriptionCandidates getNodeDescriptionCandidates(org.eclipse.sirius.components.view.diagram.NodeDescription parent, EClass eClass) {
+        EObject parentDescription = this.diagramDescription;
+        if (parent != null) {
+            parentDescription = parent;
+        }
+        return ViewDiagramDescriptionIndex.getOrInstall(this.diagramDescription)
+                .memoize(new NodeDescriptionCandidatesKey(parentDescription, eClass), () -> this.computeNodeDescriptionCandidates(parent, eClass));
+    }
 
+    private NodeDescriptionCandidates computeNodeDescriptionCandidates(org.eclipse.sirius.components.view.diagram.NodeDescription parent, EClass eClass) {
         final List<org.eclipse.sirius.components.view.diagram.NodeDescription> descriptions = new ArrayList<>();
         final String parentName;
         if (parent == null) {
@@ -393,60 +425,30 @@ public class ViewHelper implements IViewHelper {
             descriptions.addAll(parent.getReusedChildNodeDescriptions());
         }
 
-        List<org.eclipse.sirius.components.view.diagram.NodeDescription> candidates = descriptions.stream()//
-                .distinct()//
-                .filter(c -> this.isCompliant(UMLHelper.toEClass(c.getDomainType()), eClass))//
-                .filter(c -> !AbstractRepresentationDescriptionBuilder.SHARED_DESCRIPTIONS.equals(c.getName())) //
-                // We want to keep the more specialized description type first
-                .sorted(Comparator.comparingInt(n -> -1 * this.computeDistanceToElement(UMLHelper.toEClass(n.getDomainType())))).collect(toList());
-        Optional<org.eclipse.sirius.components.view.diagram.NodeDescription> perfectCandidate = candidates.stream().filter(c -> UMLHelper.toEClass(c.getDomainType()) == eClass).findFirst();
-        if (candidates.isEmpty()) {
-            LOGGER.info(MessageFormat.format("No candidate for children of type {0} on {1}", eClass.getName(), parentName));
-            return null;
-        } else {
-            org.eclipse.sirius.components.view.diagram.NodeDescription byDefault = null;
-            if (perfectCandidate.isPresent()) {
-                byDefault = perfectCandidate.get();
-            } else {
-                byDefault = candidates.get(0);
-            }
-            if (candidates.size() > 1) {
-                LOGGER.info(
-                        MessageFormat.format("More than one candidate for children of type {0} on {1}. By default use the more specific type {2}", eClass.getName(), parentName, byDefault.getName()));
+        List<org.eclipse.sirius.components.view.diagram.NodeDescription> ranked = new ArrayList<>();
+        List<org.eclipse.sirius.components.view.diagram.NodeDescription> perfect = new ArrayList<>();
+        Map<org.eclipse.sirius.components.view.diagram.NodeDescription, Integer> distances = new HashMap<>();
+        for (var description : new LinkedHashSet<>(descriptions)) {
+            EClass domainType = UMLHelper.toEClass(description.getDomainType());
+            if (this.isCompliant(domainType, eClass) && !AbstractRepresentationDescriptionBuilder.SHARED_DESCRIPTIONS.equals(description.getName())) {
+                ranked.add(description);
+                distances.put(description, getDistanceToElement(domainType));
+                if (domainType == eClass) {
+                    perfect.add(description);
+                }
             }
-            return byDefault;
-
         }
-    }
-
-    private List<org.eclipse.sirius.components.view.diagram.NodeDescription> getAllChildrenNodeDescriptionsOfType(org.eclipse.sirius.components.view.diagram.NodeDescription parent, EClass eClass) {
+        // We want to keep the more specialized description type first
+        ranked.sort(Comparator.comparingInt(n -> -1 * distances.get(n)));
 
-        final List<org.eclipse.sirius.components.view.diagram.NodeDescription> descriptions = new ArrayList<>();
-        final String parentName;
-        if (parent == null) {
-            parentName = this.diagramDescription.getName();
-            descriptions.addAll(this.diagramDescription.getNodeDescriptions());
-        } else {
-            parentName = parent.getName();
-            descriptions.addAll(parent.getChildrenDescriptions());
-            descriptions.addAll(parent.getBorderNodesDescriptions());
-            descriptions.addAll(parent.getReusedBorderNodeDescriptions());
-            descriptions.addAll(parent.getReusedChildNodeDescriptions());
+        if (ranked.isEmpty()) {
+            LOGGER.info("No candidate for children of type {} on {}", eClass.getName(), parentName);
         }
-
-        List<org.eclipse.sirius.components.view.diagram.NodeDescription> candidates = descriptions.stream()//
-                .distinct()//
-                .filter(c -> this.isCompliant(UMLHelper.toEClass(c.getDomainType()), eClass))//
-                .filter(c -> !AbstractRepresentationDescriptionBuilder.SHARED_DESCRIPTIONS.equals(c.getName())) //
-                // We want to keep the more specialized description type first
-                .sorted(Comparator.comparingInt(n -> -1 * this.computeDistanceToElement(UMLHelper.toEClass(n.getDomainType())))).collect(toList());
-        List<org.eclipse.sirius.components.view.diagram.NodeDescription> perfectCandidates = candidates.stream().filter(c -> UMLHelper.toEClass(c.getDomainType()) == eClass)
-                .collect(Collectors.toList());
-        if (perfectCandidates.isEmpty()) {
-            LOGGER.info(MessageFormat.format("No candidate for children of type {0} on {1}", eClass.getName(), parentName));
-            return candidates;
+        if (ranked.size() > 1) {
+            LOGGER.info("More than one candidate for children of type {} on {}. By default use the more specific type {}", eClass.getName(), parentName,
+                    perfect.stream().findFirst().orElse(ranked.get(0)).getName());
         }
-        return perfectCandidates;
+        return new NodeDescriptionCandidates(List.copyOf(ranked), List.copyOf(perfect));
     }
 
     private org.eclipse.sirius.components.view.diagram.NodeDescription getChildrenNodeDescriptionsWithName(org.eclipse.sirius.components.view.diagram.NodeDescription parent, String mappingName) {
@@ -478,11 +480,18 @@ public class ViewHelper implements IViewHelper {
         }
     }
 
-    private int computeDistanceToElement(EClassifier source) {
-        return this.computeDistanceToElement(source, 0);
+    private static int getDistanceToElement(EClassifier source) {
+        if (source == null) {
+            return Integer.MAX_VALUE;
+        }
+        return DISTANCES_TO_ELEMENT.computeIfAbsent(source, ViewHelper::computeDistanceToElement);
+    }
+
+    private static int computeDistanceToElement(EClassifier source) {
+        return computeDistanceToElement(source, 0);
     }
 
-    private int computeDistanceToElement(EClassifier source, int current) {
+    private static int computeDistanceToElement(EClassifier source, int current) {
         if (source == UMLPackage.eINSTANCE.getElement()) {
             return current;
         } else {
@@ -490,7 +499,7 @@ public class ViewHelper implements IViewHelper {
             if (source instanceof EClass) {
                 EClass sourceEClass = (EClass) source;
                 for (EClass superType : sourceEClass.getESuperTypes()) {
-                    distance = Math.min(distance, this.computeDistanceToElement(superType, current + 1));
+                    distance = Math.min(distance, computeDistanceToElement(superType, current + 1));
                 }
             }
             return distance;
@@ -503,11 +512,33 @@ public class ViewHelper implements IViewHelper {
     }
 
     private Optional<org.eclipse.sirius.components.view.diagram.NodeDescription> getViewNodeDescription(String descriptionId) {
-        return EMFUtils.allContainedObjectOfType(this.diagramDescription, org.eclipse.sirius.components.view.diagram.NodeDescription.class).filter(n -> {
-            NodeDescription nd = this.capturedNodeDescriptions.get(n);
-            return nd != null && descriptionId.equals(nd.getId());
-        }).findFirst();
+        return ViewDiagramDescriptionIndex.getOrInstall(this.diagramDescription).getViewNodeDescription(this.capturedNodeDescriptions, descriptionId);
+
+    }
 
+    /**
+     * Key of the node description candidates memoized for a diagram description.
+     *
+     * @param parentDescription
+     *            the parent node description or the diagram description
+     * @param eClass
+     *            the type of the represented element
+     * @author Arthur Daussy
+     */
+    private record NodeDescriptionCandidatesKey(EObject parentDescription, EClass eClass) {
+    }
+
+    /**
+     * The node descriptions which can represent an element.
+     *
+     * @param ranked
+     *            all the compliant node descriptions, the more specialized first
+     * @param perfect
+     *            the node descriptions with the exact type of the element
+     * @author Arthur Daussy
+     */
+    private record NodeDescriptionCandidates(List<org.eclipse.sirius.components.view.diagram.NodeDescription> ranked,
+            List<org.eclipse.sirius.components.view.diagram.NodeDescription> perfect) {
     }
 
 }
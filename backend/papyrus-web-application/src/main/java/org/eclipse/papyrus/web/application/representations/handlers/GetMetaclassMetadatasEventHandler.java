@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2023, 2024 CEA LIST, Obeo.
+ * Copyright (c) 2023, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,12 +14,16 @@
 package org.eclipse.papyrus.web.application.representations.handlers;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EClassifier;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.papyrus.web.application.Monitoring;
+import org.eclipse.papyrus.web.application.configuration.PapyrusObjectService;
 import org.eclipse.papyrus.web.application.representations.UMLMetaclassMetadata;
 import org.eclipse.papyrus.web.application.representations.aqlservices.profile.ProfileDiagramService;
 import org.eclipse.papyrus.web.application.representations.dto.GetMetaclassMetadatasInput;
@@ -55,14 +59,23 @@ public class GetMetaclassMetadatasEventHandler implements IEditingContextEventHa
 
     private final IObjectService objectService;
 
+    private final PapyrusObjectService papyrusObjectService;
+
     private final ICollaborativeMessageService messageService;
 
     private final Counter counter;
 
-    public GetMetaclassMetadatasEventHandler(ICollaborativeMessageService messageService, MeterRegistry meterRegistry, ProfileDiagramService profileDiagramService, IObjectService objectService) {
+    /**
+     * The image path of each metaclass, which does not depend on the editing context.
+     */
+    private final Map<String, Optional<String>> metaclassImagePaths = new ConcurrentHashMap<>();
+
+    public GetMetaclassMetadatasEventHandler(ICollaborativeMessageService messageService, MeterRegistry meterRegistry, ProfileDiagramService profileDiagramService, IObjectService objectService,
+            PapyrusObjectService papyrusObjectService) {
         this.messageService = Objects.requireNonNull(messageService);
         this.profileDiagramService = profileDiagramService;
         this.objectService = objectService;
+        this.papyrusObjectService = Objects.requireNonNull(papyrusObjectService);
         this.counter = Counter.builder(Monitoring.EVENT_HANDLER)
                 .tag(Monitoring.NAME, this.getClass().getSimpleName())
                 .register(meterRegistry);
@@ -92,19 +105,27 @@ public class GetMetaclassMetadatasEventHandler implements IEditingContextEventHa
 
     private String getMetaclassImagePath(Class metaclass) {
         Objects.requireNonNull(metaclass);
+        return this.metaclassImagePaths.computeIfAbsent(metaclass.getName(), this::computeMetaclassImagePath).orElse(null);
+    }
+
+    private Optional<String> computeMetaclassImagePath(String metaclassName) {
         // Copied from org.eclipse.papyrus.uml.tools.providers.UMLMetaclassLabelProvider
-        EClassifier metaclassClassifier = UMLPackage.eINSTANCE.getEClassifier(metaclass.getName());
+        EClassifier metaclassClassifier = UMLPackage.eINSTANCE.getEClassifier(metaclassName);
         if (metaclassClassifier instanceof EClass metaclassEClass) {
             if (!metaclassEClass.isAbstract() && !metaclassEClass.isInterface()) {
+                Optional<String> overrideImagePath = this.papyrusObjectService.getEClassImagePath(metaclassEClass);
+                if (overrideImagePath.isPresent()) {
+                    return overrideImagePath.map(path -> URLConstants.IMAGE_BASE_PATH + path);
+                }
                 // Copied from org.eclipse.papyrus.uml.tools.providers.UMLEClassLabelProvider
                 final EObject instance = UMLFactory.eINSTANCE.create(metaclassEClass);
                 List<String> metaclassImagePaths = this.objectService.getImagePath(instance);
                 if (!metaclassImagePaths.isEmpty()) {
                     // Return the first path, we don't want to display decorators here.
-                    return URLConstants.IMAGE_BASE_PATH + metaclassImagePaths.get(0);
+                    return Optional.of(URLConstants.IMAGE_BASE_PATH + metaclassImagePaths.get(0));
                 }
             }
         }
-        return null;
+        return Optional.empty();
     }
 }
@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2024, 2025 CEA LIST, Obeo.
+ * Copyright (c) 2024, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,49 +13,111 @@
  *****************************************************************************/
 package org.eclipse.papyrus.web.application.templates.service;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.eclipse.papyrus.web.application.Monitoring;
 import org.eclipse.papyrus.web.application.templates.projects.PapyrusUMLNatures;
 import org.eclipse.papyrus.web.application.templates.service.api.IUMLProjectCheckerService;
 import org.eclipse.sirius.web.application.UUIDParser;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.events.ProjectDeletedEvent;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.services.api.IProjectSearchService;
 import org.eclipse.sirius.web.domain.boundedcontexts.projectsemanticdata.ProjectSemanticData;
 import org.eclipse.sirius.web.domain.boundedcontexts.projectsemanticdata.services.api.IProjectSemanticDataSearchService;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * Implementation of {@link IUMLProjectCheckerService}.
  *
+ * <p>
+ * The nature of the project behind an editing context is memoized per editing context id since this check is done by
+ * each Papyrus {@link org.eclipse.sirius.components.core.api.IEditingContextProcessor} while loading an editing
+ * context. Only the lookups that successfully resolve a project are memoized so that an editing context loaded before
+ * its project is fully created is not wrongly flagged as a non-UML one.
+ * </p>
+ *
  * @author Arthur Daussy
  */
 @Service
 public class UMLProjectCheckerService implements IUMLProjectCheckerService {
 
+    private static final String CACHE_NAME = "umlProjectNature";
+
     private final IProjectSearchService projectSearchService;
 
     private final IProjectSemanticDataSearchService projectSemanticDataSearchService;
 
-    public UMLProjectCheckerService(IProjectSearchService projectSeachService, IProjectSemanticDataSearchService projectSemanticDataSearchService) {
+    private final Map<String, ProjectNature> naturesByEditingContextId = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    public UMLProjectCheckerService(IProjectSearchService projectSeachService, IProjectSemanticDataSearchService projectSemanticDataSearchService, MeterRegistry meterRegistry) {
         super();
         this.projectSearchService = Objects.requireNonNull(projectSeachService);
         this.projectSemanticDataSearchService = Objects.requireNonNull(projectSemanticDataSearchService);
+        this.hitCounter = Counter.builder(Monitoring.CACHE)
+                .tag(Monitoring.NAME, CACHE_NAME)
+                .tag(Monitoring.RESULT, Monitoring.HIT)
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(Monitoring.CACHE)
+                .tag(Monitoring.NAME, CACHE_NAME)
+                .tag(Monitoring.RESULT, Monitoring.MISS)
+                .register(meterRegistry);
     }
 
     @Override
     public boolean isPapyrusProject(String editingContextId) {
+        if (editingContextId == null) {
+            return false;
+        }
+        ProjectNature cachedNature = this.naturesByEditingContextId.get(editingContextId);
+        if (cachedNature != null) {
+            this.hitCounter.increment();
+            return cachedNature.isUML();
+        }
+        this.missCounter.increment();
+
+        Optional<ProjectNature> nature = this.computeNature(editingContextId);
+        nature.ifPresent(n -> this.naturesByEditingContextId.put(editingContextId, n));
+        return nature.map(ProjectNature::isUML).orElse(false);
+    }
+
+    /**
+     * Evicts the cached natures of a deleted project.
+     *
+     * @param event
+     *            the deletion event
+     */
+    @TransactionalEventListener
+    public void onProjectDeletedEvent(ProjectDeletedEvent event) {
+        this.invalidate(event.project().getId());
+    }
+
+    @Override
+    public void invalidate(String projectId) {
+        this.naturesByEditingContextId.values().removeIf(nature -> Objects.equals(nature.projectId(), projectId));
+    }
+
+    private Optional<ProjectNature> computeNature(String editingContextId) {
         try {
             return new UUIDParser().parse(editingContextId)
                     .flatMap(semanticDataId -> this.projectSemanticDataSearchService.findBySemanticDataId(AggregateReference.to(semanticDataId)))
                     .map(ProjectSemanticData::getProject)
                     .map(AggregateReference::getId)
                     .flatMap(this.projectSearchService::findById)
-                    .map(this::hasUMLNature)
-                    .orElse(false);
-
+                    .map(project -> new ProjectNature(project.getId(), this.hasUMLNature(project)));
         } catch (IllegalStateException e) {
-            return false;
+            return Optional.empty();
         }
     }
 
@@ -64,4 +126,15 @@ public class UMLProjectCheckerService implements IUMLProjectCheckerService {
                 .anyMatch(n -> PapyrusUMLNatures.UML.equals(n.name()));
     }
 
+    /**
+     * The memoized nature of a project.
+     *
+     * @param projectId
+     *            the id of the project
+     * @param isUML
+     *            <code>true</code> if the project has the UML nature
+     */
+    private record ProjectNature(String projectId, boolean isUML) {
+    }
+
 }
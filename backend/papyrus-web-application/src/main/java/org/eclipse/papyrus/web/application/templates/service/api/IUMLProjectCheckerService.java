@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2024 CEA LIST, Obeo.
+ * Copyright (c) 2024, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,4 +28,17 @@ public interface IUMLProjectCheckerService {
      * @return
      */
     boolean isPapyrusProject(String editingContextId);
+
+    /**
+     * Forgets what is known about the nature of the given project.
+     *
+     * <p>
+     * Sirius Web only sets the natures of a project when it is created, so this is done automatically when a project
+     * is deleted. It has to be called by any contribution modifying the natures of an existing project.
+     * </p>
+     *
+     * @param projectId
+     *            the id of a project
+     */
+    void invalidate(String projectId);
 }
@@ -0,0 +1,239 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.uml;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.papyrus.web.application.readonly.ReadOnlyResourceRegistry;
+import org.eclipse.uml2.uml.Element;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.Profile;
+import org.eclipse.uml2.uml.UMLPackage;
+import org.eclipse.uml2.uml.util.UMLUtil;
+
+/**
+ * Cache of the labels of the elements of a {@link ResourceSet}, shared by the diagrams and the explorer of an editing
+ * context.
+ *
+ * <p>
+ * The labels are cached by element and by kind of label. Whatever its kind, the label of an element is considered to
+ * depend on:
+ * <ul>
+ * <li>the element and all its contents, such as the parameters of an operation or the value specifications of a
+ * multiplicity;</li>
+ * <li>the elements referenced by the element or by its contents, such as the types of an operation and its parameters,
+ * since their names may be displayed;</li>
+ * <li>the stereotype applications of the element and of its contents;</li>
+ * <li>the names of the packages and the profiles, since the package of an element and the names of the stereotypes
+ * may be displayed.</li>
+ * </ul>
+ * A change on an element thus invalidates the labels of the element and of its ancestors, as well as the labels of the
+ * elements referencing it and of their ancestors. A change of the name or of the container of a package, a change in a
+ * profile or a change that cannot be tracked back to the referencing elements, without cross reference adapter, clears
+ * the whole cache.
+ * </p>
+ * <p>
+ * Only the resource of the pathmap libraries and profiles is adapted since their elements never change. The whole
+ * cache is cleared when the contents of such a resource are loaded or unloaded.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public final class ElementLabelCache extends EContentAdapter {
+
+    private final Map<EObject, Map<Object, String>> labels = new HashMap<>();
+
+    private ElementLabelCache() {
+        super();
+    }
+
+    /**
+     * Gets the label of the given element, computing it only if it is not cached yet.
+     *
+     * @param element
+     *            an element
+     * @param kind
+     *            the kind of label, with a value based equality
+     * @param labelProvider
+     *            used to compute the label
+     * @return the label of the element
+     */
+    public static String getLabel(EObject element, Object kind, Function<EObject, String> labelProvider) {
+        ResourceSet resourceSet = null;
+        Resource resource = element.eResource();
+        if (resource != null) {
+            resourceSet = resource.getResourceSet();
+        }
+        final String label;
+        if (resourceSet == null) {
+            label = labelProvider.apply(element);
+        } else {
+            label = getOrInstall(resourceSet).getCachedLabel(element, kind, labelProvider);
+        }
+        return label;
+    }
+
+    private static synchronized ElementLabelCache getOrInstall(ResourceSet resourceSet) {
+        for (var adapter : resourceSet.eAdapters()) {
+            if (adapter instanceof ElementLabelCache elementLabelCache) {
+                return elementLabelCache;
+            }
+        }
+        ElementLabelCache elementLabelCache = new ElementLabelCache();
+        resourceSet.eAdapters().add(elementLabelCache);
+        return elementLabelCache;
+    }
+
+    private synchronized String getCachedLabel(EObject element, Object kind, Function<EObject, String> labelProvider) {
+        Map<Object, String> elementLabels = this.labels.get(element);
+        String label = null;
+        if (elementLabels != null) {
+            label = elementLabels.get(kind);
+        }
+        if (label == null) {
+            label = labelProvider.apply(element);
+            if (label != null) {
+                this.labels.computeIfAbsent(element, e -> new HashMap<>()).put(kind, label);
+            }
+        }
+        return label;
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == ElementLabelCache.class;
+    }
+
+    @Override
+    protected boolean resolve() {
+        // Never load a resource only to cache labels
+        return false;
+    }
+
+    @Override
+    protected void selfAdapt(Notification notification) {
+        if (notification.getNotifier() instanceof Resource resource && ReadOnlyResourceRegistry.isPathmapResource(resource)) {
+            int featureID = notification.getFeatureID(Resource.class);
+            if (featureID == Resource.RESOURCE__CONTENTS || featureID == Resource.RESOURCE__IS_LOADED) {
+                synchronized (this) {
+                    this.labels.clear();
+                }
+            }
+        } else {
+            super.selfAdapt(notification);
+        }
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+        if (!notification.isTouch() && !(notification.getNotifier() instanceof Resource resource && ReadOnlyResourceRegistry.isPathmapResource(resource))) {
+            synchronized (this) {
+                if (!this.labels.isEmpty()) {
+                    this.invalidate(notification);
+                }
+            }
+        }
+    }
+
+    private void invalidate(Notification notification) {
+        if (this.isGlobalChange(notification)) {
+            this.labels.clear();
+        } else {
+            if (notification.getNotifier() instanceof EObject notifier) {
+                this.invalidateWithAncestors(notifier);
+                this.invalidateReferencing(notifier);
+            }
+            if (notification.getOldValue() instanceof EObject oldValue) {
+                this.invalidateWithAncestors(oldValue);
+            }
+            if (notification.getNewValue() instanceof EObject newValue) {
+                this.invalidateWithAncestors(newValue);
+            }
+        }
+    }
+
+    private boolean isGlobalChange(Notification notification) {
+        boolean isGlobalChange = false;
+        if (notification.getNotifier() instanceof EObject notifier) {
+            isGlobalChange = notifier instanceof Profile || notifier instanceof Element element && element.getNearestPackage() instanceof Profile;
+            isGlobalChange = isGlobalChange || notifier instanceof Package && notification.getFeature() == UMLPackage.eINSTANCE.getNamedElement_Name();
+            isGlobalChange = isGlobalChange || ECrossReferenceAdapter.getCrossReferenceAdapter(notifier) == null;
+        }
+        boolean isContainmentChange = notification.getNotifier() instanceof Resource || notification.getFeature() instanceof EReference reference && reference.isContainment();
+        if (isContainmentChange) {
+            isGlobalChange = isGlobalChange || notification.getOldValue() instanceof Package || notification.getNewValue() instanceof Package;
+        }
+        return isGlobalChange;
+    }
+
+    private void invalidateWithAncestors(EObject eObject) {
+        EObject current = eObject;
+        while (current != null) {
+            this.labels.remove(current);
+            if (current.eContainer() == null) {
+                // The stereotype applications are roots of their resource
+                Element baseElement = UMLUtil.getBaseElement(current);
+                if (baseElement != null && baseElement != current) {
+                    this.invalidateWithAncestors(baseElement);
+                }
+            }
+            current = current.eContainer();
+        }
+    }
+
+    private void invalidateReferencing(EObject eObject) {
+        ECrossReferenceAdapter crossReferenceAdapter = ECrossReferenceAdapter.getCrossReferenceAdapter(eObject);
+        for (Setting setting : crossReferenceAdapter.getInverseReferences(eObject, false)) {
+            this.invalidateWithAncestors(setting.getEObject());
+        }
+    }
+
+    @Override
+    protected void setTarget(Resource target) {
+        if (ReadOnlyResourceRegistry.isPathmapResource(target)) {
+            this.basicSetTarget(target);
+        } else {
+            super.setTarget(target);
+        }
+    }
+
+    @Override
+    protected void unsetTarget(Resource target) {
+        if (ReadOnlyResourceRegistry.isPathmapResource(target)) {
+            this.basicUnsetTarget(target);
+            synchronized (this) {
+                this.labels.clear();
+            }
+        } else {
+            super.unsetTarget(target);
+        }
+    }
+
+    @Override
+    protected synchronized void unsetTarget(EObject target) {
+        super.unsetTarget(target);
+        this.labels.remove(target);
+    }
+}
@@ -0,0 +1,220 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.impl.EPackageRegistryImpl;
+import org.eclipse.papyrus.uml.domain.services.EMFUtils;
+import org.eclipse.papyrus.web.application.configuration.PapyrusConnectorToolsProvider;
+import org.eclipse.papyrus.web.application.representations.PapyrusRepresentationDescriptionRegistry;
+import org.eclipse.papyrus.web.application.representations.uml.PapyrusDiagramSnapshots;
+import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.components.diagrams.description.EdgeDescription;
+import org.eclipse.sirius.components.diagrams.description.IDiagramElementDescription;
+import org.eclipse.sirius.components.diagrams.description.NodeDescription;
+import org.eclipse.sirius.components.diagrams.tools.ITool;
+import org.eclipse.sirius.components.diagrams.tools.Palette;
+import org.eclipse.sirius.components.diagrams.tools.SingleClickOnTwoDiagramElementsCandidate;
+import org.eclipse.sirius.components.diagrams.tools.SingleClickOnTwoDiagramElementsTool;
+import org.eclipse.sirius.components.diagrams.tools.ToolSection;
+import org.eclipse.sirius.components.representations.IRepresentationDescription;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.ViewPackage;
+import org.eclipse.sirius.components.view.diagram.DiagramElementDescription;
+import org.eclipse.sirius.components.view.diagram.DiagramPackage;
+import org.eclipse.sirius.components.view.diagram.EdgeTool;
+import org.eclipse.sirius.components.view.emf.IViewConverter;
+import org.eclipse.sirius.components.view.emf.diagram.IDiagramIdProvider;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the connector tools computed by {@link PapyrusRepresentationDescriptionRegistry} when a diagram is
+ * registered and used by {@link PapyrusConnectorToolsProvider}.
+ *
+ * <p>
+ * The converter used in this test converts each edge tool of the Papyrus diagrams to a connector tool connecting the
+ * description owning the tool to the target descriptions of the tool. The connector tools are spread over the palette
+ * and over a tool section, with tools which are not connector tools.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public class ConnectorToolMatrixTest {
+
+    private final IDiagramIdProvider idProvider = mock(IDiagramIdProvider.class, invocation -> this.getStaticId(invocation.getArgument(0)));
+
+    private final List<DiagramDescription> convertedDiagrams = new ArrayList<>();
+
+    @Test
+    public void testConnectorToolsMatchThePaletteScan() {
+        PapyrusRepresentationDescriptionRegistry registry = this.createRegistry();
+        registry.registerDiagramViews(PapyrusDiagramSnapshots.createBuilders().stream().map(PapyrusDiagramSnapshots::buildView).toList(), false);
+
+        assertFalse(this.convertedDiagrams.isEmpty());
+        int connectorToolCount = 0;
+        for (DiagramDescription diagramDescription : this.convertedDiagrams) {
+            Set<IDiagramElementDescription> sources = new LinkedHashSet<>();
+            Set<IDiagramElementDescription> targets = new LinkedHashSet<>();
+            this.getAllTools(diagramDescription)
+                    .filter(SingleClickOnTwoDiagramElementsTool.class::isInstance)
+                    .map(SingleClickOnTwoDiagramElementsTool.class::cast)
+                    .flatMap(tool -> tool.getCandidates().stream())
+                    .forEach(candidate -> {
+                        sources.addAll(candidate.getSources());
+                        targets.addAll(candidate.getTargets());
+                    });
+            // A description which cannot be connected
+            IDiagramElementDescription unconnected = this.createNodeDescription("unconnected");
+            sources.add(unconnected);
+            targets.add(unconnected);
+
+            for (IDiagramElementDescription source : sources) {
+                for (IDiagramElementDescription target : targets) {
+                    List<ITool> expectedTools = this.scanPalettes(diagramDescription, source, target);
+                    List<ITool> tools = registry.getConnectorTools(diagramDescription.getId(), source.getId(), target.getId()).orElseThrow();
+                    assertEquals(expectedTools, tools, diagramDescription.getLabel() + ": " + source.getId() + " -> " + target.getId());
+                    connectorToolCount += tools.size();
+                }
+            }
+        }
+        assertTrue(connectorToolCount > 0);
+        assertTrue(registry.getConnectorTools("unknownDiagram", "source", "target").isEmpty());
+    }
+
+    /**
+     * Gets the connector tools as {@link PapyrusConnectorToolsProvider} used to, by scanning all the tools of the
+     * palettes.
+     */
+    private List<ITool> scanPalettes(DiagramDescription diagramDescription, Object sourceDescription, Object targetDescription) {
+        return this.getAllTools(diagramDescription)
+                .filter(SingleClickOnTwoDiagramElementsTool.class::isInstance).map(SingleClickOnTwoDiagramElementsTool.class::cast).filter(tool -> {
+                    List<SingleClickOnTwoDiagramElementsCandidate> candidates = tool.getCandidates();
+                    return candidates.stream().anyMatch(candidate -> candidate.getSources().contains(sourceDescription) && candidate.getTargets().contains(targetDescription));
+                }).collect(Collectors.toList());
+    }
+
+    private Stream<ITool> getAllTools(DiagramDescription diagramDescription) {
+        return diagramDescription.getPalettes().stream()
+                .flatMap(palette -> Stream.concat(palette.getTools().stream(), palette.getToolSections().stream().flatMap(toolSection -> toolSection.getTools().stream())));
+    }
+
+    private PapyrusRepresentationDescriptionRegistry createRegistry() {
+        EPackage.Registry ePackageRegistry = new EPackageRegistryImpl();
+        ePackageRegistry.put(ViewPackage.eNS_URI, ViewPackage.eINSTANCE);
+        ePackageRegistry.put(DiagramPackage.eNS_URI, DiagramPackage.eINSTANCE);
+
+        IViewConverter viewConverter = mock(IViewConverter.class);
+        when(viewConverter.convert(any(), any())).thenAnswer(invocation -> {
+            List<View> views = invocation.getArgument(0);
+            return views.stream().flatMap(view -> view.getDescriptions().stream())
+                    .filter(org.eclipse.sirius.components.view.diagram.DiagramDescription.class::isInstance)
+                    .map(org.eclipse.sirius.components.view.diagram.DiagramDescription.class::cast)
+                    .map(this::convert)
+                    .toList();
+        });
+        return new PapyrusRepresentationDescriptionRegistry(this.idProvider, ePackageRegistry, viewConverter);
+    }
+
+    private IRepresentationDescription convert(org.eclipse.sirius.components.view.diagram.DiagramDescription viewDiagramDescription) {
+        Map<DiagramElementDescription, IDiagramElementDescription> convertedElements = new LinkedHashMap<>();
+        List<NodeDescription> nodeDescriptions = new ArrayList<>();
+        List<EdgeDescription> edgeDescriptions = new ArrayList<>();
+        EMFUtils.allContainedObjectOfType(viewDiagramDescription, DiagramElementDescription.class).forEach(viewElementDescription -> {
+            if (viewElementDescription instanceof org.eclipse.sirius.components.view.diagram.EdgeDescription) {
+                EdgeDescription edgeDescription = mock(EdgeDescription.class);
+                when(edgeDescription.getId()).thenReturn(this.getStaticId(viewElementDescription));
+                edgeDescriptions.add(edgeDescription);
+                convertedElements.put(viewElementDescription, edgeDescription);
+            } else {
+                NodeDescription nodeDescription = this.createNodeDescription(this.getStaticId(viewElementDescription));
+                nodeDescriptions.add(nodeDescription);
+                convertedElements.put(viewElementDescription, nodeDescription);
+            }
+        });
+
+        List<ITool> paletteTools = new ArrayList<>();
+        List<ITool> sectionTools = new ArrayList<>();
+        List<EdgeTool> edgeTools = EMFUtils.allContainedObjectOfType(viewDiagramDescription, EdgeTool.class).toList();
+        for (int i = 0; i < edgeTools.size(); i++) {
+            EdgeTool edgeTool = edgeTools.get(i);
+            IDiagramElementDescription source = convertedElements.get(this.getOwningElementDescription(edgeTool));
+            List<IDiagramElementDescription> targets = edgeTool.getTargetElementDescriptions().stream().map(convertedElements::get).toList();
+            SingleClickOnTwoDiagramElementsCandidate candidate = mock(SingleClickOnTwoDiagramElementsCandidate.class);
+            when(candidate.getSources()).thenReturn(List.of(source));
+            when(candidate.getTargets()).thenReturn(targets);
+            SingleClickOnTwoDiagramElementsTool tool = mock(SingleClickOnTwoDiagramElementsTool.class);
+            when(tool.getId()).thenReturn(this.getStaticId(edgeTool));
+            when(tool.getCandidates()).thenReturn(List.of(candidate));
+            if (i % 2 == 0) {
+                paletteTools.add(tool);
+            } else {
+                sectionTools.add(tool);
+            }
+        }
+        // Tools which are not connector tools are ignored
+        paletteTools.add(mock(ITool.class));
+        sectionTools.add(mock(ITool.class));
+
+        ToolSection toolSection = mock(ToolSection.class);
+        when(toolSection.getTools()).thenReturn(sectionTools);
+        Palette palette = mock(Palette.class);
+        when(palette.getTools()).thenReturn(paletteTools);
+        when(palette.getToolSections()).thenReturn(List.of(toolSection));
+
+        DiagramDescription converted = mock(DiagramDescription.class);
+        when(converted.getId()).thenReturn(this.getStaticId(viewDiagramDescription));
+        when(converted.getLabel()).thenReturn(viewDiagramDescription.getName());
+        when(converted.getNodeDescriptions()).thenReturn(nodeDescriptions);
+        when(converted.getEdgeDescriptions()).thenReturn(edgeDescriptions);
+        when(converted.getPalettes()).thenReturn(List.of(palette));
+        this.convertedDiagrams.add(converted);
+        return converted;
+    }
+
+    private NodeDescription createNodeDescription(String id) {
+        NodeDescription nodeDescription = mock(NodeDescription.class);
+        when(nodeDescription.getId()).thenReturn(id);
+        return nodeDescription;
+    }
+
+    private DiagramElementDescription getOwningElementDescription(EdgeTool edgeTool) {
+        EObject container = edgeTool.eContainer();
+        while (!(container instanceof DiagramElementDescription)) {
+            container = container.eContainer();
+        }
+        return (DiagramElementDescription) container;
+    }
+
+    private String getStaticId(EObject element) {
+        return ((JsonResource) element.eResource()).getID(element);
+    }
+}
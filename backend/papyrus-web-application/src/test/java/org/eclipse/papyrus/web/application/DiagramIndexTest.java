@@ -0,0 +1,168 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.papyrus.web.sirius.contributions.DiagramIndex;
+import org.eclipse.papyrus.web.sirius.contributions.DiagramNavigationService;
+import org.eclipse.papyrus.web.sirius.contributions.IEMFNavigationService;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link DiagramIndex}.
+ *
+ * @author Arthur Daussy
+ */
+public class DiagramIndexTest {
+
+    private Diagram diagram;
+
+    private Node packageNode;
+
+    private Node portNode;
+
+    private Node portLabelNode;
+
+    private Node classNode;
+
+    private Node nestedClassNode;
+
+    private Node otherClassNode;
+
+    @BeforeEach
+    public void setUp() {
+        this.nestedClassNode = this.createNode("nestedClassNode", "classA", List.of());
+        this.classNode = this.createNode("classNode", "classB", List.of(this.nestedClassNode));
+        this.packageNode = this.createNode("packageNode", "pack", List.of(this.classNode));
+        this.portLabelNode = this.createNode("portLabelNode", "port", List.of());
+        this.portNode = this.createNode("portNode", "port", List.of(this.portLabelNode));
+        when(this.packageNode.getBorderNodes()).thenReturn(List.of(this.portNode));
+        this.otherClassNode = this.createNode("otherClassNode", "classA", List.of());
+
+        this.diagram = mock(Diagram.class);
+        when(this.diagram.getNodes()).thenReturn(List.of(this.packageNode, this.otherClassNode));
+        when(this.diagram.getEdges()).thenReturn(List.of(this.createEdge("association"), this.createEdge("generalization"), this.createEdge("association")));
+    }
+
+    @Test
+    public void testNodeLookups() {
+        DiagramIndex diagramIndex = new DiagramIndex(this.diagram);
+
+        assertEquals(Optional.of(this.nestedClassNode), diagramIndex.getNode("nestedClassNode"));
+        assertEquals(Optional.of(this.portNode), diagramIndex.getNode("portNode"));
+        assertEquals(Optional.of("classNode#description"), diagramIndex.getDescriptionId("classNode"));
+        assertTrue(diagramIndex.contains("otherClassNode"));
+        assertFalse(diagramIndex.contains("unknownNode"));
+        assertEquals(Optional.empty(), diagramIndex.getNode("unknownNode"));
+        assertEquals(Optional.empty(), diagramIndex.getDescriptionId("unknownNode"));
+    }
+
+    @Test
+    public void testParentLookups() {
+        DiagramIndex diagramIndex = new DiagramIndex(this.diagram);
+
+        assertEquals(Optional.empty(), diagramIndex.getParentNode("packageNode"));
+        assertEquals(Optional.empty(), diagramIndex.getParentNode("otherClassNode"));
+        assertEquals(Optional.of(this.packageNode), diagramIndex.getParentNode("classNode"));
+        assertEquals(Optional.of(this.classNode), diagramIndex.getParentNode("nestedClassNode"));
+        // The parent of a border node is the node on which it is attached
+        assertEquals(Optional.of(this.packageNode), diagramIndex.getParentNode("portNode"));
+        assertEquals(Optional.empty(), diagramIndex.getParentNode("unknownNode"));
+    }
+
+    @Test
+    public void testDepths() {
+        DiagramIndex diagramIndex = new DiagramIndex(this.diagram);
+
+        assertEquals(0, diagramIndex.getDepth("packageNode"));
+        assertEquals(0, diagramIndex.getDepth("otherClassNode"));
+        assertEquals(1, diagramIndex.getDepth("classNode"));
+        assertEquals(1, diagramIndex.getDepth("portNode"));
+        assertEquals(2, diagramIndex.getDepth("nestedClassNode"));
+        assertEquals(-1, diagramIndex.getDepth("unknownNode"));
+    }
+
+    @Test
+    public void testTargetObjectIdLookups() {
+        DiagramIndex diagramIndex = new DiagramIndex(this.diagram);
+
+        assertEquals(List.of(this.packageNode), diagramIndex.getNodesByTargetObjectId("pack"));
+        assertEquals(List.of(this.portNode, this.portLabelNode), diagramIndex.getNodesByTargetObjectId("port"));
+        // Depth first order of the nodes
+        assertEquals(List.of(this.nestedClassNode, this.otherClassNode), diagramIndex.getNodesByTargetObjectId("classA"));
+        assertEquals(List.of(), diagramIndex.getNodesByTargetObjectId("unknown"));
+    }
+
+    @Test
+    public void testBorderNodes() {
+        DiagramIndex diagramIndex = new DiagramIndex(this.diagram);
+
+        assertTrue(diagramIndex.isInBorderNode("portNode"));
+        // The nodes contained by a border node are in the border node too
+        assertTrue(diagramIndex.isInBorderNode("portLabelNode"));
+        assertFalse(diagramIndex.isInBorderNode("packageNode"));
+        assertFalse(diagramIndex.isInBorderNode("nestedClassNode"));
+        assertFalse(diagramIndex.isInBorderNode("unknownNode"));
+    }
+
+    @Test
+    public void testEdgeLookups() {
+        DiagramIndex diagramIndex = new DiagramIndex(this.diagram);
+
+        List<Edge> edges = this.diagram.getEdges();
+        assertEquals(List.of(edges.get(0), edges.get(2)), diagramIndex.getEdgesByTargetObjectId("association"));
+        assertEquals(List.of(edges.get(1)), diagramIndex.getEdgesByTargetObjectId("generalization"));
+        assertEquals(List.of(), diagramIndex.getEdgesByTargetObjectId("pack"));
+        assertEquals(List.of(), diagramIndex.getEdgesByTargetObjectId("unknown"));
+    }
+
+    @Test
+    public void testIndexIsSharedByTheNavigationService() {
+        DiagramNavigationService diagramNavigationService = new DiagramNavigationService(mock(IEMFNavigationService.class), mock(IObjectService.class));
+
+        DiagramIndex diagramIndex = diagramNavigationService.getDiagramIndex(this.diagram);
+        assertSame(diagramIndex, diagramNavigationService.getDiagramIndex(this.diagram));
+        assertNotSame(diagramIndex, diagramNavigationService.getDiagramIndex(mock(Diagram.class)));
+    }
+
+    private Node createNode(String id, String targetObjectId, List<Node> childNodes) {
+        Node node = mock(Node.class);
+        when(node.getId()).thenReturn(id);
+        when(node.getDescriptionId()).thenReturn(id + "#description");
+        when(node.getTargetObjectId()).thenReturn(targetObjectId);
+        when(node.getChildNodes()).thenReturn(childNodes);
+        return node;
+    }
+
+    private Edge createEdge(String targetObjectId) {
+        Edge edge = mock(Edge.class);
+        when(edge.getTargetObjectId()).thenReturn(targetObjectId);
+        return edge;
+    }
+}
@@ -0,0 +1,172 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceFactoryRegistryImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.papyrus.web.application.profile.dto.UMLProfileVersion;
+import org.eclipse.papyrus.web.application.profile.services.DynamicProfileMetadataIndex;
+import org.eclipse.papyrus.web.application.profile.services.DynamicProfileMetadataIndex.DynamicProfileEntry;
+import org.eclipse.papyrus.web.domain.boundedcontext.profile.ProfileResourceEntity;
+import org.eclipse.papyrus.web.domain.boundedcontext.profile.projections.ProfileMetadataOnly;
+import org.eclipse.uml2.uml.Profile;
+import org.eclipse.uml2.uml.UMLFactory;
+import org.eclipse.uml2.uml.internal.resource.UMLResourceFactoryImpl;
+import org.eclipse.uml2.uml.resource.UMLResource;
+import org.eclipse.uml2.uml.resources.util.UMLResourcesUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link DynamicProfileMetadataIndex}.
+ *
+ * @author Arthur Daussy
+ */
+public class DynamicProfileMetadataIndexTest {
+
+    private static final UUID PROFILE_RESOURCE_ID = UUID.nameUUIDFromBytes("profileResource".getBytes());
+
+    private DynamicProfileMetadataIndex index;
+
+    private AtomicInteger loadCount;
+
+    private ProfileResourceEntity profileResourceEntity;
+
+    private Function<UUID, Optional<ProfileResourceEntity>> profileResourceLoader;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        ResourceFactoryRegistryImpl factoryRegistry = new ResourceFactoryRegistryImpl();
+        factoryRegistry.getExtensionToFactoryMap().put(UMLResource.FILE_EXTENSION, new UMLResourceFactoryImpl());
+        this.index = new DynamicProfileMetadataIndex(factoryRegistry);
+
+        // A profile published before the name, version and nsURI columns have been introduced
+        this.profileResourceEntity = ProfileResourceEntity.newProfile()
+                .id(PROFILE_RESOURCE_ID)
+                .content(this.createProfileContent("LegacyProfile"))
+                .build(null);
+        this.loadCount = new AtomicInteger();
+        this.profileResourceLoader = id -> {
+            this.loadCount.incrementAndGet();
+            return Optional.of(this.profileResourceEntity).filter(entity -> entity.getId().equals(id));
+        };
+    }
+
+    @Test
+    public void testLegacyProfileIsParsedOnce() {
+        ProfileMetadataOnly metadata = new ProfileMetadataOnly(PROFILE_RESOURCE_ID, null, null, null, this.profileResourceEntity.getContentSize());
+
+        List<DynamicProfileEntry> entries = this.index.getEntries(metadata, this.profileResourceLoader);
+        assertEquals(List.of("LegacyProfile"), entries.stream().map(DynamicProfileEntry::name).toList());
+        assertEquals(1, this.loadCount.get());
+
+        entries = this.index.getEntries(metadata, this.profileResourceLoader);
+        assertEquals(List.of("LegacyProfile"), entries.stream().map(DynamicProfileEntry::name).toList());
+        assertEquals(1, this.loadCount.get());
+    }
+
+    @Test
+    public void testLegacyProfileIsParsedAgainWhenItsContentSizeChanges() throws IOException {
+        ProfileMetadataOnly metadata = new ProfileMetadataOnly(PROFILE_RESOURCE_ID, null, null, null, this.profileResourceEntity.getContentSize());
+        this.index.getEntries(metadata, this.profileResourceLoader);
+
+        this.profileResourceEntity = ProfileResourceEntity.newProfile()
+                .id(PROFILE_RESOURCE_ID)
+                .content(this.createProfileContent("RenamedLegacyProfile"))
+                .build(null);
+        ProfileMetadataOnly updatedMetadata = new ProfileMetadataOnly(PROFILE_RESOURCE_ID, null, null, null, this.profileResourceEntity.getContentSize());
+
+        List<DynamicProfileEntry> entries = this.index.getEntries(updatedMetadata, this.profileResourceLoader);
+        assertEquals(List.of("RenamedLegacyProfile"), entries.stream().map(DynamicProfileEntry::name).toList());
+        assertEquals(2, this.loadCount.get());
+    }
+
+    @Test
+    public void testProfileIsReindexedWhenItsMetadataChange() {
+        assertEquals(1, this.index.getEntries(this.profileResourceEntity).size());
+
+        ProfileMetadataOnly metadata = new ProfileMetadataOnly(PROFILE_RESOURCE_ID, null, null, null, this.profileResourceEntity.getContentSize());
+        this.index.getEntries(metadata, this.profileResourceLoader);
+        assertEquals(0, this.loadCount.get());
+
+        ProfileMetadataOnly republishedMetadata = new ProfileMetadataOnly(PROFILE_RESOURCE_ID, "LegacyProfile", "0.0.1", "http://legacy", this.profileResourceEntity.getContentSize());
+        this.index.getEntries(republishedMetadata, this.profileResourceLoader);
+        assertEquals(1, this.loadCount.get());
+    }
+
+    @Test
+    public void testEvict() {
+        ProfileMetadataOnly metadata = new ProfileMetadataOnly(PROFILE_RESOURCE_ID, null, null, null, this.profileResourceEntity.getContentSize());
+        this.index.getEntries(metadata, this.profileResourceLoader);
+        this.index.evict(PROFILE_RESOURCE_ID);
+        this.index.getEntries(metadata, this.profileResourceLoader);
+        assertEquals(2, this.loadCount.get());
+    }
+
+    @Test
+    public void testProfilesWithoutVersion() throws IOException {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        UMLResourcesUtil.init(resourceSet);
+        Resource resource = resourceSet.createResource(URI.createURI("profile." + UMLResource.FILE_EXTENSION));
+        // A profile which has never been defined has no definition annotation
+        Profile undefinedProfile = UMLFactory.eINSTANCE.createProfile();
+        undefinedProfile.setName("UndefinedProfile");
+        resource.getContents().add(undefinedProfile);
+        // A profile which definition has a version annotation without version
+        Profile definedProfile = UMLFactory.eINSTANCE.createProfile();
+        definedProfile.setName("DefinedProfile");
+        resource.getContents().add(definedProfile);
+        definedProfile.define().createEAnnotation("PapyrusVersion");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        resource.save(outputStream, null);
+        ProfileResourceEntity entity = ProfileResourceEntity.newProfile()
+                .id(PROFILE_RESOURCE_ID)
+                .content(outputStream.toString(StandardCharsets.UTF_8))
+                .build(null);
+
+        List<DynamicProfileEntry> entries = this.index.getEntries(entity);
+        assertEquals(List.of("UndefinedProfile", "DefinedProfile"), entries.stream().map(DynamicProfileEntry::name).toList());
+        assertEquals(List.of("", ""), entries.stream().map(DynamicProfileEntry::version).toList());
+        assertEquals(Optional.of(new UMLProfileVersion(0, 0, 0)), entries.get(0).lastVersion());
+        assertEquals(Optional.empty(), entries.get(1).lastVersion());
+    }
+
+    private String createProfileContent(String profileName) throws IOException {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        UMLResourcesUtil.init(resourceSet);
+        Resource resource = resourceSet.createResource(URI.createURI("profile." + UMLResource.FILE_EXTENSION));
+        Profile profile = UMLFactory.eINSTANCE.createProfile();
+        profile.setName(profileName);
+        resource.getContents().add(profile);
+        profile.define();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        resource.save(outputStream, null);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+}
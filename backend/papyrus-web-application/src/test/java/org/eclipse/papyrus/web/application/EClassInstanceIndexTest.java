@@ -0,0 +1,166 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.papyrus.uml.domain.services.EMFUtils;
+import org.eclipse.papyrus.uml.domain.services.scope.ElementRootCandidateSeachProvider;
+import org.eclipse.papyrus.web.application.representations.aqlservices.scope.EClassInstanceIndex;
+import org.eclipse.papyrus.web.application.representations.aqlservices.scope.ReachableElementsServices;
+import org.eclipse.papyrus.web.tests.utils.UMLTestHelper;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.PrimitiveType;
+import org.eclipse.uml2.uml.Type;
+import org.eclipse.uml2.uml.UMLPackage;
+import org.eclipse.uml2.uml.internal.resource.UMLResourceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link EClassInstanceIndex} and the {@link ReachableElementsServices} relying on it.
+ *
+ * @author Jerome Gout
+ */
+public class EClassInstanceIndexTest {
+
+    private final UMLTestHelper umlHelper = new UMLTestHelper();
+
+    private ResourceSet resourceSet;
+
+    private Resource modelResource;
+
+    private Resource libraryResource;
+
+    @BeforeEach
+    public void setUp() {
+        this.resourceSet = new ResourceSetImpl();
+        this.modelResource = new UMLResourceImpl(URI.createURI("inmemory:/model.uml"));
+        this.libraryResource = new UMLResourceImpl(URI.createURI("pathmap://UML_LIBRARIES/UMLPrimitiveTypes.library.uml"));
+        this.resourceSet.getResources().add(this.modelResource);
+        this.resourceSet.getResources().add(this.libraryResource);
+    }
+
+    @Test
+    public void testInstancesAreInContainmentOrder() {
+        Model model = this.umlHelper.createInResource(Model.class, this.modelResource);
+        Package pack = this.umlHelper.createIn(Package.class, model);
+        Class classInPackage = this.umlHelper.createIn(Class.class, pack);
+        Class classInModel = this.umlHelper.createIn(Class.class, model);
+        EClassInstanceIndex index = EClassInstanceIndex.getOrInstall(this.resourceSet);
+        assertEquals(List.of(classInPackage, classInModel), this.getClasses(index));
+
+        // An element created before the others once the index is installed
+        Class firstClass = this.umlHelper.create(Class.class);
+        model.getPackagedElements().add(0, firstClass);
+        assertEquals(List.of(firstClass, classInPackage, classInModel), this.getClasses(index));
+
+        // Moving an element in its container or to another one
+        model.getPackagedElements().move(0, classInModel);
+        assertEquals(List.of(classInModel, firstClass, classInPackage), this.getClasses(index));
+        pack.getPackagedElements().add(firstClass);
+        assertEquals(List.of(classInModel, classInPackage, firstClass), this.getClasses(index));
+    }
+
+    @Test
+    public void testRemovedElementsAreNotIndexed() {
+        Model model = this.umlHelper.createInResource(Model.class, this.modelResource);
+        Package pack = this.umlHelper.createIn(Package.class, model);
+        Class aClass = this.umlHelper.createIn(Class.class, pack);
+        EClassInstanceIndex index = EClassInstanceIndex.getOrInstall(this.resourceSet);
+        assertEquals(List.of(aClass), this.getClasses(index));
+
+        model.getPackagedElements().remove(pack);
+        assertEquals(List.of(), this.getClasses(index));
+
+        this.resourceSet.getResources().remove(this.modelResource);
+        assertEquals(List.of(), index.getInstances(UMLPackage.eINSTANCE.getPackage()).toList());
+    }
+
+    @Test
+    public void testReadOnlyElementsAreIndexedWithoutBeingAdapted() {
+        EClassInstanceIndex index = EClassInstanceIndex.getOrInstall(this.resourceSet);
+        Model model = this.umlHelper.createInResource(Model.class, this.modelResource);
+        // The library is loaded after the installation of the index
+        Model library = this.umlHelper.create(Model.class);
+        PrimitiveType primitiveType = this.umlHelper.createIn(PrimitiveType.class, library);
+        this.libraryResource.getContents().add(library);
+        Class aClass = this.umlHelper.createIn(Class.class, model);
+
+        assertEquals(List.of(aClass, primitiveType), index.getInstances(UMLPackage.eINSTANCE.getType()).toList());
+        assertTrue(this.isAdapted(model));
+        assertTrue(this.isAdapted(aClass));
+        assertFalse(this.isAdapted(library));
+        assertFalse(this.isAdapted(primitiveType));
+
+        this.resourceSet.getResources().remove(this.libraryResource);
+        assertEquals(List.of(aClass), index.getInstances(UMLPackage.eINSTANCE.getType()).toList());
+    }
+
+    @Test
+    public void testOnlyTheEditedResourceIsOrderedAgain() {
+        Model library = this.umlHelper.createInResource(Model.class, this.libraryResource);
+        PrimitiveType primitiveType = this.umlHelper.createIn(PrimitiveType.class, library);
+        Model model = this.umlHelper.createInResource(Model.class, this.modelResource);
+        Class aClass = this.umlHelper.createIn(Class.class, model);
+        EClassInstanceIndex index = EClassInstanceIndex.getOrInstall(this.resourceSet);
+        List<EObject> libraryTypes = index.getInstances(UMLPackage.eINSTANCE.getType(), this.libraryResource);
+        assertEquals(List.of(primitiveType), libraryTypes);
+        assertEquals(List.of(aClass), index.getInstances(UMLPackage.eINSTANCE.getType(), this.modelResource));
+
+        Class firstClass = this.umlHelper.create(Class.class);
+        model.getPackagedElements().add(0, firstClass);
+        assertEquals(List.of(firstClass, aClass), index.getInstances(UMLPackage.eINSTANCE.getType(), this.modelResource));
+        assertSame(libraryTypes, index.getInstances(UMLPackage.eINSTANCE.getType(), this.libraryResource));
+        assertEquals(List.of(firstClass, aClass, primitiveType), index.getInstances(UMLPackage.eINSTANCE.getType()).toList());
+    }
+
+    @Test
+    public void testReachableElementsAreInTheOrderOfTheWalk() {
+        Model library = this.umlHelper.createInResource(Model.class, this.libraryResource);
+        this.umlHelper.createIn(PrimitiveType.class, library);
+        Model model = this.umlHelper.createInResource(Model.class, this.modelResource);
+        Package pack = this.umlHelper.createIn(Package.class, model);
+        this.umlHelper.createIn(Class.class, pack);
+        this.umlHelper.createIn(PrimitiveType.class, model);
+        Class aClass = this.umlHelper.createIn(Class.class, model);
+
+        List<Type> reachableTypes = new ReachableElementsServices().getAllReachableElements(aClass, UMLPackage.eINSTANCE.getType());
+
+        List<Notifier> roots = new ElementRootCandidateSeachProvider().getReachableRoots(aClass);
+        List<Type> walkedTypes = roots.stream().flatMap(root -> EMFUtils.allContainedObjectOfType(root, Type.class)).toList();
+        assertEquals(walkedTypes, reachableTypes);
+    }
+
+    private List<EObject> getClasses(EClassInstanceIndex index) {
+        return index.getInstances(UMLPackage.eINSTANCE.getClass_()).toList();
+    }
+
+    private boolean isAdapted(EObject element) {
+        return element.eAdapters().stream().anyMatch(EClassInstanceIndex.class::isInstance);
+    }
+}
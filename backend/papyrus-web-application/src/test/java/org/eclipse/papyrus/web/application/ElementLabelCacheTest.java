@@ -0,0 +1,207 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application;
+
+import static java.util.stream.Collectors.joining;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.papyrus.web.application.uml.ElementLabelCache;
+import org.eclipse.uml2.common.util.UML2Util;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Element;
+import org.eclipse.uml2.uml.LiteralInteger;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.NamedElement;
+import org.eclipse.uml2.uml.Operation;
+import org.eclipse.uml2.uml.Parameter;
+import org.eclipse.uml2.uml.PrimitiveType;
+import org.eclipse.uml2.uml.Profile;
+import org.eclipse.uml2.uml.Property;
+import org.eclipse.uml2.uml.Stereotype;
+import org.eclipse.uml2.uml.TypedElement;
+import org.eclipse.uml2.uml.UMLFactory;
+import org.eclipse.uml2.uml.UMLPackage;
+import org.eclipse.uml2.uml.internal.resource.UMLResourceImpl;
+import org.eclipse.uml2.uml.resource.UMLResource;
+import org.eclipse.uml2.uml.resources.util.UMLResourcesUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link ElementLabelCache}.
+ *
+ * <p>
+ * The labels computed in this test display the applied stereotypes, the name, the signature of the operations and the
+ * type and the multiplicity of the properties, as the labels of the diagrams do.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public class ElementLabelCacheTest {
+
+    private ResourceSet resourceSet;
+
+    private Model model;
+
+    private int computationCount;
+
+    @BeforeEach
+    public void setUp() {
+        this.resourceSet = new ResourceSetImpl();
+        UMLResourcesUtil.init(this.resourceSet);
+        this.resourceSet.eAdapters().add(new ECrossReferenceAdapter());
+        Resource modelResource = new UMLResourceImpl(URI.createURI("inmemory:/model.uml"));
+        this.resourceSet.getResources().add(modelResource);
+        this.model = UMLFactory.eINSTANCE.createModel();
+        this.model.setName("model");
+        modelResource.getContents().add(this.model);
+    }
+
+    @Test
+    public void testLabelsAreCached() {
+        Class aClass = this.model.createOwnedClass("A", false);
+        Class otherClass = this.model.createOwnedClass("B", false);
+
+        assertEquals("A", this.getLabel(aClass));
+        assertEquals("B", this.getLabel(otherClass));
+        assertEquals("A", this.getLabel(aClass));
+        assertEquals(2, this.computationCount);
+
+        // Only the labels of the renamed class and of its ancestors are computed again
+        aClass.setName("A2");
+        assertEquals("A2", this.getLabel(aClass));
+        assertEquals("B", this.getLabel(otherClass));
+        assertEquals(3, this.computationCount);
+    }
+
+    @Test
+    public void testRenameOfAReferencedType() {
+        PrimitiveType type = this.model.createOwnedPrimitiveType("T");
+        Operation operation = this.createOperation(this.model.createOwnedClass("A", false));
+        operation.createOwnedParameter("p", type);
+
+        assertEquals("op(p : T)", this.getLabel(operation));
+        type.setName("T2");
+        assertEquals("op(p : T2)", this.getLabel(operation));
+        assertEquals(2, this.computationCount);
+    }
+
+    @Test
+    public void testRetype() {
+        PrimitiveType type = this.model.createOwnedPrimitiveType("T");
+        PrimitiveType otherType = this.model.createOwnedPrimitiveType("U");
+        Class aClass = this.model.createOwnedClass("A", false);
+        Operation operation = this.createOperation(aClass);
+        Parameter parameter = operation.createOwnedParameter("p", type);
+        Property property = aClass.createOwnedAttribute("prop", type);
+
+        assertEquals("op(p : T)", this.getLabel(operation));
+        assertEquals("prop : T [1..1]", this.getLabel(property));
+        parameter.setType(otherType);
+        property.setType(otherType);
+        assertEquals("op(p : U)", this.getLabel(operation));
+        assertEquals("prop : U [1..1]", this.getLabel(property));
+    }
+
+    @Test
+    public void testMultiplicityChange() {
+        PrimitiveType type = this.model.createOwnedPrimitiveType("T");
+        Property property = this.model.createOwnedClass("A", false).createOwnedAttribute("prop", type);
+        property.setLower(1);
+
+        assertEquals("prop : T [1..1]", this.getLabel(property));
+        property.setUpper(5);
+        assertEquals("prop : T [1..5]", this.getLabel(property));
+
+        // The value specification of the multiplicity is modified, not the property itself
+        ((LiteralInteger) property.getLowerValue()).setValue(2);
+        assertEquals("prop : T [2..5]", this.getLabel(property));
+    }
+
+    @Test
+    public void testStereotypeApplicationAndUnapplication() {
+        Resource profileResource = new UMLResourceImpl(URI.createURI("inmemory:/profile.uml"));
+        this.resourceSet.getResources().add(profileResource);
+        Profile profile = UMLFactory.eINSTANCE.createProfile();
+        profile.setName("profile");
+        profileResource.getContents().add(profile);
+        Model umlMetamodel = (Model) UML2Util.load(this.resourceSet, URI.createURI(UMLResource.UML_METAMODEL_URI), UMLPackage.Literals.MODEL);
+        Class metaclass = (Class) umlMetamodel.getOwnedType(UMLPackage.Literals.CLASS.getName());
+        profile.createMetaclassReference(metaclass);
+        Stereotype stereotype = profile.createOwnedStereotype("Entity", false);
+        stereotype.createExtension(metaclass, false);
+        profile.define();
+        this.model.applyProfile(profile);
+        Class aClass = this.model.createOwnedClass("A", false);
+
+        assertEquals("A", this.getLabel(aClass));
+        aClass.applyStereotype(stereotype);
+        assertEquals("<<Entity>> A", this.getLabel(aClass));
+        aClass.unapplyStereotype(stereotype);
+        assertEquals("A", this.getLabel(aClass));
+        assertEquals(3, this.computationCount);
+    }
+
+    @Test
+    public void testPathmapElementsAreNotAdapted() {
+        assertEquals("model", this.getLabel(this.model));
+        Model umlMetamodel = (Model) UML2Util.load(this.resourceSet, URI.createURI(UMLResource.UML_METAMODEL_URI), UMLPackage.Literals.MODEL);
+        Class metaclass = (Class) umlMetamodel.getOwnedType(UMLPackage.Literals.CLASS.getName());
+
+        assertEquals("Class", this.getLabel(metaclass));
+        assertEquals("Class", this.getLabel(metaclass));
+        assertEquals(2, this.computationCount);
+        assertFalse(umlMetamodel.eAdapters().stream().anyMatch(ElementLabelCache.class::isInstance));
+        assertFalse(metaclass.eAdapters().stream().anyMatch(ElementLabelCache.class::isInstance));
+    }
+
+    private Operation createOperation(Class owner) {
+        Operation operation = UMLFactory.eINSTANCE.createOperation();
+        operation.setName("op");
+        owner.getOwnedOperations().add(operation);
+        return operation;
+    }
+
+    private String getLabel(EObject element) {
+        return ElementLabelCache.getLabel(element, "test", this::computeLabel);
+    }
+
+    private String computeLabel(EObject element) {
+        this.computationCount++;
+        StringBuilder label = new StringBuilder();
+        if (element instanceof Element umlElement) {
+            umlElement.getAppliedStereotypes().forEach(stereotype -> label.append("<<").append(stereotype.getName()).append(">> "));
+        }
+        if (element instanceof NamedElement namedElement) {
+            label.append(namedElement.getName());
+        }
+        if (element instanceof Operation operation) {
+            label.append(operation.getOwnedParameters().stream().map(this::getTypedElementLabel).collect(joining(", ", "(", ")")));
+        } else if (element instanceof Property property) {
+            label.append(" : ").append(property.getType().getName()).append(" [").append(property.getLower()).append("..").append(property.getUpper()).append("]");
+        }
+        return label.toString();
+    }
+
+    private String getTypedElementLabel(TypedElement typedElement) {
+        return typedElement.getName() + " : " + typedElement.getType().getName();
+    }
+}
@@ -0,0 +1,149 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.papyrus.web.application.configuration.PapyrusObjectService;
+import org.eclipse.papyrus.web.graphics.services.SvgIconOverrideService;
+import org.eclipse.papyrus.web.graphics.services.api.IImageOverrideService;
+import org.eclipse.papyrus.web.tests.utils.UMLTestHelper;
+import org.eclipse.sirius.components.emf.services.DefaultLabelService;
+import org.eclipse.sirius.components.emf.services.LabelFeatureProviderRegistry;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Comment;
+import org.eclipse.uml2.uml.UMLPackage;
+import org.eclipse.uml2.uml.edit.providers.UMLItemProviderAdapterFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the resolution of the icon paths by {@link PapyrusObjectService}.
+ *
+ * @author Arthur Daussy
+ */
+public class PapyrusObjectServiceTest {
+
+    private static final String CLASS_ICON = "/icons/full/obj16/Class";
+
+    private static final String CLASS_SVG_ICON = "/icons-override/full/obj16/Class.svg";
+
+    private final UMLTestHelper umlHelper = new UMLTestHelper();
+
+    private ComposedAdapterFactory composedAdapterFactory;
+
+    private LabelFeatureProviderRegistry labelFeatureProviderRegistry;
+
+    private CountingImageOverrideService imageOverrider;
+
+    private PapyrusObjectService objectService;
+
+    @BeforeEach
+    public void setUp() {
+        this.composedAdapterFactory = new ComposedAdapterFactory(new UMLItemProviderAdapterFactory());
+        this.labelFeatureProviderRegistry = mock(LabelFeatureProviderRegistry.class);
+        this.imageOverrider = new CountingImageOverrideService(new SvgIconOverrideService(Map.of(CLASS_ICON, CLASS_SVG_ICON)));
+        this.objectService = new PapyrusObjectService(this.composedAdapterFactory, this.labelFeatureProviderRegistry, List.of(this.imageOverrider));
+    }
+
+    @Test
+    public void testOverriddenIconPath() {
+        Class aClass = this.umlHelper.create(Class.class);
+        List<String> baseImagePaths = new DefaultLabelService(this.labelFeatureProviderRegistry, this.composedAdapterFactory).getImagePath(aClass);
+
+        List<String> imagePaths = this.objectService.getImagePath(aClass);
+
+        assertTrue(imagePaths.contains(CLASS_SVG_ICON));
+        assertEquals(baseImagePaths.size(), imagePaths.size());
+        for (int i = 0; i < imagePaths.size(); i++) {
+            if (!CLASS_SVG_ICON.equals(imagePaths.get(i))) {
+                assertEquals(baseImagePaths.get(i), imagePaths.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testIconPathWithoutOverride() {
+        Comment comment = this.umlHelper.create(Comment.class);
+        List<String> baseImagePaths = new DefaultLabelService(this.labelFeatureProviderRegistry, this.composedAdapterFactory).getImagePath(comment);
+
+        assertFalse(baseImagePaths.isEmpty());
+        assertEquals(baseImagePaths, this.objectService.getImagePath(comment));
+    }
+
+    @Test
+    public void testOverrideIsResolvedOncePerBaseIcon() {
+        List<String> imagePaths = this.objectService.getImagePath(this.umlHelper.create(Class.class));
+        int lookupCount = this.imageOverrider.lookups.size();
+        assertEquals(lookupCount, this.imageOverrider.lookups.stream().distinct().count());
+
+        assertEquals(imagePaths, this.objectService.getImagePath(this.umlHelper.create(Class.class)));
+        assertEquals(lookupCount, this.imageOverrider.lookups.size());
+    }
+
+    @Test
+    public void testEClassIconPath() {
+        assertEquals(Optional.of(CLASS_SVG_ICON), this.objectService.getEClassImagePath(UMLPackage.eINSTANCE.getClass_()));
+        assertEquals(Optional.empty(), this.objectService.getEClassImagePath(UMLPackage.eINSTANCE.getComment()));
+    }
+
+    @Test
+    public void testSvgIconLookup() {
+        SvgIconOverrideService svgIconOverrideService = new SvgIconOverrideService(Map.of(CLASS_ICON, CLASS_SVG_ICON));
+
+        assertEquals(Optional.of(CLASS_SVG_ICON), svgIconOverrideService.getOverrideImage(CLASS_ICON + ".gif"));
+        assertEquals(Optional.of(CLASS_SVG_ICON), svgIconOverrideService.getOverrideImage(CLASS_ICON + ".gif"));
+        assertEquals(Optional.empty(), svgIconOverrideService.getOverrideImage(CLASS_SVG_ICON));
+        assertEquals(Optional.empty(), svgIconOverrideService.getOverrideImage("/icons/full/obj16/Comment.gif"));
+        assertEquals(Optional.empty(), svgIconOverrideService.getOverrideImage("noExtension"));
+        assertEquals(Optional.empty(), svgIconOverrideService.getOverrideImage((String) null));
+    }
+
+    /**
+     * {@link IImageOverrideService} recording the base icons it is asked to override.
+     *
+     * @author Arthur Daussy
+     */
+    private static final class CountingImageOverrideService implements IImageOverrideService {
+
+        private final IImageOverrideService delegate;
+
+        private final List<String> lookups = new ArrayList<>();
+
+        CountingImageOverrideService(IImageOverrideService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Optional<String> getOverrideImage(String baseImagePath) {
+            this.lookups.add(baseImagePath);
+            return this.delegate.getOverrideImage(baseImagePath);
+        }
+
+        @Override
+        public Optional<String> getOverrideImage(EClass eClass) {
+            return this.delegate.getOverrideImage(eClass);
+        }
+    }
+}
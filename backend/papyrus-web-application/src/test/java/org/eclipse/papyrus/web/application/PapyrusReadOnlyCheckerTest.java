@@ -0,0 +1,113 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.papyrus.web.application.readonly.ReadOnlyResourceRegistry;
+import org.eclipse.papyrus.web.application.readonly.services.PapyrusReadOnlyChecker;
+import org.eclipse.papyrus.web.tests.utils.UMLTestHelper;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.PrimitiveType;
+import org.eclipse.uml2.uml.internal.resource.UMLResourceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link PapyrusReadOnlyChecker} and the {@link ReadOnlyResourceRegistry} it relies on.
+ *
+ * @author Arthur Daussy
+ */
+public class PapyrusReadOnlyCheckerTest {
+
+    private final UMLTestHelper umlHelper = new UMLTestHelper();
+
+    private final PapyrusReadOnlyChecker readOnlyChecker = new PapyrusReadOnlyChecker();
+
+    private ResourceSet resourceSet;
+
+    private Resource modelResource;
+
+    private Resource libraryResource;
+
+    @BeforeEach
+    public void setUp() {
+        this.resourceSet = new ResourceSetImpl();
+        this.modelResource = new UMLResourceImpl(URI.createURI("inmemory:/model.uml"));
+        this.libraryResource = new UMLResourceImpl(URI.createURI("pathmap://UML_LIBRARIES/UMLPrimitiveTypes.library.uml"));
+        this.resourceSet.getResources().add(this.modelResource);
+        this.resourceSet.getResources().add(this.libraryResource);
+    }
+
+    @Test
+    public void testPathmapResourcesAreReadOnly() {
+        this.installRegistry();
+        Model model = this.umlHelper.createInResource(Model.class, this.modelResource);
+        Class aClass = this.umlHelper.createIn(Class.class, model);
+        Model library = this.umlHelper.createInResource(Model.class, this.libraryResource);
+        PrimitiveType primitiveType = this.umlHelper.createIn(PrimitiveType.class, library);
+
+        assertFalse(this.readOnlyChecker.isReadOnly(this.modelResource));
+        assertFalse(this.readOnlyChecker.isReadOnly(model));
+        assertFalse(this.readOnlyChecker.isReadOnly(aClass));
+        assertTrue(this.readOnlyChecker.isReadOnly(this.libraryResource));
+        assertTrue(this.readOnlyChecker.isReadOnly(library));
+        assertTrue(this.readOnlyChecker.isReadOnly(primitiveType));
+    }
+
+    @Test
+    public void testResourcesAddedAfterTheInstallation() {
+        this.installRegistry();
+        Resource profileResource = new UMLResourceImpl(URI.createURI("pathmap://UML_PROFILES/Standard.profile.uml"));
+        Resource otherModelResource = new UMLResourceImpl(URI.createURI("inmemory:/other.uml"));
+        this.resourceSet.getResources().add(profileResource);
+        this.resourceSet.getResources().add(otherModelResource);
+
+        assertTrue(this.readOnlyChecker.isReadOnly(profileResource));
+        assertFalse(this.readOnlyChecker.isReadOnly(otherModelResource));
+    }
+
+    @Test
+    public void testRemovedResources() {
+        ReadOnlyResourceRegistry registry = this.installRegistry();
+        this.resourceSet.getResources().remove(this.libraryResource);
+
+        assertFalse(registry.isReadOnly(this.libraryResource));
+        assertFalse(this.readOnlyChecker.isReadOnly(this.libraryResource));
+    }
+
+    @Test
+    public void testWithoutRegistry() {
+        Model library = this.umlHelper.createInResource(Model.class, this.libraryResource);
+
+        assertFalse(this.readOnlyChecker.isReadOnly(library));
+        assertFalse(this.readOnlyChecker.isReadOnly(this.umlHelper.create(Class.class)));
+        assertFalse(this.readOnlyChecker.isReadOnly("notAnElement"));
+    }
+
+    private ReadOnlyResourceRegistry installRegistry() {
+        ReadOnlyResourceRegistry registry = new ReadOnlyResourceRegistry();
+        registry.registerAll(this.resourceSet.getResources());
+        this.resourceSet.eAdapters().add(registry);
+        assertSame(registry, ReadOnlyResourceRegistry.getRegistry(this.resourceSet));
+        return registry;
+    }
+}
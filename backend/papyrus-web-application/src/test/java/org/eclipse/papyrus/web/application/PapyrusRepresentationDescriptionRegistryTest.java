@@ -0,0 +1,195 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.impl.EPackageRegistryImpl;
+import org.eclipse.papyrus.uml.domain.services.EMFUtils;
+import org.eclipse.papyrus.web.application.representations.PapyrusRepresentationDescriptionRegistry;
+import org.eclipse.papyrus.web.application.representations.uml.AbstractRepresentationDescriptionBuilder;
+import org.eclipse.papyrus.web.application.representations.uml.PapyrusDiagramSnapshots;
+import org.eclipse.sirius.components.diagrams.description.NodeDescription;
+import org.eclipse.sirius.components.representations.IRepresentationDescription;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.ViewPackage;
+import org.eclipse.sirius.components.view.diagram.DiagramDescription;
+import org.eclipse.sirius.components.view.diagram.DiagramElementDescription;
+import org.eclipse.sirius.components.view.diagram.DiagramPackage;
+import org.eclipse.sirius.components.view.emf.IViewConverter;
+import org.eclipse.sirius.components.view.emf.diagram.IDiagramIdProvider;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the registration of the Papyrus diagram descriptions by
+ * {@link PapyrusRepresentationDescriptionRegistry} with the different loading modes.
+ *
+ * <p>
+ * The converter used in this test converts each view element description to a description with the same id, so the
+ * converted descriptions only depend on the static ids generated during the registration.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public class PapyrusRepresentationDescriptionRegistryTest {
+
+    private final IDiagramIdProvider idProvider = mock(IDiagramIdProvider.class, invocation -> this.getStaticId(invocation.getArgument(0)));
+
+    @Test
+    public void testParallelRegistration() {
+        RegisteredDiagrams sequential = this.register(this.buildViews(), false);
+        List<View> parallelViews = PapyrusDiagramSnapshots.createBuilders().parallelStream().map(PapyrusDiagramSnapshots::buildView).toList();
+        RegisteredDiagrams parallel = this.register(parallelViews, true);
+
+        assertFalse(sequential.staticIds().isEmpty());
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    public void testSnapshotRegistration() throws IOException {
+        RegisteredDiagrams sequential = this.register(this.buildViews(), false);
+
+        PapyrusRepresentationDescriptionRegistry registry = this.createRegistry();
+        List<View> loadedViews = new ArrayList<>();
+        for (AbstractRepresentationDescriptionBuilder diagramBuilder : PapyrusDiagramSnapshots.createBuilders()) {
+            // Written as PapyrusDiagramSnapshots does at build time
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            PapyrusDiagramSnapshots.buildView(diagramBuilder).eResource().save(outputStream, Map.of());
+            try (InputStream snapshot = new ByteArrayInputStream(outputStream.toByteArray())) {
+                loadedViews.add(registry.loadDiagramView(diagramBuilder.getRepresentationName(), snapshot));
+            }
+        }
+        registry.registerDiagramViews(loadedViews, true);
+
+        assertEquals(sequential, this.getRegisteredDiagrams(registry, loadedViews));
+    }
+
+    @Test
+    public void testElementDescriptionIndexes() {
+        PapyrusRepresentationDescriptionRegistry registry = this.createRegistry();
+        registry.registerDiagramViews(this.buildViews(), false);
+
+        for (DiagramDescription diagramDescription : registry.getViewDiagrams()) {
+            String diagramId = this.getStaticId(diagramDescription);
+            assertEquals(Optional.of(diagramDescription), registry.getViewDiagramDescriptionById(diagramId));
+            assertEquals(diagramId, registry.getApiDiagramDescriptionById(diagramId).map(IRepresentationDescription::getId).orElse(null));
+
+            registry.getConvertedNode(diagramDescription.getName()).forEach((viewNode, apiNode) -> {
+                assertSame(apiNode, registry.getApiDiagramElementDescription(viewNode).orElse(null));
+                assertSame(apiNode, registry.getApiDiagramElementDescriptionById(apiNode.getId()).orElse(null));
+                assertEquals(Optional.of(viewNode), registry.getViewNodeDescriptionById(this.getStaticId(viewNode)));
+                Optional<DiagramElementDescription> viewNodeByName = registry.getViewDiagramElementDescriptionByName(diagramDescription.getName(), viewNode.getName());
+                assertEquals(Optional.of(viewNode), viewNodeByName);
+            });
+        }
+        assertEquals(Optional.empty(), registry.getViewDiagramElementDescriptionByName("unknownDiagram", "unknownNode"));
+        assertEquals(Optional.empty(), registry.getApiDiagramElementDescriptionById("unknownId"));
+        // The indexes are frozen once the registration is finished
+        assertThrows(UnsupportedOperationException.class, () -> registry.getForms().clear());
+    }
+
+    private List<View> buildViews() {
+        return PapyrusDiagramSnapshots.createBuilders().stream().map(PapyrusDiagramSnapshots::buildView).toList();
+    }
+
+    private RegisteredDiagrams register(List<View> views, boolean parallel) {
+        PapyrusRepresentationDescriptionRegistry registry = this.createRegistry();
+        registry.registerDiagramViews(views, parallel);
+        return this.getRegisteredDiagrams(registry, views);
+    }
+
+    private PapyrusRepresentationDescriptionRegistry createRegistry() {
+        EPackage.Registry ePackageRegistry = new EPackageRegistryImpl();
+        ePackageRegistry.put(ViewPackage.eNS_URI, ViewPackage.eINSTANCE);
+        ePackageRegistry.put(DiagramPackage.eNS_URI, DiagramPackage.eINSTANCE);
+
+        IViewConverter viewConverter = mock(IViewConverter.class);
+        when(viewConverter.convert(any(), any())).thenAnswer(invocation -> {
+            List<View> views = invocation.getArgument(0);
+            return views.stream().flatMap(view -> view.getDescriptions().stream())
+                    .filter(DiagramDescription.class::isInstance)
+                    .map(DiagramDescription.class::cast)
+                    .map(this::convert)
+                    .toList();
+        });
+        return new PapyrusRepresentationDescriptionRegistry(this.idProvider, ePackageRegistry, viewConverter);
+    }
+
+    private IRepresentationDescription convert(DiagramDescription diagramDescription) {
+        List<NodeDescription> nodeDescriptions = EMFUtils.allContainedObjectOfType(diagramDescription, org.eclipse.sirius.components.view.diagram.NodeDescription.class)
+                .map(viewNodeDescription -> {
+                    NodeDescription nodeDescription = mock(NodeDescription.class);
+                    when(nodeDescription.getId()).thenReturn(this.getStaticId(viewNodeDescription));
+                    return nodeDescription;
+                })
+                .toList();
+        org.eclipse.sirius.components.diagrams.description.DiagramDescription converted = mock(org.eclipse.sirius.components.diagrams.description.DiagramDescription.class);
+        when(converted.getId()).thenReturn(this.getStaticId(diagramDescription));
+        when(converted.getLabel()).thenReturn(diagramDescription.getName());
+        when(converted.getNodeDescriptions()).thenReturn(nodeDescriptions);
+        return converted;
+    }
+
+    private String getStaticId(EObject element) {
+        return ((JsonResource) element.eResource()).getID(element);
+    }
+
+    private RegisteredDiagrams getRegisteredDiagrams(PapyrusRepresentationDescriptionRegistry registry, List<View> views) {
+        List<String> staticIds = new ArrayList<>();
+        for (View view : views) {
+            TreeIterator<EObject> iterator = view.eResource().getAllContents();
+            while (iterator.hasNext()) {
+                staticIds.add(this.getStaticId(iterator.next()));
+            }
+        }
+        List<String> diagramIds = registry.getApiDiagrams().stream().map(IRepresentationDescription::getId).toList();
+        Map<String, Map<String, String>> convertedNodes = new LinkedHashMap<>();
+        for (DiagramDescription diagramDescription : registry.getViewDiagrams()) {
+            Map<String, String> convertedNodeIds = new TreeMap<>();
+            registry.getConvertedNode(diagramDescription.getName()).forEach((viewNode, apiNode) -> convertedNodeIds.put(this.getStaticId(viewNode), apiNode.getId()));
+            convertedNodes.put(diagramDescription.getName(), convertedNodeIds);
+        }
+        return new RegisteredDiagrams(staticIds, diagramIds, convertedNodes);
+    }
+
+    /**
+     * The static ids of the registered views, in containment order, the ids of the converted diagrams, in registration
+     * order, and the ids of the converted node descriptions of each diagram by the static id of their view description.
+     *
+     * @author Arthur Daussy
+     */
+    private record RegisteredDiagrams(List<String> staticIds, List<String> diagramIds, Map<String, Map<String, String>> convertedNodes) {
+    }
+}
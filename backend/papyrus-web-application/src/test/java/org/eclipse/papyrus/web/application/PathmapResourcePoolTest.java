@@ -0,0 +1,175 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.papyrus.web.application.pathmap.DefaultUMLPathMapProvider;
+import org.eclipse.papyrus.web.application.pathmap.SharedPathmapResourceMap;
+import org.eclipse.papyrus.web.application.pathmap.services.PathmapResourcePool;
+import org.eclipse.papyrus.web.application.pathmap.services.SharedPathmapObjectSearchService;
+import org.eclipse.papyrus.web.application.pathmap.services.StaticPathmapResourceRegistry;
+import org.eclipse.papyrus.web.application.readonly.services.PapyrusReadOnlyChecker;
+import org.eclipse.papyrus.web.domain.boundedcontext.profile.service.api.IProfileSearchService;
+import org.eclipse.papyrus.web.tests.utils.UMLTestHelper;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.PrimitiveType;
+import org.eclipse.uml2.uml.Property;
+import org.eclipse.uml2.uml.UMLFactory;
+import org.eclipse.uml2.uml.internal.resource.UMLResourceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link PathmapResourcePool} and the {@link SharedPathmapResourceMap} which provides its resources to
+ * the resource sets of the editing contexts.
+ *
+ * @author Arthur Daussy
+ */
+public class PathmapResourcePoolTest {
+
+    private static final URI PRIMITIVE_TYPES_URI = URI.createURI("pathmap://UML_LIBRARIES/UMLPrimitiveTypes.library.uml");
+
+    private static final URI STANDARD_PROFILE_URI = URI.createURI("pathmap://UML_PROFILES/Standard.profile.uml");
+
+    private static final URI UML_METAMODEL_URI = URI.createURI("pathmap://UML_METAMODELS/UML.metamodel.uml");
+
+    private final UMLTestHelper umlHelper = new UMLTestHelper();
+
+    private PathmapResourcePool pathmapResourcePool;
+
+    @BeforeEach
+    public void setUp() {
+        StaticPathmapResourceRegistry registry = new StaticPathmapResourceRegistry();
+        new DefaultUMLPathMapProvider().getPathmaps().forEach(pathMap -> registry.add(pathMap.getResourceURIOpaquePart(), pathMap.getLocalPath()));
+        this.pathmapResourcePool = new PathmapResourcePool(registry, mock(IProfileSearchService.class));
+    }
+
+    @Test
+    public void testResourcesAreSharedBetweenResourceSets() {
+        ResourceSetImpl resourceSet = this.createResourceSet();
+        ResourceSetImpl otherResourceSet = this.createResourceSet();
+
+        Resource sharedResource = resourceSet.getResource(PRIMITIVE_TYPES_URI, true);
+        assertNotNull(sharedResource);
+        assertTrue(this.pathmapResourcePool.isShared(sharedResource));
+        assertSame(sharedResource, otherResourceSet.getResource(PRIMITIVE_TYPES_URI, true));
+        assertSame(sharedResource, this.pathmapResourcePool.getResource(PRIMITIVE_TYPES_URI));
+        // The shared resources are not part of the resource sets
+        assertTrue(resourceSet.getResources().isEmpty());
+        assertEquals(List.of(sharedResource), SharedPathmapResourceMap.getSharedResources(resourceSet));
+        assertEquals(List.of(), SharedPathmapResourceMap.getSharedResources(new ResourceSetImpl()));
+    }
+
+    @Test
+    public void testProxiesAreResolvedToTheSharedElements() {
+        Property property = this.createTypedProperty(this.createResourceSet());
+        Property otherProperty = this.createTypedProperty(this.createResourceSet());
+
+        assertTrue(property.getType() instanceof PrimitiveType);
+        assertFalse(property.getType().eIsProxy());
+        assertEquals("String", property.getType().getName());
+        assertSame(this.pathmapResourcePool.getResource(PRIMITIVE_TYPES_URI), property.getType().eResource());
+        assertSame(property.getType(), otherProperty.getType());
+    }
+
+    @Test
+    public void testSharedResourcesAreFrozen() {
+        Resource standardProfile = this.createResourceSet().getResource(STANDARD_PROFILE_URI, true);
+
+        // The references to the UML metamodel have been resolved, in the pool, before the profile has been shared
+        assertTrue(EcoreUtil.UnresolvedProxyCrossReferencer.find(standardProfile).isEmpty());
+        Resource umlMetamodel = this.pathmapResourcePool.getResource(UML_METAMODEL_URI);
+        assertTrue(EcoreUtil.ExternalCrossReferencer.find(standardProfile).keySet().stream().anyMatch(target -> target.eResource() == umlMetamodel));
+        assertTrue(EcoreUtil.UnresolvedProxyCrossReferencer.find(umlMetamodel).isEmpty());
+    }
+
+    @Test
+    public void testSharedElementsAreReadOnly() {
+        Property property = this.createTypedProperty(this.createResourceSet());
+        PapyrusReadOnlyChecker readOnlyChecker = new PapyrusReadOnlyChecker();
+
+        assertTrue(readOnlyChecker.isReadOnly(property.getType()));
+        assertTrue(readOnlyChecker.isReadOnly(property.getType().eResource()));
+    }
+
+    @Test
+    public void testOtherResourcesAreNotPooled() {
+        ResourceSetImpl resourceSet = this.createResourceSet();
+        URI modelURI = URI.createURI("inmemory:/model.uml");
+
+        assertFalse(this.pathmapResourcePool.isPooled(modelURI));
+        assertNull(this.pathmapResourcePool.getResource(modelURI));
+        assertNull(resourceSet.getResource(modelURI, false));
+        Resource modelResource = new UMLResourceImpl(modelURI);
+        resourceSet.getResources().add(modelResource);
+        assertSame(modelResource, resourceSet.getResource(modelURI, false));
+        assertFalse(this.pathmapResourcePool.isShared(modelResource));
+        assertEquals(List.of(), SharedPathmapResourceMap.getSharedResources(resourceSet));
+    }
+
+    @Test
+    public void testSharedElementsAreFoundFromTheirId() {
+        ResourceSetImpl resourceSet = this.createResourceSet();
+        IEMFEditingContext editingContext = mock(IEMFEditingContext.class);
+        when(editingContext.getDomain()).thenReturn(new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack(), resourceSet));
+        SharedPathmapObjectSearchService objectSearchService = new SharedPathmapObjectSearchService();
+
+        // Only the shared resources requested by the editing context are searched
+        assertFalse(objectSearchService.canHandle(editingContext, "String"));
+        Property property = this.createTypedProperty(resourceSet);
+        assertTrue(objectSearchService.canHandle(editingContext, "String"));
+        assertEquals(Optional.of(property.getType()), objectSearchService.getObject(editingContext, "String"));
+        assertFalse(objectSearchService.canHandle(editingContext, "unknownId"));
+        assertFalse(objectSearchService.canHandle(editingContext, null));
+    }
+
+    private ResourceSetImpl createResourceSet() {
+        ResourceSetImpl resourceSet = new ResourceSetImpl();
+        resourceSet.setURIResourceMap(new SharedPathmapResourceMap(this.pathmapResourcePool, resourceSet.getURIResourceMap()));
+        return resourceSet;
+    }
+
+    private Property createTypedProperty(ResourceSetImpl resourceSet) {
+        Resource resource = new UMLResourceImpl(URI.createURI("inmemory:/model.uml"));
+        resourceSet.getResources().add(resource);
+        Model model = this.umlHelper.createInResource(Model.class, resource);
+        Class aClass = this.umlHelper.createIn(Class.class, model);
+        Property property = this.umlHelper.createIn(Property.class, aClass);
+        PrimitiveType proxy = UMLFactory.eINSTANCE.createPrimitiveType();
+        ((InternalEObject) proxy).eSetProxyURI(PRIMITIVE_TYPES_URI.appendFragment("String"));
+        property.setType(proxy);
+        return property;
+    }
+}
@@ -0,0 +1,120 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.papyrus.uml.domain.services.EMFUtils;
+import org.eclipse.papyrus.uml.domain.services.scope.ElementRootCandidateSeachProvider;
+import org.eclipse.papyrus.web.application.representations.aqlservices.scope.ReachableCandidatesServices;
+import org.eclipse.papyrus.web.tests.utils.UMLTestHelper;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Comment;
+import org.eclipse.uml2.uml.Interface;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.UMLPackage;
+import org.eclipse.uml2.uml.internal.resource.UMLResourceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link ReachableCandidatesServices}, which result is compared to the walk of the reachable roots done
+ * by the former <code>getAllReachable</code> service.
+ *
+ * @author Jerome Gout
+ */
+public class ReachableCandidatesServicesTest {
+
+    private final UMLTestHelper umlHelper = new UMLTestHelper();
+
+    private final ReachableCandidatesServices services = new ReachableCandidatesServices();
+
+    private Model model;
+
+    private Model otherModel;
+
+    @BeforeEach
+    public void setUp() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        // The resource of the other model is before the one of the model in the resource set
+        Resource otherModelResource = new UMLResourceImpl(URI.createURI("inmemory:/other.uml"));
+        Resource modelResource = new UMLResourceImpl(URI.createURI("inmemory:/model.uml"));
+        resourceSet.getResources().add(otherModelResource);
+        resourceSet.getResources().add(modelResource);
+
+        this.otherModel = this.umlHelper.createInResource(Model.class, otherModelResource);
+        this.umlHelper.createIn(Class.class, this.otherModel);
+        this.umlHelper.createIn(Interface.class, this.otherModel);
+        this.model = this.umlHelper.createInResource(Model.class, modelResource);
+        Package pack = this.umlHelper.createIn(Package.class, this.model);
+        this.umlHelper.createIn(Class.class, pack);
+        this.umlHelper.createIn(Comment.class, pack);
+        this.umlHelper.createIn(Interface.class, this.model);
+        this.umlHelper.createIn(Class.class, this.model);
+        this.umlHelper.createIn(Package.class, pack);
+    }
+
+    @Test
+    public void testCandidatesAreInTheOrderOfTheWalk() {
+        for (EObject self : List.of(this.model, this.otherModel)) {
+            for (String typeName : List.of("Classifier", "Class", "Package", "Model", "Comment", "Element")) {
+                assertEquals(this.walk(self, typeName, true), this.services.getAllReachableCandidates(self, typeName), typeName);
+                assertEquals(this.walk(self, typeName, false), this.services.getAllReachableCandidates(self, typeName, false), typeName);
+            }
+        }
+    }
+
+    @Test
+    public void testCandidatesAreComputedAgainAfterAnEdit() {
+        List<EObject> classes = this.services.getAllReachableCandidates(this.model, "Class");
+        assertSame(classes, this.services.getAllReachableCandidates(this.model, "Class"));
+
+        Class newClass = this.umlHelper.create(Class.class);
+        this.model.getPackagedElements().add(0, newClass);
+        assertEquals(this.walk(this.model, "Class", true), this.services.getAllReachableCandidates(this.model, "Class"));
+
+        this.model.getPackagedElements().move(this.model.getPackagedElements().size() - 1, newClass);
+        assertEquals(this.walk(this.model, "Class", true), this.services.getAllReachableCandidates(this.model, "Class"));
+
+        this.model.getPackagedElements().remove(newClass);
+        assertFalse(this.services.getAllReachableCandidates(this.model, "Class").contains(newClass));
+    }
+
+    @Test
+    public void testUnknownType() {
+        assertEquals(List.of(), this.services.getAllReachableCandidates(this.model, "NotAType"));
+        assertEquals(List.of(), this.services.getAllReachableCandidates(null, "Class"));
+    }
+
+    private List<EObject> walk(EObject self, String typeName, boolean withSubTypes) {
+        EClass type = (EClass) UMLPackage.eINSTANCE.getEClassifier(typeName);
+        List<Notifier> roots = new ElementRootCandidateSeachProvider().getReachableRoots(self);
+        return roots.stream()
+                .flatMap(root -> EMFUtils.allContainedObjectOfType(root, EObject.class))
+                .filter(candidate -> candidate.eClass() == type || (withSubTypes && type.isSuperTypeOf(candidate.eClass())))
+                .toList();
+    }
+}
@@ -0,0 +1,125 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.papyrus.web.application.explorer.services.RepresentationTargetIndex;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.web.domain.boundedcontexts.projectsemanticdata.ProjectSemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.projectsemanticdata.services.api.IProjectSemanticDataSearchService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationMetadataCreatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataSearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+
+/**
+ * Test class for {@link RepresentationTargetIndex}.
+ *
+ * @author Arthur Daussy
+ */
+public class RepresentationTargetIndexTest {
+
+    private static final String PROJECT_ID = "project";
+
+    private static final String EDITING_CONTEXT_ID = UUID.nameUUIDFromBytes("editingContext".getBytes()).toString();
+
+    private static final String OTHER_EDITING_CONTEXT_ID = UUID.nameUUIDFromBytes("otherEditingContext".getBytes()).toString();
+
+    private IRepresentationMetadataSearchService representationMetadataSearchService;
+
+    private List<IEditingContextEventProcessor> editingContextEventProcessors;
+
+    private RepresentationTargetIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        ProjectSemanticData projectSemanticData = mock(ProjectSemanticData.class);
+        when(projectSemanticData.getProject()).thenReturn(AggregateReference.to(PROJECT_ID));
+        IProjectSemanticDataSearchService projectSemanticDataSearchService = mock(IProjectSemanticDataSearchService.class);
+        when(projectSemanticDataSearchService.findBySemanticDataId(any())).thenReturn(Optional.of(projectSemanticData));
+
+        RepresentationMetadata representationMetadata = mock(RepresentationMetadata.class);
+        when(representationMetadata.getTargetObjectId()).thenReturn("target");
+        this.representationMetadataSearchService = mock(IRepresentationMetadataSearchService.class);
+        when(this.representationMetadataSearchService.findAllMetadataByProject(any())).thenReturn(List.of(representationMetadata));
+
+        this.editingContextEventProcessors = new ArrayList<>();
+        this.editingContextEventProcessors.add(this.createEditingContextEventProcessor(EDITING_CONTEXT_ID));
+        IEditingContextEventProcessorRegistry editingContextEventProcessorRegistry = mock(IEditingContextEventProcessorRegistry.class);
+        when(editingContextEventProcessorRegistry.getEditingContextEventProcessors()).thenAnswer(invocation -> List.copyOf(this.editingContextEventProcessors));
+
+        this.index = new RepresentationTargetIndex(projectSemanticDataSearchService, this.representationMetadataSearchService, editingContextEventProcessorRegistry);
+    }
+
+    @Test
+    public void testTargetsAreLoadedOnce() {
+        assertEquals(Optional.of(PROJECT_ID), this.index.getProjectId(EDITING_CONTEXT_ID));
+        assertTrue(this.index.hasRepresentation(EDITING_CONTEXT_ID, "target"));
+        assertFalse(this.index.hasRepresentation(EDITING_CONTEXT_ID, "notATarget"));
+        assertFalse(this.index.hasRepresentation(EDITING_CONTEXT_ID, null));
+
+        verify(this.representationMetadataSearchService, times(1)).findAllMetadataByProject(any());
+    }
+
+    @Test
+    public void testTargetsAreLoadedAgainAfterARepresentationCreation() {
+        assertTrue(this.index.hasRepresentation(EDITING_CONTEXT_ID, "target"));
+
+        RepresentationMetadata createdRepresentationMetadata = mock(RepresentationMetadata.class);
+        when(createdRepresentationMetadata.getProject()).thenReturn(AggregateReference.to(PROJECT_ID));
+        RepresentationMetadataCreatedEvent event = mock(RepresentationMetadataCreatedEvent.class);
+        when(event.representationMetadata()).thenReturn(createdRepresentationMetadata);
+        this.index.onRepresentationMetadataCreatedEvent(event);
+
+        assertTrue(this.index.hasRepresentation(EDITING_CONTEXT_ID, "target"));
+        verify(this.representationMetadataSearchService, times(2)).findAllMetadataByProject(any());
+    }
+
+    @Test
+    public void testDisposedEditingContextsAreEvicted() {
+        assertTrue(this.index.hasRepresentation(EDITING_CONTEXT_ID, "target"));
+
+        // The first editing context is disposed and another one is opened on the same project
+        this.editingContextEventProcessors.clear();
+        this.editingContextEventProcessors.add(this.createEditingContextEventProcessor(OTHER_EDITING_CONTEXT_ID));
+        assertTrue(this.index.hasRepresentation(OTHER_EDITING_CONTEXT_ID, "target"));
+        verify(this.representationMetadataSearchService, times(2)).findAllMetadataByProject(any());
+
+        // The project of the live editing context stays indexed
+        assertTrue(this.index.hasRepresentation(OTHER_EDITING_CONTEXT_ID, "target"));
+        verify(this.representationMetadataSearchService, times(2)).findAllMetadataByProject(any());
+    }
+
+    private IEditingContextEventProcessor createEditingContextEventProcessor(String editingContextId) {
+        IEditingContextEventProcessor editingContextEventProcessor = mock(IEditingContextEventProcessor.class);
+        when(editingContextEventProcessor.getEditingContextId()).thenReturn(editingContextId);
+        return editingContextEventProcessor;
+    }
+}
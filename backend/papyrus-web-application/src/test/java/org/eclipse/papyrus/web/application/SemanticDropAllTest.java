@@ -0,0 +1,215 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.papyrus.uml.domain.services.IEditableChecker;
+import org.eclipse.papyrus.web.application.representations.IWebExternalSourceToRepresentationDropBehaviorProvider;
+import org.eclipse.papyrus.web.application.representations.aqlservices.AbstractDiagramService;
+import org.eclipse.papyrus.web.application.representations.aqlservices.utils.IViewHelper;
+import org.eclipse.papyrus.web.application.representations.uml.UMLMetamodelHelper;
+import org.eclipse.papyrus.web.sirius.contributions.IDiagramNavigationService;
+import org.eclipse.papyrus.web.sirius.contributions.IDiagramOperationsService;
+import org.eclipse.papyrus.web.sirius.contributions.IViewDiagramDescriptionService;
+import org.eclipse.papyrus.web.tests.utils.UMLTestHelper;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.ViewCreationRequest;
+import org.eclipse.sirius.components.view.diagram.DiagramDescription;
+import org.eclipse.sirius.components.view.diagram.DiagramFactory;
+import org.eclipse.sirius.components.view.diagram.NodeDescription;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Comment;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.NamedElement;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.UMLPackage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link AbstractDiagramService#semanticDropAll(List, Node, IEditingContext, IDiagramContext, Map)}.
+ *
+ * <p>
+ * The drop behavior used in this test creates a root view or a child view of the target node for each dropped element,
+ * the view creation requests being recorded in the diagram context.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public class SemanticDropAllTest {
+
+    private final UMLTestHelper umlHelper = new UMLTestHelper();
+
+    private final Map<NodeDescription, org.eclipse.sirius.components.diagrams.description.NodeDescription> capturedNodeDescriptions = new LinkedHashMap<>();
+
+    private final List<ViewCreationRequest> viewCreationRequests = new ArrayList<>();
+
+    private IDiagramContext diagramContext;
+
+    private RecordingDiagramService diagramService;
+
+    @BeforeEach
+    public void setUp() {
+        DiagramDescription diagramDescription = DiagramFactory.eINSTANCE.createDiagramDescription();
+        diagramDescription.setName("Diagram");
+        NodeDescription packageNode = this.createNodeDescription("PackageNode", UMLPackage.eINSTANCE.getPackage());
+        diagramDescription.getNodeDescriptions().add(packageNode);
+        packageNode.getChildrenDescriptions().add(this.createNodeDescription("ClassInPackageNode", UMLPackage.eINSTANCE.getClass_()));
+        diagramDescription.getNodeDescriptions().add(this.createNodeDescription("ClassNode", UMLPackage.eINSTANCE.getClass_()));
+        diagramDescription.getNodeDescriptions().add(this.createNodeDescription("CommentNode", UMLPackage.eINSTANCE.getComment()));
+
+        Diagram diagram = mock(Diagram.class);
+        when(diagram.getId()).thenReturn("diagram");
+        this.diagramContext = mock(IDiagramContext.class);
+        when(this.diagramContext.getDiagram()).thenReturn(diagram);
+        when(this.diagramContext.getViewCreationRequests()).thenReturn(this.viewCreationRequests);
+
+        IObjectService objectService = mock(IObjectService.class);
+        when(objectService.getId(any())).thenAnswer(invocation -> this.getId(invocation.getArgument(0)));
+        when(objectService.getKind(any())).thenReturn("kind");
+        when(objectService.getLabel(any())).thenReturn("label");
+
+        IDiagramOperationsService diagramOperationsService = mock(IDiagramOperationsService.class);
+        doAnswer(invocation -> {
+            org.eclipse.sirius.components.diagrams.description.NodeDescription nodeDescription = invocation.getArgument(3);
+            ViewCreationRequest request = mock(ViewCreationRequest.class);
+            when(request.getTargetObjectId()).thenReturn(this.getId(invocation.getArgument(1)));
+            when(request.getDescriptionId()).thenReturn(nodeDescription.getId());
+            this.viewCreationRequests.add(request);
+            return null;
+        }).when(diagramOperationsService).createView(any(), any(), any(), any(), any());
+
+        IViewDiagramDescriptionService viewDiagramService = mock(IViewDiagramDescriptionService.class);
+        when(viewDiagramService.getDiagramDescription(this.capturedNodeDescriptions)).thenReturn(Optional.of(diagramDescription));
+
+        this.diagramService = new RecordingDiagramService(objectService, mock(IDiagramNavigationService.class), diagramOperationsService, mock(IEditableChecker.class),
+                viewDiagramService);
+    }
+
+    @Test
+    public void testContentIsDroppedInTheViewRequestedForItsContainer() {
+        Model model = this.umlHelper.create(Model.class);
+        Package pack = this.umlHelper.createIn(Package.class, model);
+        pack.setName("pack");
+        Class aClass = this.umlHelper.createIn(Class.class, pack);
+        aClass.setName("aClass");
+
+        // The content is given before its container
+        this.diagramService.semanticDropAll(List.of(aClass, pack), null, mock(IEditingContext.class), this.diagramContext, this.capturedNodeDescriptions);
+
+        assertEquals(List.of(pack, aClass), this.diagramService.droppedElements);
+        assertNull(this.diagramService.targetNodes.get(0));
+        Node packageView = this.diagramService.targetNodes.get(1);
+        assertNotNull(packageView);
+        assertEquals("PackageNode", packageView.getDescriptionId());
+        assertEquals("pack", packageView.getTargetObjectId());
+        assertEquals(List.of("pack:PackageNode", "aClass:ClassInPackageNode"), this.getRequests());
+        assertEquals(1, this.diagramService.viewHelpers.size());
+    }
+
+    @Test
+    public void testContentWhichCannotBeDisplayedInItsContainerIsDroppedOnTheTarget() {
+        Model model = this.umlHelper.create(Model.class);
+        Package pack = this.umlHelper.createIn(Package.class, model);
+        pack.setName("pack");
+        Comment comment = this.umlHelper.create(Comment.class);
+        pack.getOwnedComments().add(comment);
+
+        this.diagramService.semanticDropAll(List.of(pack, comment), null, mock(IEditingContext.class), this.diagramContext, this.capturedNodeDescriptions);
+
+        assertEquals(List.of(pack, comment), this.diagramService.droppedElements);
+        assertNull(this.diagramService.targetNodes.get(0));
+        assertNull(this.diagramService.targetNodes.get(1));
+        assertEquals(List.of("pack:PackageNode", "comment:CommentNode"), this.getRequests());
+    }
+
+    private List<String> getRequests() {
+        return this.viewCreationRequests.stream().map(request -> request.getTargetObjectId() + ":" + request.getDescriptionId()).toList();
+    }
+
+    private String getId(Object element) {
+        String id = null;
+        if (element instanceof NamedElement namedElement) {
+            id = namedElement.getName();
+        } else if (element instanceof Comment) {
+            id = "comment";
+        }
+        return id;
+    }
+
+    private NodeDescription createNodeDescription(String name, EClass domainType) {
+        NodeDescription nodeDescription = DiagramFactory.eINSTANCE.createNodeDescription();
+        nodeDescription.setName(name);
+        nodeDescription.setDomainType(new UMLMetamodelHelper().getDomain(domainType));
+
+        org.eclipse.sirius.components.diagrams.description.NodeDescription convertedNodeDescription = mock(org.eclipse.sirius.components.diagrams.description.NodeDescription.class);
+        when(convertedNodeDescription.getId()).thenReturn(name);
+        this.capturedNodeDescriptions.put(nodeDescription, convertedNodeDescription);
+        return nodeDescription;
+    }
+
+    /**
+     * Diagram service recording the semantic drops and the view helpers used to handle them.
+     *
+     * @author Arthur Daussy
+     */
+    private static final class RecordingDiagramService extends AbstractDiagramService {
+
+        private final List<EObject> droppedElements = new ArrayList<>();
+
+        private final List<Node> targetNodes = new ArrayList<>();
+
+        private final List<IViewHelper> viewHelpers = new ArrayList<>();
+
+        RecordingDiagramService(IObjectService objectService, IDiagramNavigationService diagramNavigationService, IDiagramOperationsService diagramOperationsService,
+                IEditableChecker editableChecker, IViewDiagramDescriptionService viewDiagramService) {
+            super(objectService, diagramNavigationService, diagramOperationsService, editableChecker, viewDiagramService, null);
+        }
+
+        @Override
+        protected IWebExternalSourceToRepresentationDropBehaviorProvider buildSemanticDropBehaviorProvider(EObject droppedElement, IEditingContext editionContext,
+                IDiagramContext diagramContext, Map<NodeDescription, org.eclipse.sirius.components.diagrams.description.NodeDescription> capturedNodeDescriptions,
+                IViewHelper createViewHelper) {
+            this.viewHelpers.add(createViewHelper);
+            return (element, targetNode) -> {
+                this.droppedElements.add(element);
+                this.targetNodes.add(targetNode);
+                if (targetNode == null) {
+                    createViewHelper.createRootView(element);
+                } else {
+                    createViewHelper.createChildView(element, targetNode);
+                }
+            };
+        }
+    }
+}
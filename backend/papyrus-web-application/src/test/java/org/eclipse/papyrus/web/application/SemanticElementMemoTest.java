@@ -0,0 +1,189 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.edit.command.RemoveCommand;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.domain.EditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.papyrus.web.sirius.contributions.DiagramNavigationService;
+import org.eclipse.papyrus.web.sirius.contributions.DiagramNavigator;
+import org.eclipse.papyrus.web.sirius.contributions.IEMFNavigationService;
+import org.eclipse.papyrus.web.sirius.contributions.SemanticElementMemo;
+import org.eclipse.papyrus.web.sirius.contributions.query.NodeMatcher;
+import org.eclipse.papyrus.web.sirius.contributions.query.NodeMatcher.BorderNodeStatus;
+import org.eclipse.papyrus.web.tests.utils.UMLTestHelper;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.NamedElement;
+import org.eclipse.uml2.uml.UMLPackage;
+import org.eclipse.uml2.uml.internal.resource.UMLResourceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link SemanticElementMemo} and its use by {@link DiagramNavigator}.
+ *
+ * <p>
+ * The object service used in this test resolves the id of an element from the name of the elements of the model
+ * resource, so that a deleted element cannot be resolved anymore.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public class SemanticElementMemoTest {
+
+    private final UMLTestHelper umlHelper = new UMLTestHelper();
+
+    private final IEditingContext editingContext = mock(IEditingContext.class);
+
+    private final List<String> resolvedIds = new ArrayList<>();
+
+    private IObjectService objectService;
+
+    private EditingDomain editingDomain;
+
+    private Model model;
+
+    private Class aClass;
+
+    @BeforeEach
+    public void setUp() {
+        ResourceSetImpl resourceSet = new ResourceSetImpl();
+        Resource resource = new UMLResourceImpl(URI.createURI("inmemory:/model.uml"));
+        resourceSet.getResources().add(resource);
+        this.editingDomain = new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack(), resourceSet);
+        this.model = this.umlHelper.createInResource(Model.class, resource);
+        this.model.setName("model");
+        this.aClass = this.umlHelper.createIn(Class.class, this.model);
+        this.aClass.setName("A");
+
+        this.objectService = mock(IObjectService.class);
+        when(this.objectService.getObject(any(), any())).thenAnswer(invocation -> {
+            String id = invocation.getArgument(1);
+            this.resolvedIds.add(id);
+            return this.findElement(id);
+        });
+    }
+
+    @Test
+    public void testElementsAreResolvedOnce() {
+        SemanticElementMemo semanticElementMemo = new SemanticElementMemo();
+
+        assertEquals(Optional.of(this.aClass), semanticElementMemo.getObject(this.objectService, this.editingContext, "A"));
+        assertEquals(Optional.of(this.aClass), semanticElementMemo.getObject(this.objectService, this.editingContext, "A"));
+        assertEquals(Optional.of(this.model), semanticElementMemo.getObject(this.objectService, this.editingContext, "model"));
+        assertEquals(List.of("A", "model"), this.resolvedIds);
+
+        // A new memo resolves the ids again
+        assertEquals(Optional.of(this.aClass), new SemanticElementMemo().getObject(this.objectService, this.editingContext, "A"));
+        assertEquals(List.of("A", "model", "A"), this.resolvedIds);
+    }
+
+    @Test
+    public void testUnresolvedIdsAreNotMemoized() {
+        SemanticElementMemo semanticElementMemo = new SemanticElementMemo();
+
+        assertEquals(Optional.empty(), semanticElementMemo.getObject(this.objectService, this.editingContext, "B"));
+        Class otherClass = this.umlHelper.createIn(Class.class, this.model);
+        otherClass.setName("B");
+        assertEquals(Optional.of(otherClass), semanticElementMemo.getObject(this.objectService, this.editingContext, "B"));
+    }
+
+    @Test
+    public void testDeletionAndUndo() {
+        SemanticElementMemo semanticElementMemo = new SemanticElementMemo();
+        assertEquals(Optional.of(this.aClass), semanticElementMemo.getObject(this.objectService, this.editingContext, "A"));
+
+        this.editingDomain.getCommandStack().execute(new RemoveCommand(this.editingDomain, this.model, UMLPackage.eINSTANCE.getPackage_PackagedElement(), this.aClass));
+        assertEquals(Optional.empty(), semanticElementMemo.getObject(this.objectService, this.editingContext, "A"));
+
+        this.editingDomain.getCommandStack().undo();
+        assertEquals(Optional.of(this.aClass), semanticElementMemo.getObject(this.objectService, this.editingContext, "A"));
+
+        this.editingDomain.getCommandStack().redo();
+        assertEquals(Optional.empty(), semanticElementMemo.getObject(this.objectService, this.editingContext, "A"));
+        // A new element with the id of the deleted one is resolved
+        Class newClass = this.umlHelper.createIn(Class.class, this.model);
+        newClass.setName("A");
+        assertEquals(Optional.of(newClass), semanticElementMemo.getObject(this.objectService, this.editingContext, "A"));
+        assertEquals(List.of("A", "A", "A", "A", "A"), this.resolvedIds);
+    }
+
+    @Test
+    public void testNullIsRejected() {
+        SemanticElementMemo semanticElementMemo = new SemanticElementMemo();
+
+        assertThrows(NullPointerException.class, () -> semanticElementMemo.getObject(this.objectService, this.editingContext, null));
+        assertThrows(NullPointerException.class, () -> semanticElementMemo.getObject(null, this.editingContext, "A"));
+        assertThrows(NullPointerException.class, () -> semanticElementMemo.getObject(this.objectService, null, "A"));
+        assertThrows(NullPointerException.class, () -> new DiagramNavigator(new DiagramNavigationService(mock(IEMFNavigationService.class), this.objectService), null, Map.of()));
+    }
+
+    @Test
+    public void testMemoIsSharedByTheLookupsOfANavigator() {
+        Node classNode = mock(Node.class);
+        when(classNode.getTargetObjectId()).thenReturn("A");
+        Node modelNode = mock(Node.class);
+        when(modelNode.getTargetObjectId()).thenReturn("model");
+        when(modelNode.getChildNodes()).thenReturn(List.of(classNode));
+        Diagram diagram = mock(Diagram.class);
+        when(diagram.getNodes()).thenReturn(List.of(modelNode));
+        DiagramNavigationService diagramNavigationService = new DiagramNavigationService(mock(IEMFNavigationService.class), this.objectService);
+        NodeMatcher classMatcher = NodeMatcher.buildSemanticMatcher(BorderNodeStatus.BASIC_NODE, semanticElement -> semanticElement == this.aClass);
+
+        DiagramNavigator diagramNavigator = new DiagramNavigator(diagramNavigationService, diagram, Map.of());
+        assertEquals(List.of(classNode), diagramNavigator.getMatchingNodes(this.editingContext, classMatcher));
+        assertEquals(List.of(classNode), diagramNavigator.getMatchingNodesIn(modelNode, this.editingContext, classMatcher));
+        assertEquals(Optional.of(this.aClass), diagramNavigator.getSemanticElement(this.objectService, this.editingContext, "A"));
+        assertEquals(List.of("model", "A"), this.resolvedIds);
+
+        // Another event uses another memo
+        new DiagramNavigator(diagramNavigationService, diagram, Map.of()).getSemanticElement(this.objectService, this.editingContext, "A");
+        assertEquals(List.of("model", "A", "A"), this.resolvedIds);
+    }
+
+    private Optional<Object> findElement(String name) {
+        Optional<Object> element = Optional.empty();
+        TreeIterator<EObject> iterator = this.model.eResource().getAllContents();
+        while (element.isEmpty() && iterator.hasNext()) {
+            EObject next = iterator.next();
+            if (next instanceof NamedElement namedElement && name.equals(namedElement.getName())) {
+                element = Optional.of(next);
+            }
+        }
+        return element;
+    }
+}
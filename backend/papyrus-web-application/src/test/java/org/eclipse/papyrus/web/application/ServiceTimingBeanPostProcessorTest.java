@@ -0,0 +1,135 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.papyrus.web.application.configuration.ServiceTimingBeanPostProcessor;
+import org.eclipse.papyrus.web.tests.utils.UMLTestHelper;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.NamedElement;
+import org.eclipse.uml2.uml.UMLPackage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Test class for {@link ServiceTimingBeanPostProcessor}.
+ *
+ * <p>
+ * The services are wrapped as when Sirius creates the AQL services, the name of the bean being the name of its class,
+ * and then called by an {@link AQLInterpreter} as in the diagram expressions.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public class ServiceTimingBeanPostProcessorTest {
+
+    private final UMLTestHelper umlHelper = new UMLTestHelper();
+
+    private MeterRegistry meterRegistry;
+
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.meterRegistryProvider = mock(ObjectProvider.class);
+        when(this.meterRegistryProvider.getObject()).thenReturn(this.meterRegistry);
+    }
+
+    @Test
+    public void testServicesAreResolvedOnTheProxiedClass() {
+        TimedServices services = new TimedServices();
+        Object proxy = new ServiceTimingBeanPostProcessor(this.meterRegistryProvider, true).postProcessAfterInitialization(services, TimedServices.class.getName());
+        assertNotSame(services, proxy);
+        assertTrue(proxy instanceof TimedServices);
+
+        Class aClass = this.umlHelper.create(Class.class);
+        aClass.setName("A");
+        Diagram diagram = mock(Diagram.class);
+        when(diagram.getDescriptionId()).thenReturn("classDiagram");
+        IDiagramContext diagramContext = mock(IDiagramContext.class);
+        when(diagramContext.getDiagram()).thenReturn(diagram);
+
+        AQLInterpreter interpreter = new AQLInterpreter(List.of(), List.of(proxy), List.of(UMLPackage.eINSTANCE));
+        Map<String, Object> variables = Map.of("self", aClass, "diagramContext", diagramContext);
+        assertEquals(Optional.of("A!"), interpreter.evaluateExpression(variables, "aql:self.exclaim()").asString());
+        assertEquals(Optional.of("A!"), interpreter.evaluateExpression(variables, "aql:self.exclaim()").asString());
+        assertEquals(Optional.of("A in classDiagram"), interpreter.evaluateExpression(variables, "aql:self.describeIn(diagramContext)").asString());
+
+        assertEquals(2, this.getTimer("exclaim", Monitoring.NONE).count());
+        assertEquals(1, this.getTimer("describeIn", "classDiagram").count());
+    }
+
+    @Test
+    public void testServicesAreNotWrappedWhenDisabled() {
+        TimedServices services = new TimedServices();
+
+        assertSame(services, new ServiceTimingBeanPostProcessor(this.meterRegistryProvider, false).postProcessAfterInitialization(services, TimedServices.class.getName()));
+        assertTrue(this.meterRegistry.getMeters().isEmpty());
+    }
+
+    @Test
+    public void testOnlyTheAQLServicesAreWrapped() {
+        TimedServices services = new TimedServices();
+
+        // A singleton bean of the application is not an AQL service
+        assertSame(services, new ServiceTimingBeanPostProcessor(this.meterRegistryProvider, true).postProcessAfterInitialization(services, "timedServices"));
+        Object notPapyrusService = new Object();
+        assertSame(notPapyrusService, new ServiceTimingBeanPostProcessor(this.meterRegistryProvider, true).postProcessAfterInitialization(notPapyrusService, Object.class.getName()));
+    }
+
+    private Timer getTimer(String method, String descriptionId) {
+        return this.meterRegistry.get(Monitoring.AQL_SERVICE)
+                .tag(Monitoring.CLASS, TimedServices.class.getSimpleName())
+                .tag(Monitoring.METHOD, method)
+                .tag(Monitoring.DESCRIPTION, descriptionId)
+                .timer();
+    }
+
+    /**
+     * Services called by AQL in this test.
+     *
+     * @author Arthur Daussy
+     */
+    public static class TimedServices {
+
+        public String exclaim(EObject self) {
+            return ((NamedElement) self).getName() + "!";
+        }
+
+        public String describeIn(EObject self, IDiagramContext diagramContext) {
+            return ((NamedElement) self).getName() + " in " + diagramContext.getDiagram().getDescriptionId();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.eclipse.papyrus.web.application.explorer.UMLDefaultExplorerExpandAllPathProvider;
+import org.eclipse.papyrus.web.application.explorer.UMLDefaultTreeExplorerInstaller;
+import org.eclipse.sirius.components.collaborative.trees.dto.ExpandAllTreePathInput;
+import org.eclipse.sirius.components.collaborative.trees.dto.ExpandAllTreePathSuccessPayload;
+import org.eclipse.sirius.components.collaborative.trees.dto.TreePath;
+import org.eclipse.sirius.components.collaborative.trees.services.api.ITreeNavigationService;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchService;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.components.trees.Tree;
+import org.eclipse.sirius.components.trees.description.TreeDescription;
+import org.eclipse.uml2.uml.PackageImport;
+import org.eclipse.uml2.uml.UMLFactory;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link UMLDefaultExplorerExpandAllPathProvider}.
+ *
+ * <p>
+ * The tree items are plain strings, their ids, and the tree is described by a map from each item to its children.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public class UMLDefaultExplorerExpandAllPathProviderTest {
+
+    private static final String TREE_DESCRIPTION_ID = "treeDescription";
+
+    private static final String ROOT = "root";
+
+    private static final int MAX_EXPANDED_ITEMS = 10_000;
+
+    @Test
+    public void testPathIsComputedInPreOrder() {
+        Map<Object, List<Object>> children = Map.of(
+                ROOT, List.of("a", "b"),
+                "a", List.of("a1", "a2"),
+                "a2", List.of("a21"));
+
+        TreePath treePath = this.expandAll(children);
+
+        assertEquals(List.of(ROOT, "a", "a1", "a2", "a21", "b"), treePath.getTreeItemIdsToExpand());
+        assertEquals(4, treePath.getMaxDepth());
+    }
+
+    @Test
+    public void testImportsAreNotExpanded() {
+        PackageImport packageImport = UMLFactory.eINSTANCE.createPackageImport();
+        Map<Object, List<Object>> children = Map.of(
+                ROOT, List.of(packageImport, "b"),
+                packageImport, List.of("imported"));
+
+        TreePath treePath = this.expandAll(children);
+
+        assertEquals(List.of(ROOT, packageImport.toString(), "b"), treePath.getTreeItemIdsToExpand());
+    }
+
+    @Test
+    public void testExpandAllIsBounded() {
+        List<Object> manyChildren = new ArrayList<>(IntStream.range(0, MAX_EXPANDED_ITEMS * 2).mapToObj(i -> "child" + i).toList());
+        Map<Object, List<Object>> children = Map.of(ROOT, manyChildren);
+
+        List<String> treeItemIdsToExpand = this.expandAll(children).getTreeItemIdsToExpand();
+
+        assertEquals(MAX_EXPANDED_ITEMS, treeItemIdsToExpand.size());
+        // The partial path is a prefix of the complete pre-order path
+        assertEquals(ROOT, treeItemIdsToExpand.get(0));
+        assertEquals("child" + (MAX_EXPANDED_ITEMS - 2), treeItemIdsToExpand.get(MAX_EXPANDED_ITEMS - 1));
+        assertEquals(treeItemIdsToExpand.size(), treeItemIdsToExpand.stream().distinct().count());
+    }
+
+    private TreePath expandAll(Map<Object, List<Object>> children) {
+        Map<String, Object> objectsById = new HashMap<>();
+        children.forEach((parent, parentChildren) -> {
+            objectsById.put(parent.toString(), parent);
+            parentChildren.forEach(child -> objectsById.put(child.toString(), child));
+        });
+
+        TreeDescription treeDescription = mock(TreeDescription.class);
+        Function<VariableManager, Object> treeItemObjectProvider = variableManager -> variableManager.get(TreeDescription.ID, String.class).map(objectsById::get).orElse(null);
+        Function<VariableManager, Boolean> hasChildrenProvider = variableManager -> variableManager.get(VariableManager.SELF, Object.class).map(children::containsKey).orElse(false);
+        Function<VariableManager, List<?>> childrenProvider = variableManager -> variableManager.get(VariableManager.SELF, Object.class).map(self -> children.getOrDefault(self, List.of()))
+                .orElse(List.of());
+        Function<VariableManager, String> treeItemIdProvider = variableManager -> variableManager.get(VariableManager.SELF, Object.class).map(Object::toString).orElse(null);
+        when(treeDescription.getTreeItemObjectProvider()).thenReturn(treeItemObjectProvider);
+        when(treeDescription.getHasChildrenProvider()).thenReturn(hasChildrenProvider);
+        when(treeDescription.getChildrenProvider()).thenReturn(childrenProvider);
+        when(treeDescription.getTreeItemIdProvider()).thenReturn(treeItemIdProvider);
+
+        IEditingContext editingContext = mock(IEditingContext.class);
+        Tree tree = mock(Tree.class);
+        when(tree.getDescriptionId()).thenReturn(TREE_DESCRIPTION_ID);
+        when(tree.getChildren()).thenReturn(List.of());
+
+        ITreeNavigationService treeNavigationService = mock(ITreeNavigationService.class);
+        when(treeNavigationService.getAncestors(any(), any(), any())).thenReturn(List.of());
+        IRepresentationDescriptionSearchService representationDescriptionSearchService = mock(IRepresentationDescriptionSearchService.class);
+        when(representationDescriptionSearchService.findById(eq(editingContext), eq(TREE_DESCRIPTION_ID))).thenReturn(Optional.of(treeDescription));
+
+        ExpandAllTreePathInput input = mock(ExpandAllTreePathInput.class);
+        when(input.id()).thenReturn(UUID.nameUUIDFromBytes("input".getBytes()));
+        when(input.treeItemId()).thenReturn(ROOT);
+
+        var pathProvider = new UMLDefaultExplorerExpandAllPathProvider(treeNavigationService, representationDescriptionSearchService, mock(UMLDefaultTreeExplorerInstaller.class));
+        IPayload payload = pathProvider.handle(editingContext, tree, input);
+        return assertInstanceOf(ExpandAllTreePathSuccessPayload.class, payload).treePath();
+    }
+}
@@ -0,0 +1,194 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.papyrus.web.application.explorer.ExpandedTreeItemIds;
+import org.eclipse.papyrus.web.application.explorer.builder.aqlservices.UMLDefaultTreeServices;
+import org.eclipse.papyrus.web.application.explorer.services.api.IRepresentationTargetIndex;
+import org.eclipse.papyrus.web.application.readonly.ReadOnlyResourceRegistry;
+import org.eclipse.papyrus.web.application.readonly.services.PapyrusReadOnlyChecker;
+import org.eclipse.papyrus.web.tests.utils.UMLTestHelper;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.core.api.IURLParser;
+import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataSearchService;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.PrimitiveType;
+import org.eclipse.uml2.uml.internal.resource.UMLResourceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the computation of the children of the explorer items done by {@link UMLDefaultTreeServices}.
+ *
+ * @author Arthur Daussy
+ */
+public class UMLDefaultTreeServicesTest {
+
+    private final UMLTestHelper umlHelper = new UMLTestHelper();
+
+    private UMLDefaultTreeServices treeServices;
+
+    private IEditingContext editingContext;
+
+    private EditingContext webEditingContext;
+
+    private Resource modelResource;
+
+    private Resource libraryResource;
+
+    @BeforeEach
+    public void setUp() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        this.modelResource = new UMLResourceImpl(URI.createURI("inmemory:/model.uml"));
+        this.libraryResource = new UMLResourceImpl(URI.createURI("pathmap://UML_LIBRARIES/UMLPrimitiveTypes.library.uml"));
+        resourceSet.getResources().add(this.modelResource);
+        resourceSet.getResources().add(this.libraryResource);
+        ReadOnlyResourceRegistry registry = new ReadOnlyResourceRegistry();
+        registry.registerAll(resourceSet.getResources());
+        resourceSet.eAdapters().add(registry);
+
+        IRepresentationTargetIndex representationTargetIndex = new IRepresentationTargetIndex() {
+            @Override
+            public Optional<String> getProjectId(String editingContextId) {
+                return Optional.empty();
+            }
+
+            @Override
+            public boolean hasRepresentation(String editingContextId, String targetObjectId) {
+                return false;
+            }
+        };
+        this.treeServices = new UMLDefaultTreeServices(List.of(), new IdentityObjectService(), mock(IRepresentationMetadataSearchService.class), new PapyrusReadOnlyChecker(),
+                mock(IURLParser.class), representationTargetIndex);
+        this.editingContext = mock(IEditingContext.class);
+        when(this.editingContext.getId()).thenReturn("editingContext");
+        this.webEditingContext = mock(EditingContext.class);
+        when(this.webEditingContext.getId()).thenReturn("editingContext");
+    }
+
+    @Test
+    public void testCollapsedAndExpandedItems() {
+        Model model = this.umlHelper.createInResource(Model.class, this.modelResource);
+        Package pack = this.umlHelper.createIn(Package.class, model);
+        Class aClass = this.umlHelper.createIn(Class.class, model);
+
+        assertEquals(List.of(), this.treeServices.getChildrenItems(model, this.editingContext, List.of(), List.of(), 0));
+
+        List<String> expandedIds = List.of(this.treeServices.getItemId(model));
+        assertEquals(List.of(pack, aClass), this.treeServices.getChildrenItems(model, this.editingContext, expandedIds, List.of(), 0));
+
+        ExpandedTreeItemIds expandAllIds = new ExpandedTreeItemIds();
+        expandAllIds.add(this.treeServices.getItemId(model));
+        assertEquals(List.of(pack, aClass), this.treeServices.getChildrenItems(model, this.editingContext, expandAllIds, List.of(), 0));
+    }
+
+    @Test
+    public void testExpandedIdsOfSuccessiveRenderings() {
+        Model model = this.umlHelper.createInResource(Model.class, this.modelResource);
+        Package pack = this.umlHelper.createIn(Package.class, model);
+        Class aClass = this.umlHelper.createIn(Class.class, pack);
+
+        // The same list instance is modified between two renderings
+        List<String> expandedIds = new ArrayList<>();
+        expandedIds.add(this.treeServices.getItemId(model));
+        assertEquals(List.of(pack), this.treeServices.getChildrenItems(model, this.editingContext, expandedIds, List.of(), 0));
+        assertEquals(List.of(), this.treeServices.getChildrenItems(pack, this.editingContext, expandedIds, List.of(), 0));
+
+        expandedIds.add(this.treeServices.getItemId(pack));
+        assertEquals(List.of(aClass), this.treeServices.getChildrenItems(pack, this.editingContext, expandedIds, List.of(), 0));
+
+        expandedIds.remove(this.treeServices.getItemId(model));
+        assertEquals(List.of(), this.treeServices.getChildrenItems(model, this.editingContext, expandedIds, List.of(), 0));
+    }
+
+    @Test
+    public void testChildrenAreComputedAgainAfterAnEdit() {
+        Model model = this.umlHelper.createInResource(Model.class, this.modelResource);
+        Class aClass = this.umlHelper.createIn(Class.class, model);
+        List<String> expandedIds = List.of(this.treeServices.getItemId(model));
+
+        assertEquals(List.of(aClass), this.treeServices.getChildrenItems(model, this.editingContext, expandedIds, List.of(), 0));
+        assertTrue(this.hasSemanticChildrenAdapter(model));
+
+        Package pack = this.umlHelper.createIn(Package.class, model);
+        assertEquals(List.of(aClass, pack), this.treeServices.getChildrenItems(model, this.editingContext, expandedIds, List.of(), 0));
+
+        model.getPackagedElements().remove(aClass);
+        assertEquals(List.of(pack), this.treeServices.getChildrenItems(model, this.editingContext, expandedIds, List.of(), 0));
+        assertTrue(this.treeServices.hasChildren(model, this.webEditingContext, List.of(), 0));
+
+        model.getPackagedElements().clear();
+        assertFalse(this.treeServices.hasChildren(model, this.webEditingContext, List.of(), 0));
+    }
+
+    @Test
+    public void testReadOnlyElementsAreNotAdapted() {
+        Model library = this.umlHelper.createInResource(Model.class, this.libraryResource);
+        PrimitiveType primitiveType = this.umlHelper.createIn(PrimitiveType.class, library);
+        List<String> expandedIds = List.of(this.treeServices.getItemId(library));
+
+        assertEquals(List.of(primitiveType), this.treeServices.getChildrenItems(library, this.editingContext, expandedIds, List.of(), 0));
+        assertTrue(this.treeServices.hasChildren(library, this.webEditingContext, List.of(), 0));
+        assertFalse(this.hasSemanticChildrenAdapter(library));
+    }
+
+    private boolean hasSemanticChildrenAdapter(EObject element) {
+        return element.eAdapters().stream().anyMatch(adapter -> "SemanticChildrenAdapter".equals(adapter.getClass().getSimpleName()));
+    }
+
+    /**
+     * {@link IObjectService} giving a stable id to each element.
+     *
+     * @author Arthur Daussy
+     */
+    private static final class IdentityObjectService extends IObjectService.NoOp {
+
+        private final Map<Object, String> ids = new IdentityHashMap<>();
+
+        @Override
+        public String getId(Object object) {
+            return this.ids.computeIfAbsent(object, o -> "element" + this.ids.size());
+        }
+
+        @Override
+        public List<Object> getContents(Object object) {
+            List<Object> contents = List.of();
+            if (object instanceof EObject eObject) {
+                contents = List.copyOf(eObject.eContents());
+            }
+            return contents;
+        }
+    }
+}
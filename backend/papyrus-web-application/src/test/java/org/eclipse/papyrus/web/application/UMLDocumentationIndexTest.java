@@ -0,0 +1,68 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.eclipse.papyrus.web.application.properties.UMLDocumentationIndex;
+import org.eclipse.papyrus.web.application.properties.UMLDocumentationService;
+import org.eclipse.uml2.uml.UMLPackage;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link UMLDocumentationIndex} and the {@link UMLDocumentationService} relying on it.
+ *
+ * @author Jerome Gout
+ */
+public class UMLDocumentationIndexTest {
+
+    private final UMLDocumentationService documentationService = new UMLDocumentationService();
+
+    @Test
+    public void testWrittenIndexIsReadIdentically() throws IOException {
+        UMLDocumentationIndex extractedIndex = UMLDocumentationIndex.extract();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        extractedIndex.write(outputStream);
+        UMLDocumentationIndex readIndex = UMLDocumentationIndex.read(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        assertFalse(extractedIndex.getEntryKeys().isEmpty());
+        assertEquals(extractedIndex.getEntryKeys(), readIndex.getEntryKeys());
+        for (String entryKey : extractedIndex.getEntryKeys()) {
+            assertEquals(extractedIndex.getDocumentation(entryKey), readIndex.getDocumentation(entryKey), entryKey);
+            assertEquals(this.documentationService.getDocumentation(entryKey), readIndex.getDocumentation(entryKey), entryKey);
+        }
+    }
+
+    @Test
+    public void testDocumentationEntries() {
+        String nameKey = this.documentationService.getDocumentationEntryKey(UMLPackage.eINSTANCE.getClass_().getName(), UMLPackage.eINSTANCE.getNamedElement_Name().getName());
+        String nameDocumentation = this.documentationService.getDocumentation(nameKey);
+        assertFalse(nameDocumentation.isEmpty());
+        // The documentation of an inherited feature is shared by all the classifiers
+        String propertyNameKey = this.documentationService.getDocumentationEntryKey(UMLPackage.eINSTANCE.getProperty().getName(), UMLPackage.eINSTANCE.getNamedElement_Name().getName());
+        assertEquals(nameDocumentation, this.documentationService.getDocumentation(propertyNameKey));
+
+        String multiplicityKey = this.documentationService.getDocumentationEntryKey(UMLPackage.eINSTANCE.getMultiplicityElement().getName(), "");
+        assertTrue(this.documentationService.getDocumentation(multiplicityKey).endsWith("Example of valid formats: 1, 0..12, 1..*, *"));
+
+        assertNull(this.documentationService.getDocumentation(this.documentationService.getDocumentationEntryKey("NotAClassifier", "name")));
+    }
+}
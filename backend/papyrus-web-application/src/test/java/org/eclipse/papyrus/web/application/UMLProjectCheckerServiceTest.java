@@ -0,0 +1,138 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.papyrus.web.application.templates.projects.PapyrusUMLNatures;
+import org.eclipse.papyrus.web.application.templates.service.UMLProjectCheckerService;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Nature;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.events.ProjectDeletedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.services.api.IProjectSearchService;
+import org.eclipse.sirius.web.domain.boundedcontexts.projectsemanticdata.ProjectSemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.projectsemanticdata.services.api.IProjectSemanticDataSearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Test class for the memoization of the project natures done by {@link UMLProjectCheckerService}.
+ *
+ * @author Arthur Daussy
+ */
+public class UMLProjectCheckerServiceTest {
+
+    private static final String PROJECT_ID = "papyrusProject";
+
+    private static final String EDITING_CONTEXT_ID = UUID.nameUUIDFromBytes("editingContext".getBytes()).toString();
+
+    private IProjectSearchService projectSearchService;
+
+    private Project project;
+
+    private MeterRegistry meterRegistry;
+
+    private UMLProjectCheckerService checker;
+
+    @BeforeEach
+    public void setUp() {
+        this.project = mock(Project.class);
+        when(this.project.getId()).thenReturn(PROJECT_ID);
+        when(this.project.getNatures()).thenReturn(List.of(new Nature(PapyrusUMLNatures.UML)));
+
+        ProjectSemanticData projectSemanticData = mock(ProjectSemanticData.class);
+        when(projectSemanticData.getProject()).thenReturn(AggregateReference.to(PROJECT_ID));
+        IProjectSemanticDataSearchService projectSemanticDataSearchService = mock(IProjectSemanticDataSearchService.class);
+        when(projectSemanticDataSearchService.findBySemanticDataId(any())).thenReturn(Optional.of(projectSemanticData));
+
+        this.projectSearchService = mock(IProjectSearchService.class);
+        when(this.projectSearchService.findById(PROJECT_ID)).thenReturn(Optional.of(this.project));
+
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.checker = new UMLProjectCheckerService(this.projectSearchService, projectSemanticDataSearchService, this.meterRegistry);
+    }
+
+    @Test
+    public void testMissThenHit() {
+        assertTrue(this.checker.isPapyrusProject(EDITING_CONTEXT_ID));
+        assertTrue(this.checker.isPapyrusProject(EDITING_CONTEXT_ID));
+
+        verify(this.projectSearchService, times(1)).findById(PROJECT_ID);
+        assertEquals(1, this.count(Monitoring.MISS));
+        assertEquals(1, this.count(Monitoring.HIT));
+    }
+
+    @Test
+    public void testUnresolvedProjectIsNotMemoized() {
+        when(this.projectSearchService.findById(PROJECT_ID)).thenReturn(Optional.empty());
+        assertFalse(this.checker.isPapyrusProject(EDITING_CONTEXT_ID));
+
+        when(this.projectSearchService.findById(PROJECT_ID)).thenReturn(Optional.of(this.project));
+        assertTrue(this.checker.isPapyrusProject(EDITING_CONTEXT_ID));
+        assertEquals(2, this.count(Monitoring.MISS));
+        assertEquals(0, this.count(Monitoring.HIT));
+    }
+
+    @Test
+    public void testInvalidate() {
+        assertTrue(this.checker.isPapyrusProject(EDITING_CONTEXT_ID));
+
+        when(this.project.getNatures()).thenReturn(List.of());
+        assertTrue(this.checker.isPapyrusProject(EDITING_CONTEXT_ID));
+
+        this.checker.invalidate("anotherProject");
+        assertTrue(this.checker.isPapyrusProject(EDITING_CONTEXT_ID));
+
+        this.checker.invalidate(PROJECT_ID);
+        assertFalse(this.checker.isPapyrusProject(EDITING_CONTEXT_ID));
+        verify(this.projectSearchService, times(2)).findById(PROJECT_ID);
+    }
+
+    @Test
+    public void testProjectDeletion() {
+        assertTrue(this.checker.isPapyrusProject(EDITING_CONTEXT_ID));
+
+        ProjectDeletedEvent event = mock(ProjectDeletedEvent.class);
+        when(event.project()).thenReturn(this.project);
+        this.checker.onProjectDeletedEvent(event);
+
+        assertTrue(this.checker.isPapyrusProject(EDITING_CONTEXT_ID));
+        assertEquals(2, this.count(Monitoring.MISS));
+    }
+
+    @Test
+    public void testInvalidEditingContextId() {
+        assertFalse(this.checker.isPapyrusProject(null));
+        assertFalse(this.checker.isPapyrusProject("notAnUUID"));
+    }
+
+    private double count(String result) {
+        return this.meterRegistry.get(Monitoring.CACHE).tag(Monitoring.RESULT, result).counter().count();
+    }
+}
@@ -0,0 +1,141 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.papyrus.web.application.representations.aqlservices.utils.ViewHelper;
+import org.eclipse.papyrus.web.application.representations.uml.AbstractRepresentationDescriptionBuilder;
+import org.eclipse.papyrus.web.application.representations.uml.UMLMetamodelHelper;
+import org.eclipse.papyrus.web.sirius.contributions.IDiagramNavigationService;
+import org.eclipse.papyrus.web.sirius.contributions.IDiagramOperationsService;
+import org.eclipse.papyrus.web.tests.utils.UMLTestHelper;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.components.NodeContainmentKind;
+import org.eclipse.sirius.components.view.diagram.DiagramDescription;
+import org.eclipse.sirius.components.view.diagram.DiagramFactory;
+import org.eclipse.sirius.components.view.diagram.NodeDescription;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Component;
+import org.eclipse.uml2.uml.UMLPackage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the choice of the node description used by {@link ViewHelper} to represent an element.
+ *
+ * @author Arthur Daussy
+ */
+public class ViewHelperTest {
+
+    private final UMLTestHelper umlHelper = new UMLTestHelper();
+
+    private final Map<NodeDescription, org.eclipse.sirius.components.diagrams.description.NodeDescription> capturedNodeDescriptions = new LinkedHashMap<>();
+
+    private DiagramDescription diagramDescription;
+
+    private IDiagramOperationsService diagramOperationsService;
+
+    private IDiagramContext diagramContext;
+
+    private IObjectService objectService;
+
+    @BeforeEach
+    public void setUp() {
+        this.diagramDescription = DiagramFactory.eINSTANCE.createDiagramDescription();
+        this.diagramDescription.setName("Diagram");
+        this.diagramOperationsService = mock(IDiagramOperationsService.class);
+
+        Diagram diagram = mock(Diagram.class);
+        when(diagram.getId()).thenReturn("diagram");
+        this.diagramContext = mock(IDiagramContext.class);
+        when(this.diagramContext.getDiagram()).thenReturn(diagram);
+
+        this.objectService = mock(IObjectService.class);
+        when(this.objectService.getId(any())).thenReturn("element");
+        when(this.objectService.getKind(any())).thenReturn("kind");
+        when(this.objectService.getLabel(any())).thenReturn("label");
+    }
+
+    @Test
+    public void testDescriptionWithTheExactTypeIsPreferred() {
+        this.addNodeDescription("NamedElementNode", UMLPackage.eINSTANCE.getNamedElement());
+        this.addNodeDescription("ClassifierNode", UMLPackage.eINSTANCE.getClassifier());
+        NodeDescription classNode = this.addNodeDescription("ClassNode", UMLPackage.eINSTANCE.getClass_());
+        this.addNodeDescription("OtherClassNode", UMLPackage.eINSTANCE.getClass_());
+
+        Class aClass = this.umlHelper.create(Class.class);
+        assertTrue(this.createViewHelper().createRootView(aClass));
+
+        verify(this.diagramOperationsService).createView(eq(this.diagramContext), eq(aClass), any(), eq(this.capturedNodeDescriptions.get(classNode)), eq(NodeContainmentKind.CHILD_NODE));
+        assertEquals(List.of("ClassNode", "OtherClassNode"), this.getFakeNodeDescriptionIds(aClass));
+    }
+
+    @Test
+    public void testMoreSpecializedDescriptionsAreRankedFirst() {
+        this.addNodeDescription("NamedElementNode", UMLPackage.eINSTANCE.getNamedElement());
+        this.addNodeDescription(AbstractRepresentationDescriptionBuilder.SHARED_DESCRIPTIONS, UMLPackage.eINSTANCE.getClass_());
+        this.addNodeDescription("ClassNode", UMLPackage.eINSTANCE.getClass_());
+        this.addNodeDescription("ClassifierNode", UMLPackage.eINSTANCE.getClassifier());
+        this.addNodeDescription("PackageNode", UMLPackage.eINSTANCE.getPackage());
+
+        Component component = this.umlHelper.create(Component.class);
+
+        assertEquals(List.of("ClassNode", "ClassifierNode", "NamedElementNode"), this.getFakeNodeDescriptionIds(component));
+    }
+
+    @Test
+    public void testCandidatesAreComputedAgainWhenTheDescriptionIsModified() {
+        this.addNodeDescription("ClassNode", UMLPackage.eINSTANCE.getClass_());
+        Component component = this.umlHelper.create(Component.class);
+        assertEquals(List.of("ClassNode"), this.getFakeNodeDescriptionIds(component));
+
+        this.addNodeDescription("ComponentNode", UMLPackage.eINSTANCE.getComponent());
+        assertEquals(List.of("ComponentNode"), this.getFakeNodeDescriptionIds(component));
+    }
+
+    private List<String> getFakeNodeDescriptionIds(org.eclipse.emf.ecore.EObject element) {
+        return this.createViewHelper().createFakeNodes(element, null).stream().map(Node::getDescriptionId).toList();
+    }
+
+    private ViewHelper createViewHelper() {
+        return new ViewHelper(this.objectService, new IDiagramNavigationService.NoOp(), this.diagramOperationsService, this.diagramContext, this.diagramDescription, this.capturedNodeDescriptions);
+    }
+
+    private NodeDescription addNodeDescription(String name, EClass domainType) {
+        NodeDescription nodeDescription = DiagramFactory.eINSTANCE.createNodeDescription();
+        nodeDescription.setName(name);
+        nodeDescription.setDomainType(new UMLMetamodelHelper().getDomain(domainType));
+        this.diagramDescription.getNodeDescriptions().add(nodeDescription);
+
+        org.eclipse.sirius.components.diagrams.description.NodeDescription convertedNodeDescription = mock(org.eclipse.sirius.components.diagrams.description.NodeDescription.class);
+        when(convertedNodeDescription.getId()).thenReturn(name);
+        this.capturedNodeDescriptions.put(nodeDescription, convertedNodeDescription);
+        return nodeDescription;
+    }
+}
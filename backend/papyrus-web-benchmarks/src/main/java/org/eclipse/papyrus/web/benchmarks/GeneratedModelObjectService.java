@@ -0,0 +1,90 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.benchmarks;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.uml2.uml.NamedElement;
+
+/**
+ * Light {@link IObjectService} giving the ids of a {@link GeneratedUMLModel}, so that the benchmarks measure the
+ * Papyrus services and not the Sirius ones.
+ *
+ * @author Arthur Daussy
+ */
+public class GeneratedModelObjectService extends IObjectService.NoOp {
+
+    private static final String KIND_PREFIX = "siriusComponents://semantic?domain=uml&entity=";
+
+    private final GeneratedUMLModel generatedModel;
+
+    public GeneratedModelObjectService(GeneratedUMLModel generatedModel) {
+        this.generatedModel = Objects.requireNonNull(generatedModel);
+    }
+
+    @Override
+    public String getId(Object object) {
+        String id = null;
+        if (object instanceof EObject eObject) {
+            id = this.generatedModel.getId(eObject);
+        }
+        return id;
+    }
+
+    @Override
+    public Optional<Object> getObject(IEditingContext editingContext, String objectId) {
+        return Optional.ofNullable(this.generatedModel.getObject(objectId));
+    }
+
+    @Override
+    public String getLabel(Object object) {
+        String label = "";
+        if (object instanceof NamedElement namedElement && namedElement.getName() != null) {
+            label = namedElement.getName();
+        }
+        return label;
+    }
+
+    @Override
+    public String getKind(Object object) {
+        String kind = "";
+        if (object instanceof EObject eObject) {
+            kind = KIND_PREFIX + eObject.eClass().getName();
+        }
+        return kind;
+    }
+
+    @Override
+    public List<String> getImagePath(Object object) {
+        List<String> imagePath = List.of();
+        if (object instanceof EObject eObject) {
+            imagePath = List.of("/icons/full/obj16/" + eObject.eClass().getName() + ".svg");
+        }
+        return imagePath;
+    }
+
+    @Override
+    public List<Object> getContents(Object object) {
+        List<Object> contents = List.of();
+        if (object instanceof EObject eObject) {
+            contents = List.copyOf(eObject.eContents());
+        }
+        return contents;
+    }
+}
@@ -0,0 +1,125 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.benchmarks;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.Profile;
+
+/**
+ * A model created by the {@link UMLModelGenerator}.
+ *
+ * <p>
+ * The ids of the elements are kept outside of their resources, so that they stay stable when the elements are moved
+ * to another resource, as done by the export.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public final class GeneratedUMLModel {
+
+    private final ResourceSet resourceSet;
+
+    private final Resource modelResource;
+
+    private final Model model;
+
+    private final Profile profile;
+
+    private final List<Class> classes;
+
+    private final Map<EObject, String> idsByObject = new IdentityHashMap<>();
+
+    private final Map<String, EObject> objectsById = new HashMap<>();
+
+    private Set<String> diagramTargetIds = Set.of();
+
+    GeneratedUMLModel(ResourceSet resourceSet, Resource modelResource, Model model, Profile profile, List<Class> classes) {
+        this.resourceSet = Objects.requireNonNull(resourceSet);
+        this.modelResource = Objects.requireNonNull(modelResource);
+        this.model = Objects.requireNonNull(model);
+        this.profile = Objects.requireNonNull(profile);
+        this.classes = List.copyOf(classes);
+    }
+
+    void register(EObject eObject, String id) {
+        this.idsByObject.put(eObject, id);
+        this.objectsById.put(id, eObject);
+    }
+
+    void setDiagramTargetIds(Set<String> diagramTargetIds) {
+        this.diagramTargetIds = Set.copyOf(diagramTargetIds);
+    }
+
+    public ResourceSet getResourceSet() {
+        return this.resourceSet;
+    }
+
+    public Resource getModelResource() {
+        return this.modelResource;
+    }
+
+    public Model getModel() {
+        return this.model;
+    }
+
+    public Profile getProfile() {
+        return this.profile;
+    }
+
+    public List<Class> getClasses() {
+        return this.classes;
+    }
+
+    /**
+     * Gets the id of the given element.
+     *
+     * @param eObject
+     *            an element
+     * @return the id or <code>null</code> if the element is not part of the generated model
+     */
+    public String getId(EObject eObject) {
+        return this.idsByObject.get(eObject);
+    }
+
+    /**
+     * Gets the element with the given id.
+     *
+     * @param id
+     *            the id of an element
+     * @return the element or <code>null</code> if the generated model has no element with this id
+     */
+    public EObject getObject(String id) {
+        return this.objectsById.get(id);
+    }
+
+    /**
+     * Gets the ids of the elements targeted by a diagram.
+     *
+     * @return the ids of the targets of the diagrams
+     */
+    public Set<String> getDiagramTargetIds() {
+        return this.diagramTargetIds;
+    }
+}
@@ -0,0 +1,72 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the Papyrus benchmarks.
+ *
+ * <p>
+ * It accepts the usual JMH options, such as a regular expression of the benchmarks to run or <code>-l</code> to list
+ * them. Unless another format is asked for, the results are written in JSON, in the {@value #DEFAULT_RESULT_FILE}
+ * file, so that they can be compared between two builds.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public final class PapyrusBenchmarks {
+
+    /**
+     * The file of the results when no other file is given with the <code>-rff</code> option.
+     */
+    public static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    private PapyrusBenchmarks() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args
+     *            the JMH options
+     * @throws CommandLineOptionException
+     *             if the options are not valid
+     * @throws RunnerException
+     *             if the benchmarks cannot be run
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+        Runner runner = new Runner(options.build());
+        if (commandLineOptions.shouldList()) {
+            runner.list();
+        } else {
+            runner.run();
+        }
+    }
+}
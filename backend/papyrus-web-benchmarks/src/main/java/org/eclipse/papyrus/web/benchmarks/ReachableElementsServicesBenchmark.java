@@ -0,0 +1,91 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.papyrus.web.application.representations.aqlservices.scope.ReachableElementsServices;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Element;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.UMLPackage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks of the {@link ReachableElementsServices}, used to fill the reference widgets of the property pages.
+ *
+ * @author Arthur Daussy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ReachableElementsServicesBenchmark {
+
+    private final ReachableElementsServices reachableElementsServices = new ReachableElementsServices();
+
+    private Class self;
+
+    private EObject stereotypeApplication;
+
+    @Setup
+    public void setup(UMLModelState modelState) {
+        List<Class> classes = modelState.getGeneratedModel().getClasses();
+        this.self = classes.get(classes.size() / 2);
+        this.stereotypeApplication = modelState.getGeneratedModel().getModelResource().getContents().stream()
+                .filter(eObject -> eObject.eClass().getEStructuralFeature(UMLModelGenerator.RELATED_STEREOTYPE_APPLICATION) != null)
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Benchmark
+    public List<EObject> getAllReachableTypes() {
+        // The candidates of the "type" reference of a Property
+        return this.reachableElementsServices.getAllReachableElements(this.self.getOwnedAttributes().get(0), "type");
+    }
+
+    @Benchmark
+    public List<EObject> getAllReachableClasses() {
+        return this.reachableElementsServices.getAllReachableElements(this.self, UMLPackage.eINSTANCE.getClass_());
+    }
+
+    @Benchmark
+    public List<Notifier> getAllReachableRootElements() {
+        return this.reachableElementsServices.getAllReachableRootElements(this.self);
+    }
+
+    @Benchmark
+    public List<Package> getAllUMLPackages() {
+        return this.reachableElementsServices.getAllUMLPackages(this.self);
+    }
+
+    @Benchmark
+    public List<Element> getAllReachableStereotypeApplicationsBaseElements() {
+        List<Element> baseElements = List.of();
+        if (this.stereotypeApplication != null) {
+            // The candidates of an attribute of a stereotype typed by another stereotype
+            baseElements = this.reachableElementsServices.getAllReachableStereotypeApplicationsBaseElements(this.stereotypeApplication,
+                    UMLModelGenerator.RELATED_STEREOTYPE_APPLICATION);
+        }
+        return baseElements;
+    }
+}
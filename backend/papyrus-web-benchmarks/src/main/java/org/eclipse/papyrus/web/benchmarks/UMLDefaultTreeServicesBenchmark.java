@@ -0,0 +1,129 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.benchmarks;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.papyrus.web.application.explorer.builder.aqlservices.UMLDefaultTreeServices;
+import org.eclipse.papyrus.web.application.explorer.services.api.IRepresentationTargetIndex;
+import org.eclipse.sirius.components.core.api.IURLParser;
+import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataSearchService;
+import org.eclipse.uml2.uml.Element;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark of the callbacks of {@link UMLDefaultTreeServices} called by the explorer to render a tree.
+ *
+ * <p>
+ * The whole generated model is expanded and each tree item is rendered as the tree renderer does, from its id, label,
+ * icons, kind and children. The Sirius services which are not used for the elements of the model are stubs.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UMLDefaultTreeServicesBenchmark {
+
+    private UMLDefaultTreeServices treeServices;
+
+    private EditingContext editingContext;
+
+    private List<String> expandedIds;
+
+    @Setup
+    public void setup(UMLModelState modelState) {
+        GeneratedUMLModel generatedModel = modelState.getGeneratedModel();
+        String editingContextId = UUID.nameUUIDFromBytes("editingContext".getBytes()).toString();
+        String projectId = UUID.nameUUIDFromBytes("project".getBytes()).toString();
+
+        this.editingContext = mock(EditingContext.class, withSettings().stubOnly());
+        when(this.editingContext.getId()).thenReturn(editingContextId);
+        when(this.editingContext.getDomain()).thenReturn(new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack(), generatedModel.getResourceSet()));
+
+        IRepresentationTargetIndex representationTargetIndex = new IRepresentationTargetIndex() {
+            @Override
+            public Optional<String> getProjectId(String anEditingContextId) {
+                return Optional.of(projectId);
+            }
+
+            @Override
+            public boolean hasRepresentation(String anEditingContextId, String targetObjectId) {
+                return generatedModel.getDiagramTargetIds().contains(targetObjectId);
+            }
+        };
+        this.treeServices = new UMLDefaultTreeServices(List.of(), modelState.getObjectService(), mock(IRepresentationMetadataSearchService.class, withSettings().stubOnly()),
+                object -> false, mock(IURLParser.class, withSettings().stubOnly()), representationTargetIndex);
+
+        // Expands the model resource and all its elements, the imported elements stay collapsed
+        Resource modelResource = generatedModel.getModelResource();
+        this.expandedIds = new ArrayList<>();
+        this.expandedIds.add(this.treeServices.getItemId(modelResource));
+        TreeIterator<EObject> contents = modelResource.getAllContents();
+        while (contents.hasNext()) {
+            if (contents.next() instanceof Element element) {
+                this.expandedIds.add(generatedModel.getId(element));
+            }
+        }
+    }
+
+    @Benchmark
+    public void renderTree(Blackhole blackhole) {
+        List<Resource> rootElements = this.treeServices.getRootElements(this.editingContext, List.of());
+        for (int i = 0; i < rootElements.size(); i++) {
+            this.renderTreeItem(rootElements.get(i), List.of(), i, blackhole);
+        }
+    }
+
+    private void renderTreeItem(Object item, List<String> ancestorIds, int index, Blackhole blackhole) {
+        String id = this.treeServices.getItemId(item);
+        blackhole.consume(id);
+        blackhole.consume(this.treeServices.getItemLabel(item));
+        blackhole.consume(this.treeServices.getAppliedStereotypesLabel(item));
+        blackhole.consume(this.treeServices.getIconURLs(item));
+        blackhole.consume(this.treeServices.getItemKind(item));
+        blackhole.consume(this.treeServices.hasChildren(item, this.editingContext, ancestorIds, index));
+        List<Object> children = this.treeServices.getChildrenItems(item, this.editingContext, this.expandedIds, ancestorIds, index);
+        if (!children.isEmpty()) {
+            List<String> childAncestorIds = new ArrayList<>(ancestorIds);
+            childAncestorIds.add(id);
+            for (int i = 0; i < children.size(); i++) {
+                this.renderTreeItem(children.get(i), childAncestorIds, i, blackhole);
+            }
+        }
+    }
+}
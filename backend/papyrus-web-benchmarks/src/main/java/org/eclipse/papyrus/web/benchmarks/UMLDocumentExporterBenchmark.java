@@ -0,0 +1,67 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.benchmarks;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.papyrus.web.application.uml.UMLDocumentExporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.MediaType;
+
+/**
+ * Benchmark of the export of a UML model with {@link UMLDocumentExporter#getBytes(Resource, String)}.
+ *
+ * @author Arthur Daussy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UMLDocumentExporterBenchmark {
+
+    private UMLDocumentExporter documentExporter;
+
+    private Resource modelResource;
+
+    private List<EObject> roots;
+
+    @Setup
+    public void setup(UMLModelState modelState) {
+        this.documentExporter = new UMLDocumentExporter(modelState.getObjectService());
+        this.modelResource = modelState.getGeneratedModel().getModelResource();
+        this.roots = List.copyOf(this.modelResource.getContents());
+    }
+
+    @Benchmark
+    public Optional<byte[]> getBytes() {
+        return this.documentExporter.getBytes(this.modelResource, MediaType.APPLICATION_XML_VALUE);
+    }
+
+    @TearDown(Level.Invocation)
+    public void restoreContents() {
+        // The export moves the contents of the resource to the exported resource
+        this.modelResource.getContents().addAll(this.roots);
+    }
+}
@@ -0,0 +1,83 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.papyrus.web.application.uml.UMLDocumentExporter;
+import org.eclipse.papyrus.web.application.uml.UMLExternalResourceLoaderService;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.uml2.uml.resources.util.UMLResourcesUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.MediaType;
+
+/**
+ * Benchmark of the import of a UML model with
+ * {@link UMLExternalResourceLoaderService#getResource(java.io.InputStream, URI, ResourceSet, boolean)}.
+ *
+ * @author Arthur Daussy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UMLExternalResourceLoaderServiceBenchmark {
+
+    private final UMLExternalResourceLoaderService resourceLoaderService = new UMLExternalResourceLoaderService();
+
+    private final URI resourceURI = new JSONResourceFactory().createResourceURI("imported");
+
+    private byte[] content;
+
+    private EPackage profileDefinition;
+
+    private ResourceSet resourceSet;
+
+    @Setup
+    public void setup(UMLModelState modelState) {
+        Resource modelResource = modelState.getGeneratedModel().getModelResource();
+        List<EObject> roots = List.copyOf(modelResource.getContents());
+        this.content = new UMLDocumentExporter(modelState.getObjectService()).getBytes(modelResource, MediaType.APPLICATION_XML_VALUE).orElseThrow();
+        modelResource.getContents().addAll(roots);
+        this.profileDefinition = modelState.getGeneratedModel().getProfile().getDefinition();
+    }
+
+    @Setup(Level.Invocation)
+    public void createResourceSet() {
+        this.resourceSet = new ResourceSetImpl();
+        UMLResourcesUtil.init(this.resourceSet);
+        // The stereotype applications are typed by the definition of the profile
+        this.resourceSet.getPackageRegistry().put(this.profileDefinition.getNsURI(), this.profileDefinition);
+    }
+
+    @Benchmark
+    public Optional<Resource> getResource() {
+        return this.resourceLoaderService.getResource(new ByteArrayInputStream(this.content), this.resourceURI, this.resourceSet, false);
+    }
+}
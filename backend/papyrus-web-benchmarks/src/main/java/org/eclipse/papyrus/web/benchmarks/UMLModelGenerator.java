@@ -0,0 +1,317 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.emf.common.util.ECollections;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.papyrus.web.application.uml.NonUMLEditingContextCrossReferenceAdapter;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.uml2.uml.AggregationKind;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.Profile;
+import org.eclipse.uml2.uml.Property;
+import org.eclipse.uml2.uml.Stereotype;
+import org.eclipse.uml2.uml.UMLFactory;
+import org.eclipse.uml2.uml.UMLPackage;
+import org.eclipse.uml2.uml.resource.UMLResource;
+import org.eclipse.uml2.uml.resources.util.UMLResourcesUtil;
+
+/**
+ * Generates large UML models for the benchmarks.
+ *
+ * <p>
+ * The generation is deterministic: the same counts and the same seed always give the same model, with the same ids.
+ * The packages are nested in a tree, each package holds the same number of classes, with attributes, an operation and
+ * sometimes a generalization, and imports the previous package. The associations link random classes and the
+ * stereotypes of a dedicated profile are applied on random classes. The diagrams are not persisted in the model, they
+ * are only represented by the ids of the elements they target.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public final class UMLModelGenerator {
+
+    /**
+     * The name of the attribute of the stereotypes typed by another stereotype.
+     */
+    public static final String RELATED_STEREOTYPE_APPLICATION = "related";
+
+    /**
+     * The number of sub packages of each package.
+     */
+    private static final int PACKAGE_FAN_OUT = 4;
+
+    /**
+     * The number of stereotypes of the generated profile.
+     */
+    private static final int STEREOTYPE_COUNT = 10;
+
+    /**
+     * One class every {@value #GENERALIZATION_RATE} classes specializes another class.
+     */
+    private static final int GENERALIZATION_RATE = 3;
+
+    private int packageCount = 10;
+
+    private int classesPerPackage = 20;
+
+    private int associationCount = 100;
+
+    private int stereotypeApplicationCount = 50;
+
+    private int diagramCount = 10;
+
+    private long seed = 42L;
+
+    private int nextId;
+
+    /**
+     * Sets the number of packages of the model, the root model excluded.
+     *
+     * @param count
+     *            the number of packages
+     * @return this generator
+     */
+    public UMLModelGenerator packages(int count) {
+        this.packageCount = Math.max(1, count);
+        return this;
+    }
+
+    /**
+     * Sets the number of classes of each package.
+     *
+     * @param count
+     *            the number of classes of each package
+     * @return this generator
+     */
+    public UMLModelGenerator classesPerPackage(int count) {
+        this.classesPerPackage = Math.max(1, count);
+        return this;
+    }
+
+    /**
+     * Sets the number of associations of the model.
+     *
+     * @param count
+     *            the number of associations
+     * @return this generator
+     */
+    public UMLModelGenerator associations(int count) {
+        this.associationCount = Math.max(0, count);
+        return this;
+    }
+
+    /**
+     * Sets the number of stereotype applications of the model.
+     *
+     * <p>
+     * The count is capped to the number of stereotypes which can be applied on the classes of the model.
+     * </p>
+     *
+     * @param count
+     *            the number of stereotype applications
+     * @return this generator
+     */
+    public UMLModelGenerator stereotypeApplications(int count) {
+        this.stereotypeApplicationCount = Math.max(0, count);
+        return this;
+    }
+
+    /**
+     * Sets the number of diagrams of the model.
+     *
+     * @param count
+     *            the number of diagrams
+     * @return this generator
+     */
+    public UMLModelGenerator diagrams(int count) {
+        this.diagramCount = Math.max(0, count);
+        return this;
+    }
+
+    /**
+     * Sets the seed used to pick the ends of the associations and the elements with stereotypes or diagrams.
+     *
+     * @param newSeed
+     *            the seed
+     * @return this generator
+     */
+    public UMLModelGenerator seed(long newSeed) {
+        this.seed = newSeed;
+        return this;
+    }
+
+    /**
+     * Generates a new model in a new resource set.
+     *
+     * @return the generated model
+     */
+    public GeneratedUMLModel generate() {
+        this.nextId = 0;
+        Random random = new Random(this.seed);
+        ResourceSet resourceSet = new ResourceSetImpl();
+        UMLResourcesUtil.init(resourceSet);
+
+        JSONResourceFactory resourceFactory = new JSONResourceFactory();
+        Resource profileResource = resourceFactory.createResource(resourceFactory.createResourceURI(this.createId("profile")));
+        resourceSet.getResources().add(profileResource);
+        Profile profile = this.createProfile(resourceSet, profileResource);
+
+        Resource modelResource = resourceFactory.createResource(resourceFactory.createResourceURI(this.createId("model")));
+        resourceSet.getResources().add(modelResource);
+        Model model = UMLFactory.eINSTANCE.createModel();
+        model.setName("BenchmarkModel");
+        modelResource.getContents().add(model);
+        model.applyProfile(profile);
+
+        List<Package> packages = this.createPackages(model);
+        List<Class> classes = this.createClasses(packages, random);
+        this.createAssociations(classes, random);
+        this.applyStereotypes(profile, classes, random);
+
+        GeneratedUMLModel generatedModel = new GeneratedUMLModel(resourceSet, modelResource, model, profile, classes);
+        this.assignIds(generatedModel, profileResource);
+        this.assignIds(generatedModel, modelResource);
+        generatedModel.setDiagramTargetIds(this.pickDiagramTargets(generatedModel, packages, classes, random));
+
+        // As done for the Papyrus projects, once the resources are loaded
+        resourceSet.eAdapters().add(new NonUMLEditingContextCrossReferenceAdapter());
+        return generatedModel;
+    }
+
+    private Profile createProfile(ResourceSet resourceSet, Resource profileResource) {
+        Profile profile = UMLFactory.eINSTANCE.createProfile();
+        profile.setName("BenchmarkProfile");
+        profile.setURI("http://www.eclipse.org/papyrus/web/benchmarks/profile");
+        profileResource.getContents().add(profile);
+
+        Model umlMetamodel = (Model) resourceSet.getResource(URI.createURI(UMLResource.UML_METAMODEL_URI), true).getContents().get(0);
+        Class classMetaclass = (Class) umlMetamodel.getOwnedType(UMLPackage.eINSTANCE.getClass_().getName());
+        profile.createMetaclassReference(classMetaclass);
+        Stereotype previousStereotype = null;
+        for (int i = 0; i < STEREOTYPE_COUNT; i++) {
+            Stereotype stereotype = profile.createOwnedStereotype("Stereotype" + i, false);
+            stereotype.createExtension(classMetaclass, false);
+            if (previousStereotype != null) {
+                // A reference to the applications of another stereotype
+                stereotype.createOwnedAttribute(RELATED_STEREOTYPE_APPLICATION, previousStereotype);
+            }
+            previousStereotype = stereotype;
+        }
+        profile.define();
+        return profile;
+    }
+
+    private List<Package> createPackages(Model model) {
+        List<Package> packages = new ArrayList<>(this.packageCount);
+        for (int i = 0; i < this.packageCount; i++) {
+            Package parent = model;
+            if (i >= PACKAGE_FAN_OUT) {
+                parent = packages.get(i / PACKAGE_FAN_OUT - 1);
+            }
+            Package newPackage = parent.createNestedPackage("Package" + i);
+            if (!packages.isEmpty()) {
+                newPackage.createPackageImport(packages.get(packages.size() - 1));
+            }
+            packages.add(newPackage);
+        }
+        return packages;
+    }
+
+    private List<Class> createClasses(List<Package> packages, Random random) {
+        List<Class> classes = new ArrayList<>(packages.size() * this.classesPerPackage);
+        for (Package owner : packages) {
+            for (int i = 0; i < this.classesPerPackage; i++) {
+                Class newClass = (Class) owner.createOwnedType(owner.getName() + "Class" + i, UMLPackage.eINSTANCE.getClass_());
+                newClass.createOwnedOperation("operation" + i, ECollections.emptyEList(), ECollections.emptyEList());
+                if (!classes.isEmpty()) {
+                    newClass.createOwnedAttribute("attribute" + i, classes.get(random.nextInt(classes.size())));
+                    if (classes.size() % GENERALIZATION_RATE == 0) {
+                        newClass.createGeneralization(classes.get(random.nextInt(classes.size())));
+                    }
+                }
+                classes.add(newClass);
+            }
+        }
+        return classes;
+    }
+
+    private void createAssociations(List<Class> classes, Random random) {
+        for (int i = 0; i < this.associationCount; i++) {
+            Class source = classes.get(random.nextInt(classes.size()));
+            Class target = classes.get(random.nextInt(classes.size()));
+            source.createAssociation(true, AggregationKind.NONE_LITERAL, "target" + i, 0, 1, target, false, AggregationKind.NONE_LITERAL, "source" + i, 0, Property.UNLIMITED_UPPER_BOUND);
+        }
+    }
+
+    private void applyStereotypes(Profile profile, List<Class> classes, Random random) {
+        List<Stereotype> stereotypes = profile.getOwnedStereotypes();
+        int applicationCount = Math.min(this.stereotypeApplicationCount, classes.size() * stereotypes.size());
+        int applied = 0;
+        while (applied < applicationCount) {
+            Class target = classes.get(random.nextInt(classes.size()));
+            Stereotype stereotype = stereotypes.get(random.nextInt(stereotypes.size()));
+            if (!target.isStereotypeApplied(stereotype)) {
+                target.applyStereotype(stereotype);
+                applied++;
+            }
+        }
+    }
+
+    private void assignIds(GeneratedUMLModel generatedModel, Resource resource) {
+        TreeIterator<EObject> contents = resource.getAllContents();
+        while (contents.hasNext()) {
+            EObject eObject = contents.next();
+            if (eObject instanceof EPackage) {
+                // Do not walk the Ecore definition of the profile
+                contents.prune();
+            } else {
+                generatedModel.register(eObject, this.createId(eObject.eClass().getName()));
+            }
+        }
+    }
+
+    private Set<String> pickDiagramTargets(GeneratedUMLModel generatedModel, List<Package> packages, List<Class> classes, Random random) {
+        List<EObject> candidates = new ArrayList<>(packages);
+        candidates.addAll(classes);
+        Collections.shuffle(candidates, random);
+        Set<String> diagramTargetIds = new LinkedHashSet<>();
+        for (EObject target : candidates.subList(0, Math.min(this.diagramCount, candidates.size()))) {
+            diagramTargetIds.add(generatedModel.getId(target));
+        }
+        return diagramTargetIds;
+    }
+
+    private String createId(String kind) {
+        String id = UUID.nameUUIDFromBytes((kind + "#" + this.nextId).getBytes()).toString();
+        this.nextId++;
+        return id;
+    }
+}
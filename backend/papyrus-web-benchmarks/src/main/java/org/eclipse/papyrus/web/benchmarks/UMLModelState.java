@@ -0,0 +1,72 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The generated UML model shared by the benchmarks of a trial.
+ *
+ * <p>
+ * The size of the model can be changed from the command line, for example with <code>-p packages=200</code>.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+@State(Scope.Benchmark)
+public class UMLModelState {
+
+    @Param("40")
+    public int packages;
+
+    @Param("50")
+    public int classesPerPackage;
+
+    @Param("1000")
+    public int associations;
+
+    @Param("500")
+    public int stereotypeApplications;
+
+    @Param("40")
+    public int diagrams;
+
+    private GeneratedUMLModel generatedModel;
+
+    private GeneratedModelObjectService objectService;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        this.generatedModel = new UMLModelGenerator()
+                .packages(this.packages)
+                .classesPerPackage(this.classesPerPackage)
+                .associations(this.associations)
+                .stereotypeApplications(this.stereotypeApplications)
+                .diagrams(this.diagrams)
+                .generate();
+        this.objectService = new GeneratedModelObjectService(this.generatedModel);
+    }
+
+    public GeneratedUMLModel getGeneratedModel() {
+        return this.generatedModel;
+    }
+
+    public GeneratedModelObjectService getObjectService() {
+        return this.objectService;
+    }
+}
@@ -0,0 +1,65 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.papyrus.web.application.profile.UMLStereotypeMetadata;
+import org.eclipse.papyrus.web.application.profile.services.UMLStereotypeService;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark of the computation of the stereotypes which can be applied on an element, done by
+ * {@link UMLStereotypeService#getApplicableStereotypeOn(IEditingContext, String)} when the stereotypes of an element
+ * are edited.
+ *
+ * @author Arthur Daussy
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UMLStereotypeServiceBenchmark {
+
+    private final IEditingContext editingContext = new IEditingContext.NoOp();
+
+    private UMLStereotypeService stereotypeService;
+
+    private List<String> classIds;
+
+    private int index;
+
+    @Setup
+    public void setup(UMLModelState modelState) {
+        this.stereotypeService = new UMLStereotypeService(modelState.getObjectService());
+        this.classIds = modelState.getGeneratedModel().getClasses().stream()
+                .map(modelState.getGeneratedModel()::getId)
+                .toList();
+    }
+
+    @Benchmark
+    public List<UMLStereotypeMetadata> collectUnappliedStereotypes() {
+        // Go through all the classes, some have stereotypes applied and some do not
+        String classId = this.classIds.get(this.index);
+        this.index = (this.index + 1) % this.classIds.size();
+        return this.stereotypeService.getApplicableStereotypeOn(this.editingContext, classId);
+    }
+}
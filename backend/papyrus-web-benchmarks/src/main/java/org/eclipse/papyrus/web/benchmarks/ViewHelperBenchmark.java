@@ -0,0 +1,148 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.benchmarks;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.papyrus.uml.domain.services.UMLHelper;
+import org.eclipse.papyrus.web.application.representations.aqlservices.utils.ViewHelper;
+import org.eclipse.papyrus.web.application.representations.uml.CDDiagramDescriptionBuilder;
+import org.eclipse.papyrus.web.application.representations.uml.PapyrusDiagramSnapshots;
+import org.eclipse.papyrus.web.sirius.contributions.DiagramNavigationService;
+import org.eclipse.papyrus.web.sirius.contributions.IDiagramNavigationService;
+import org.eclipse.papyrus.web.sirius.contributions.IDiagramOperationsService;
+import org.eclipse.papyrus.web.sirius.contributions.IEMFNavigationService;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.diagram.DiagramDescription;
+import org.eclipse.sirius.components.view.diagram.NodeDescription;
+import org.eclipse.uml2.uml.Element;
+import org.eclipse.uml2.uml.UMLPackage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark of the matching of the node descriptions done by {@link ViewHelper} to create the views of the semantic
+ * elements in the Class Diagram.
+ *
+ * <p>
+ * A new helper is created for each call, as done by the AQL services. The Sirius diagram and node descriptions are
+ * stubs, only their ids are used by the matching.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ViewHelperBenchmark {
+
+    private final IDiagramOperationsService diagramOperationsService = new IDiagramOperationsService.NoOp();
+
+    private GeneratedModelObjectService objectService;
+
+    private IDiagramNavigationService diagramNavigationService;
+
+    private DiagramDescription diagramDescription;
+
+    private Map<NodeDescription, org.eclipse.sirius.components.diagrams.description.NodeDescription> capturedNodeDescriptions;
+
+    private IDiagramContext diagramContext;
+
+    private Node packageNode;
+
+    private List<Element> rootElements;
+
+    private int index;
+
+    @Setup
+    public void setup(UMLModelState modelState) {
+        this.objectService = modelState.getObjectService();
+        this.diagramNavigationService = new DiagramNavigationService(mock(IEMFNavigationService.class, withSettings().stubOnly()), this.objectService);
+        View view = PapyrusDiagramSnapshots.buildView(new CDDiagramDescriptionBuilder());
+        this.diagramDescription = (DiagramDescription) view.getDescriptions().get(0);
+
+        // Stubs of the descriptions converted by Sirius
+        this.capturedNodeDescriptions = new HashMap<>();
+        TreeIterator<EObject> contents = this.diagramDescription.eAllContents();
+        while (contents.hasNext()) {
+            if (contents.next() instanceof NodeDescription viewNodeDescription) {
+                org.eclipse.sirius.components.diagrams.description.NodeDescription nodeDescription = mock(org.eclipse.sirius.components.diagrams.description.NodeDescription.class,
+                        withSettings().stubOnly());
+                String nodeDescriptionId = UUID.nameUUIDFromBytes((viewNodeDescription.getName() + "#" + this.capturedNodeDescriptions.size()).getBytes()).toString();
+                when(nodeDescription.getId()).thenReturn(nodeDescriptionId);
+                this.capturedNodeDescriptions.put(viewNodeDescription, nodeDescription);
+            }
+        }
+
+        // An empty diagram, containing the package node in which the classes are created
+        Diagram diagram = mock(Diagram.class, withSettings().stubOnly());
+        when(diagram.getId()).thenReturn(UUID.nameUUIDFromBytes("diagram".getBytes()).toString());
+        when(diagram.getNodes()).thenReturn(List.of());
+        this.diagramContext = mock(IDiagramContext.class, withSettings().stubOnly());
+        when(this.diagramContext.getDiagram()).thenReturn(diagram);
+
+        NodeDescription packageNodeDescription = this.diagramDescription.getNodeDescriptions().stream()
+                .filter(nodeDescription -> UMLHelper.toEClass(nodeDescription.getDomainType()) == UMLPackage.eINSTANCE.getPackage())
+                .findFirst()
+                .orElseThrow();
+        this.packageNode = mock(Node.class, withSettings().stubOnly());
+        when(this.packageNode.getId()).thenReturn(UUID.nameUUIDFromBytes("packageNode".getBytes()).toString());
+        when(this.packageNode.getDescriptionId()).thenReturn(this.capturedNodeDescriptions.get(packageNodeDescription).getId());
+
+        GeneratedUMLModel generatedModel = modelState.getGeneratedModel();
+        this.rootElements = new ArrayList<>(generatedModel.getModel().getNestedPackages());
+        this.rootElements.addAll(generatedModel.getClasses());
+    }
+
+    @Benchmark
+    public boolean createRootView() {
+        Element element = this.nextElement();
+        return this.createViewHelper().createRootView(element);
+    }
+
+    @Benchmark
+    public boolean createChildView() {
+        Element element = this.nextElement();
+        return this.createViewHelper().createChildView(element, this.packageNode);
+    }
+
+    private Element nextElement() {
+        Element element = this.rootElements.get(this.index);
+        this.index = (this.index + 1) % this.rootElements.size();
+        return element;
+    }
+
+    private ViewHelper createViewHelper() {
+        return new ViewHelper(this.objectService, this.diagramNavigationService, this.diagramOperationsService, this.diagramContext, this.diagramDescription, this.capturedNodeDescriptions);
+    }
+}
@@ -0,0 +1,160 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.ENamedElement;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.uml2.uml.Association;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.NamedElement;
+import org.eclipse.uml2.uml.Package;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link UMLModelGenerator}.
+ *
+ * <p>
+ * The generated models are compared through a description of each of their elements: its id, its type, its attributes
+ * and the ids of the elements it references.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public class UMLModelGeneratorTest {
+
+    private static final int PACKAGES = 6;
+
+    private static final int CLASSES_PER_PACKAGE = 5;
+
+    private static final int ASSOCIATIONS = 10;
+
+    private static final int STEREOTYPE_APPLICATIONS = 8;
+
+    private static final int DIAGRAMS = 4;
+
+    @Test
+    public void testGenerationIsDeterministic() {
+        GeneratedUMLModel generatedModel = this.createGenerator().generate();
+        GeneratedUMLModel otherGeneratedModel = this.createGenerator().generate();
+
+        assertEquals(this.describe(generatedModel), this.describe(otherGeneratedModel));
+        assertEquals(generatedModel.getDiagramTargetIds(), otherGeneratedModel.getDiagramTargetIds());
+        assertEquals(generatedModel.getModelResource().getURI(), otherGeneratedModel.getModelResource().getURI());
+    }
+
+    @Test
+    public void testSeedChangesTheModel() {
+        GeneratedUMLModel generatedModel = this.createGenerator().generate();
+        GeneratedUMLModel otherGeneratedModel = this.createGenerator().seed(7L).generate();
+
+        assertNotEquals(this.describe(generatedModel), this.describe(otherGeneratedModel));
+    }
+
+    @Test
+    public void testGeneratedModelSize() {
+        GeneratedUMLModel generatedModel = this.createGenerator().generate();
+
+        List<EObject> contents = this.getContents(generatedModel);
+        assertEquals(PACKAGES + 1, contents.stream().filter(Package.class::isInstance).count());
+        assertEquals(PACKAGES * CLASSES_PER_PACKAGE, generatedModel.getClasses().size());
+        assertEquals(ASSOCIATIONS, contents.stream().filter(Association.class::isInstance).count());
+        assertEquals(STEREOTYPE_APPLICATIONS, generatedModel.getClasses().stream().mapToInt(aClass -> aClass.getAppliedStereotypes().size()).sum());
+        assertEquals(DIAGRAMS, generatedModel.getDiagramTargetIds().size());
+        // Every element of the model can be found from its id
+        for (EObject eObject : contents) {
+            String id = generatedModel.getId(eObject);
+            assertNotNull(id, eObject::toString);
+            assertSame(eObject, generatedModel.getObject(id));
+        }
+        for (String diagramTargetId : generatedModel.getDiagramTargetIds()) {
+            EObject diagramTarget = generatedModel.getObject(diagramTargetId);
+            assertTrue(diagramTarget instanceof Package || diagramTarget instanceof Class, diagramTargetId);
+        }
+    }
+
+    private UMLModelGenerator createGenerator() {
+        return new UMLModelGenerator()
+                .packages(PACKAGES)
+                .classesPerPackage(CLASSES_PER_PACKAGE)
+                .associations(ASSOCIATIONS)
+                .stereotypeApplications(STEREOTYPE_APPLICATIONS)
+                .diagrams(DIAGRAMS);
+    }
+
+    private List<EObject> getContents(GeneratedUMLModel generatedModel) {
+        List<EObject> contents = new ArrayList<>();
+        TreeIterator<EObject> iterator = generatedModel.getModelResource().getAllContents();
+        while (iterator.hasNext()) {
+            EObject eObject = iterator.next();
+            if (eObject instanceof EPackage) {
+                iterator.prune();
+            } else {
+                contents.add(eObject);
+            }
+        }
+        return contents;
+    }
+
+    private List<String> describe(GeneratedUMLModel generatedModel) {
+        List<String> descriptions = new ArrayList<>();
+        for (EObject eObject : this.getContents(generatedModel)) {
+            StringBuilder description = new StringBuilder();
+            description.append(generatedModel.getId(eObject)).append(' ').append(eObject.eClass().getName());
+            for (EAttribute attribute : eObject.eClass().getEAllAttributes()) {
+                if (!attribute.isDerived() && !attribute.isTransient() && eObject.eIsSet(attribute)) {
+                    description.append(' ').append(attribute.getName()).append('=').append(eObject.eGet(attribute));
+                }
+            }
+            for (EReference reference : eObject.eClass().getEAllReferences()) {
+                if (!reference.isDerived() && !reference.isTransient() && !reference.isContainment() && !reference.isContainer() && eObject.eIsSet(reference)) {
+                    description.append(' ').append(reference.getName()).append('=');
+                    Object value = eObject.eGet(reference);
+                    if (value instanceof List<?> targets) {
+                        targets.forEach(target -> description.append(this.getReference(generatedModel, (EObject) target)).append(','));
+                    } else {
+                        description.append(this.getReference(generatedModel, (EObject) value));
+                    }
+                }
+            }
+            descriptions.add(description.toString());
+        }
+        return descriptions;
+    }
+
+    private String getReference(GeneratedUMLModel generatedModel, EObject target) {
+        // The elements outside of the generated model, such as the UML metamodel, are described by their name
+        String reference = generatedModel.getId(target);
+        if (reference == null && target instanceof NamedElement namedElement) {
+            reference = namedElement.getQualifiedName();
+        } else if (reference == null && target instanceof ENamedElement namedElement) {
+            reference = namedElement.getName();
+        } else if (reference == null) {
+            reference = target.eClass().getName();
+        }
+        return reference;
+    }
+}
@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2022, 2024 CEA LIST, Obeo, Artal Technologies.
+ * Copyright (c) 2022, 2026 CEA LIST, Obeo, Artal Technologies.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,7 +22,6 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
 
-import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.papyrus.uml.domain.services.EMFUtils;
 import org.eclipse.papyrus.web.application.representations.PapyrusRepresentationDescriptionRegistry;
@@ -52,11 +51,10 @@ import org.eclipse.sirius.components.view.diagram.NodeDescription;
 import org.eclipse.sirius.web.application.project.services.api.IProjectTemplateInitializer;
 import org.eclipse.uml2.uml.Class;
 import org.eclipse.uml2.uml.Comment;
+import org.eclipse.uml2.uml.Element;
 import org.eclipse.uml2.uml.Model;
-import org.eclipse.uml2.uml.Operation;
 import org.eclipse.uml2.uml.Region;
 import org.eclipse.uml2.uml.StateMachine;
-import org.eclipse.uml2.uml.Vertex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Configuration;
@@ -178,10 +176,10 @@ public class UMLCppProjectTemplateInitializer implements IProjectTemplateInitial
     private Optional<Diagram> semanticDropOperationsOnClass(IEditingContext editingContext, Map<NodeDescription, org.eclipse.sirius.components.diagrams.description.NodeDescription> convertedNodes,
             Class mainClass, Diagram diag) {
         return this.diagramBuilderService.updateDiagram(diag, editingContext, diagramContext -> {
-            for (Operation operation : mainClass.getOwnedOperations()) {
+            if (!mainClass.getOwnedOperations().isEmpty()) {
                 NodeMatcher mainClassNodeMatcher = this.createOperationCompartmentNodeMatcher(mainClass, diag, convertedNodes);
                 Node operationCompartment = this.diagramNavigationService.getMatchingNodes(diag, editingContext, mainClassNodeMatcher).get(0);
-                this.classDiagramService.semanticDrop(operation, operationCompartment, editingContext, diagramContext, convertedNodes);
+                this.classDiagramService.semanticDropAll(mainClass.getOwnedOperations(), operationCompartment, editingContext, diagramContext, convertedNodes);
             }
         });
     }
@@ -295,15 +293,10 @@ public class UMLCppProjectTemplateInitializer implements IProjectTemplateInitial
             NodeMatcher regionNodeMatcher = NodeMatcher.buildSemanticMatcher(BorderNodeStatus.BASIC_NODE, o -> o == region);
             List<Node> regionReps = this.diagramNavigationService.getMatchingNodes(diagram, editingContext, regionNodeMatcher);
             for (Node regionNode : regionReps) {
-                // Drop all states
-                EList<Vertex> vertices = region.getSubvertices();
-                for (var vertex : vertices) {
-                    this.stateMachineDiagramService.semanticDrop(vertex, regionNode, editingContext, diagramContext, convertedNodes);
-                }
-                // Drop all comments
-                for (var comment : region.getOwnedComments()) {
-                    this.stateMachineDiagramService.semanticDrop(comment, regionNode, editingContext, diagramContext, convertedNodes);
-                }
+                // Drop all states and all comments
+                List<Element> elements = new ArrayList<>(region.getSubvertices());
+                elements.addAll(region.getOwnedComments());
+                this.stateMachineDiagramService.semanticDropAll(elements, regionNode, editingContext, diagramContext, convertedNodes);
 
             }
         }
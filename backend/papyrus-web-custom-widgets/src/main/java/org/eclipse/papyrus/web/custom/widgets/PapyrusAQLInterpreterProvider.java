@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2023, 2024 CEA LIST, Obeo.
+ * Copyright (c) 2023, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,19 @@
  *****************************************************************************/
 package org.eclipse.papyrus.web.custom.widgets;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EPackage.Registry;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
@@ -31,7 +39,14 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Service;
 
 /**
- * Service to retrieve a fresh AQL interpreter.
+ * Service to retrieve an AQL interpreter.
+ *
+ * <p>
+ * The interpreters are cached per view in their editing context and reused as long as the EPackages registered in the
+ * editing context are the same, so the expressions they have already parsed are reused too. The instances of the Java
+ * services are cached in the editing context too, so they are never shared between editing contexts and are released
+ * with them.
+ * </p>
  *
  * @author Jerome Gout
  */
@@ -60,21 +75,118 @@ public class PapyrusAQLInterpreterProvider implements IAQLInterpreterProvider {
 
     @Override
     public AQLInterpreter createInterpreter(View view, IEditingContext editingContext) {
-        List<EPackage> visibleEPackages = this.getAccessibleEPackages(editingContext);
-        AutowireCapableBeanFactory beanFactory = this.applicationContext.getAutowireCapableBeanFactory();
-        List<Object> serviceInstances = this.javaServiceProviders.stream()
+        AQLInterpreter interpreter;
+        if (editingContext instanceof IEMFEditingContext emfEditingContext) {
+            ResourceSet resourceSet = emfEditingContext.getDomain().getResourceSet();
+            InterpreterCacheAdapter cache = InterpreterCacheAdapter.getOrInstall(resourceSet);
+            synchronized (cache) {
+                List<EPackage> visibleEPackages = this.getAccessibleEPackages(editingContext);
+                CachedInterpreter cachedInterpreter = cache.interpreters.get(view);
+                if (cachedInterpreter == null || !cachedInterpreter.isCreatedFor(visibleEPackages)) {
+                    AQLInterpreter newInterpreter = this.doCreateInterpreter(view, visibleEPackages, serviceClass -> cache.serviceInstances.computeIfAbsent(serviceClass, this::createServiceInstance));
+                    cachedInterpreter = new CachedInterpreter(identitySet(visibleEPackages), newInterpreter);
+                    cache.put(view, cachedInterpreter);
+                }
+                interpreter = cachedInterpreter.interpreter();
+            }
+        } else {
+            interpreter = this.doCreateInterpreter(view, this.getAccessibleEPackages(editingContext), this::createServiceInstance);
+        }
+        return interpreter;
+    }
+
+    private AQLInterpreter doCreateInterpreter(View view, List<EPackage> visibleEPackages, Function<Class<?>, Object> serviceInstanceProvider) {
+        List<Object> services = this.javaServiceProviders.stream()
                 .flatMap(provider -> provider.getServiceClasses(view).stream())
-                .map(serviceClass -> {
-                    try {
-                        return beanFactory.createBean(serviceClass);
-                    } catch (BeansException beansException) {
-                        LOGGER.warn("Error while trying to instantiate Java service class " + serviceClass.getName(), beansException);
-                        return null;
-                    }
-                })
+                .map(serviceInstanceProvider)
                 .filter(Objects::nonNull)
-                .map(Object.class::cast)
                 .toList();
-        return new AQLInterpreter(List.of(), serviceInstances, visibleEPackages);
+        return new AQLInterpreter(List.of(), services, visibleEPackages);
+    }
+
+    private Object createServiceInstance(Class<?> serviceClass) {
+        Object serviceInstance = null;
+        AutowireCapableBeanFactory beanFactory = this.applicationContext.getAutowireCapableBeanFactory();
+        try {
+            serviceInstance = beanFactory.createBean(serviceClass);
+        } catch (BeansException beansException) {
+            LOGGER.warn("Error while trying to instantiate Java service class " + serviceClass.getName(), beansException);
+        }
+        return serviceInstance;
+    }
+
+    private static Set<EPackage> identitySet(List<EPackage> ePackages) {
+        Set<EPackage> identitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+        identitySet.addAll(ePackages);
+        return identitySet;
+    }
+
+    /**
+     * An interpreter created for a view.
+     *
+     * @param ePackages
+     *            the EPackages registered in the editing context when the interpreter has been created
+     * @param interpreter
+     *            the interpreter
+     * @author Jerome Gout
+     */
+    private record CachedInterpreter(Set<EPackage> ePackages, AQLInterpreter interpreter) {
+
+        /**
+         * Checks if the interpreter has been created with the given EPackages. A new EPackage, a removed one or an
+         * EPackage registered again under the same nsURI, when a profile is applied or republished, are all detected.
+         *
+         * @param visibleEPackages
+         *            the EPackages currently registered in the editing context
+         * @return <code>true</code> if the interpreter can be reused
+         */
+        boolean isCreatedFor(List<EPackage> visibleEPackages) {
+            return this.ePackages.size() == visibleEPackages.size() && visibleEPackages.stream().allMatch(this.ePackages::contains);
+        }
+    }
+
+    /**
+     * Holds the interpreters created for an editing context, installed on its resource set so that they are released
+     * with it.
+     *
+     * @author Jerome Gout
+     */
+    private static final class InterpreterCacheAdapter extends AdapterImpl {
+
+        /**
+         * Only a few views define reference widgets, the cache is cleared if views keep being reloaded.
+         */
+        private static final int MAX_CACHED_VIEWS = 32;
+
+        private final Map<View, CachedInterpreter> interpreters = new HashMap<>();
+
+        /**
+         * The instances of the Java service classes created for the editing context, they are only used by the
+         * interpreters of this editing context.
+         */
+        private final Map<Class<?>, Object> serviceInstances = new HashMap<>();
+
+        static synchronized InterpreterCacheAdapter getOrInstall(ResourceSet resourceSet) {
+            for (var adapter : resourceSet.eAdapters()) {
+                if (adapter instanceof InterpreterCacheAdapter interpreterCacheAdapter) {
+                    return interpreterCacheAdapter;
+                }
+            }
+            InterpreterCacheAdapter interpreterCacheAdapter = new InterpreterCacheAdapter();
+            resourceSet.eAdapters().add(interpreterCacheAdapter);
+            return interpreterCacheAdapter;
+        }
+
+        void put(View view, CachedInterpreter cachedInterpreter) {
+            if (!this.interpreters.containsKey(view) && this.interpreters.size() >= MAX_CACHED_VIEWS) {
+                this.interpreters.clear();
+            }
+            this.interpreters.put(view, cachedInterpreter);
+        }
+
+        @Override
+        public boolean isAdapterForType(Object type) {
+            return type == InterpreterCacheAdapter.class;
+        }
     }
 }
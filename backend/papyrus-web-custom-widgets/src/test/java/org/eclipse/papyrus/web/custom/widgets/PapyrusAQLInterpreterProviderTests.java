@@ -0,0 +1,137 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.custom.widgets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.ViewFactory;
+import org.eclipse.sirius.components.view.emf.IJavaServiceProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.context.ApplicationContext;
+
+/**
+ * Unit tests for the cache of the interpreters and of the Java services of {@link PapyrusAQLInterpreterProvider}.
+ *
+ * @author Jerome Gout
+ */
+public class PapyrusAQLInterpreterProviderTests {
+
+    private static final String NS_URI = "http://www.eclipse.org/papyrus/test";
+
+    private final AtomicInteger createdServiceCount = new AtomicInteger();
+
+    private PapyrusAQLInterpreterProvider interpreterProvider;
+
+    private View view;
+
+    @BeforeEach
+    public void setUp() {
+        AutowireCapableBeanFactory beanFactory = mock(AutowireCapableBeanFactory.class);
+        when(beanFactory.createBean(any())).thenAnswer(invocation -> {
+            this.createdServiceCount.incrementAndGet();
+            return new TestServices();
+        });
+        ApplicationContext applicationContext = mock(ApplicationContext.class);
+        when(applicationContext.getAutowireCapableBeanFactory()).thenReturn(beanFactory);
+
+        IJavaServiceProvider javaServiceProvider = view -> List.of(TestServices.class);
+        this.interpreterProvider = new PapyrusAQLInterpreterProvider(List.of(javaServiceProvider), applicationContext);
+        this.view = ViewFactory.eINSTANCE.createView();
+    }
+
+    @Test
+    public void testInterpreterIsReusedInTheSameEditingContext() {
+        IEMFEditingContext editingContext = this.createEditingContext(new ResourceSetImpl());
+
+        AQLInterpreter interpreter = this.interpreterProvider.createInterpreter(this.view, editingContext);
+
+        assertThat(this.interpreterProvider.createInterpreter(this.view, editingContext)).isSameAs(interpreter);
+        assertThat(this.createdServiceCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testInterpreterIsCreatedAgainWhenAnEPackageIsRegistered() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getPackageRegistry().put(NS_URI, this.createEPackage());
+        IEMFEditingContext editingContext = this.createEditingContext(resourceSet);
+        AQLInterpreter interpreter = this.interpreterProvider.createInterpreter(this.view, editingContext);
+
+        resourceSet.getPackageRegistry().put(NS_URI + "/other", this.createEPackage());
+        AQLInterpreter interpreterWithNewEPackage = this.interpreterProvider.createInterpreter(this.view, editingContext);
+        assertThat(interpreterWithNewEPackage).isNotSameAs(interpreter);
+
+        // The number of EPackages is the same but one of them has been replaced, as when a profile is republished
+        resourceSet.getPackageRegistry().put(NS_URI, this.createEPackage());
+        assertThat(this.interpreterProvider.createInterpreter(this.view, editingContext)).isNotSameAs(interpreterWithNewEPackage);
+
+        // The Java services are still created once for the editing context
+        assertThat(this.createdServiceCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testServicesAreNotSharedBetweenEditingContexts() {
+        IEMFEditingContext editingContext = this.createEditingContext(new ResourceSetImpl());
+        IEMFEditingContext otherEditingContext = this.createEditingContext(new ResourceSetImpl());
+
+        AQLInterpreter interpreter = this.interpreterProvider.createInterpreter(this.view, editingContext);
+        AQLInterpreter otherInterpreter = this.interpreterProvider.createInterpreter(this.view, otherEditingContext);
+
+        assertThat(otherInterpreter).isNotSameAs(interpreter);
+        assertThat(this.createdServiceCount.get()).isEqualTo(2);
+    }
+
+    private IEMFEditingContext createEditingContext(ResourceSet resourceSet) {
+        AdapterFactoryEditingDomain editingDomain = new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack(), resourceSet);
+        IEMFEditingContext editingContext = mock(IEMFEditingContext.class);
+        when(editingContext.getDomain()).thenReturn(editingDomain);
+        return editingContext;
+    }
+
+    private EPackage createEPackage() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("test");
+        ePackage.setNsURI(NS_URI);
+        return ePackage;
+    }
+
+    /**
+     * Java services used by the interpreters.
+     *
+     * @author Jerome Gout
+     */
+    public static class TestServices {
+
+        public String hello(Object self) {
+            return "hello";
+        }
+    }
+}
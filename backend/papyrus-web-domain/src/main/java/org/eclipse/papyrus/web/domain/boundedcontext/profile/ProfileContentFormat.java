@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.papyrus.web.domain.boundedcontext.profile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The format used to store the content of a published profile.
+ *
+ * @author Arthur Daussy
+ */
+public enum ProfileContentFormat {
+
+    /**
+     * The XMI is stored as is in the <code>content</code> column.
+     */
+    XMI,
+
+    /**
+     * The XMI, encoded in UTF-8, is compressed with gzip and stored in the <code>compressed_content</code> column.
+     */
+    XMI_GZIP;
+
+    /**
+     * Compresses the given XMI content.
+     *
+     * @param content
+     *            the XMI content of a profile
+     * @return the content compressed with gzip
+     */
+    public static byte[] compress(String content) {
+        var outputStream = new ByteArrayOutputStream();
+        try (var gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Opens a stream on the XMI content of a profile stored in this format.
+     *
+     * @param storedContent
+     *            the bytes of the stored content, either the UTF-8 XMI or its compressed version
+     * @return a stream on the XMI content
+     * @throws IOException
+     *             if the compressed content can not be read
+     */
+    public InputStream open(byte[] storedContent) throws IOException {
+        InputStream inputStream = new ByteArrayInputStream(storedContent);
+        if (this == XMI_GZIP) {
+            inputStream = new GZIPInputStream(inputStream);
+        }
+        return inputStream;
+    }
+}
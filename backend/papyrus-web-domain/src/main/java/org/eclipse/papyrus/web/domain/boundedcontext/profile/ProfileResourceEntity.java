@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 CEA LIST, Obeo.
+ * Copyright (c) 2023, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,12 @@
  *******************************************************************************/
 package org.eclipse.papyrus.web.domain.boundedcontext.profile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.papyrus.web.domain.boundedcontext.profile.events.ProfilePublishedEvent;
@@ -40,6 +45,18 @@ public class ProfileResourceEntity extends AbstractValidatingAggregateRoot<Profi
 
     private String content;
 
+    private byte[] compressedContent;
+
+    private ProfileContentFormat contentFormat = ProfileContentFormat.XMI;
+
+    private String name;
+
+    private String version;
+
+    private String nsUri;
+
+    private long contentSize;
+
     @Override
     public UUID getId() {
         return this.id;
@@ -53,14 +70,89 @@ public class ProfileResourceEntity extends AbstractValidatingAggregateRoot<Profi
         this.id = id;
     }
 
+    /**
+     * Gets the XMI content of the profile, whatever the format used to store it.
+     *
+     * @return the XMI content of the profile
+     */
     public String getContent() {
-        return this.content;
+        String xmi = this.content;
+        if (this.contentFormat == ProfileContentFormat.XMI_GZIP && this.compressedContent != null) {
+            try (var inputStream = this.getContentStream()) {
+                xmi = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+        return xmi;
+    }
+
+    /**
+     * Opens a stream on the XMI content of the profile, whatever the format used to store it.
+     *
+     * @return a stream on the XMI content of the profile
+     * @throws IOException
+     *             if the stored content can not be decoded
+     */
+    public InputStream getContentStream() throws IOException {
+        if (this.contentFormat == ProfileContentFormat.XMI_GZIP && this.compressedContent != null) {
+            return this.contentFormat.open(this.compressedContent);
+        }
+        return ProfileContentFormat.XMI.open(Optional.ofNullable(this.content).orElse("").getBytes(StandardCharsets.UTF_8));
     }
 
     public void setContent(String content) {
         this.content = content;
     }
 
+    public byte[] getCompressedContent() {
+        return this.compressedContent;
+    }
+
+    public void setCompressedContent(byte[] compressedContent) {
+        this.compressedContent = compressedContent;
+    }
+
+    public ProfileContentFormat getContentFormat() {
+        return this.contentFormat;
+    }
+
+    public void setContentFormat(ProfileContentFormat contentFormat) {
+        this.contentFormat = contentFormat;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getVersion() {
+        return this.version;
+    }
+
+    public void setVersion(String version) {
+        this.version = version;
+    }
+
+    public String getNsUri() {
+        return this.nsUri;
+    }
+
+    public void setNsUri(String nsUri) {
+        this.nsUri = nsUri;
+    }
+
+    public long getContentSize() {
+        return this.contentSize;
+    }
+
+    public void setContentSize(long contentSize) {
+        this.contentSize = contentSize;
+    }
+
     @Override
     public String toString() {
         String pattern = "{0} '{'id: {1}'}'";
@@ -84,6 +176,14 @@ public class ProfileResourceEntity extends AbstractValidatingAggregateRoot<Profi
 
         private String content;
 
+        private ProfileContentFormat contentFormat = ProfileContentFormat.XMI;
+
+        private String name;
+
+        private String version;
+
+        private String nsUri;
+
         private UUID id;
 
         private boolean isNew;
@@ -93,6 +193,26 @@ public class ProfileResourceEntity extends AbstractValidatingAggregateRoot<Profi
             return this;
         }
 
+        public Builder contentFormat(ProfileContentFormat contentFormat) {
+            this.contentFormat = contentFormat;
+            return this;
+        }
+
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder version(String version) {
+            this.version = version;
+            return this;
+        }
+
+        public Builder nsUri(String nsUri) {
+            this.nsUri = nsUri;
+            return this;
+        }
+
         public Builder id(UUID id) {
             this.id = id;
             return this;
@@ -105,7 +225,17 @@ public class ProfileResourceEntity extends AbstractValidatingAggregateRoot<Profi
 
         public ProfileResourceEntity build(ICause cause) {
             var profile = new ProfileResourceEntity();
-            profile.content = this.content;
+            profile.contentSize = Optional.ofNullable(this.content).map(value -> value.getBytes(StandardCharsets.UTF_8).length).orElse(0);
+            profile.contentFormat = Optional.ofNullable(this.contentFormat).orElse(ProfileContentFormat.XMI);
+            if (profile.contentFormat == ProfileContentFormat.XMI_GZIP && this.content != null) {
+                profile.compressedContent = ProfileContentFormat.compress(this.content);
+            } else {
+                profile.contentFormat = ProfileContentFormat.XMI;
+                profile.content = this.content;
+            }
+            profile.name = this.name;
+            profile.version = this.version;
+            profile.nsUri = this.nsUri;
             profile.id = this.id;
             profile.isNew = this.isNew;
 
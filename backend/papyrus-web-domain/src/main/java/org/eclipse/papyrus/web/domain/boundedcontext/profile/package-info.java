@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2024 CEA LIST, Obeo.
+ * Copyright (c) 2024, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,8 @@
 @Module(
         name = "Profile",
         allowedDependencies = {},
-        exposedPackages = { "org.eclipse.papyrus.web.domain.boundedcontext.profile", "org.eclipse.papyrus.web.domain.boundedcontext.profile.repositories" })
+        exposedPackages = { "org.eclipse.papyrus.web.domain.boundedcontext.profile", "org.eclipse.papyrus.web.domain.boundedcontext.profile.repositories",
+                "org.eclipse.papyrus.web.domain.boundedcontext.profile.projections" })
 package org.eclipse.papyrus.web.domain.boundedcontext.profile;
 
 import org.eclipse.sirius.web.domain.annotations.Module;
\ No newline at end of file
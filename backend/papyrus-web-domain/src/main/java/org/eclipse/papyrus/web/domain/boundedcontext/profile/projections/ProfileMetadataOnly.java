@@ -1,7 +1,7 @@
 /*****************************************************************************
- * Copyright (c) 2024 CEA LIST.
+ * Copyright (c) 2026 CEA LIST, Obeo.
  *
- * This program and the accompanying materials
+ * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
  * which accompanies this distribution, and is available at
  * https://www.eclipse.org/legal/epl-2.0/
@@ -11,15 +11,14 @@
  * Contributors:
  *  Obeo - Initial API and implementation
  *****************************************************************************/
-package org.eclipse.papyrus.web.application.readonly;
+package org.eclipse.papyrus.web.domain.boundedcontext.profile.projections;
 
-import org.eclipse.emf.ecore.util.EContentAdapter;
+import java.util.UUID;
 
 /**
- * Adapter used to tagged a notifier as a read only element.
+ * Projection used to retrieve the metadata of a profile without its content.
  *
  * @author Arthur Daussy
  */
-public class ReadOnlyAdapter extends EContentAdapter {
-
+public record ProfileMetadataOnly(UUID id, String name, String version, String nsUri, long contentSize) {
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 CEA LIST, Obeo.
+ * Copyright (c) 2023, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,13 @@
  *******************************************************************************/
 package org.eclipse.papyrus.web.domain.boundedcontext.profile.repositories;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.eclipse.papyrus.web.domain.boundedcontext.profile.ProfileResourceEntity;
+import org.eclipse.papyrus.web.domain.boundedcontext.profile.projections.ProfileMetadataOnly;
+import org.springframework.data.jdbc.repository.query.Modifying;
+import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.data.repository.ListPagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
@@ -28,4 +32,28 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface IProfileRepository extends ListPagingAndSortingRepository<ProfileResourceEntity, UUID>, ListCrudRepository<ProfileResourceEntity, UUID> {
 
+    @Query("""
+            SELECT id, name, version, ns_uri, content_size
+            FROM profile
+            """)
+    List<ProfileMetadataOnly> findAllMetadata();
+
+    @Query("""
+            SELECT id
+            FROM profile
+            WHERE content_format = 'XMI'
+            """)
+    List<UUID> findAllUncompressedIds();
+
+    /**
+     * Replaces the XMI content of a profile by its compressed version, unless the profile has been published again
+     * since its content has been read.
+     */
+    @Modifying
+    @Query("""
+            UPDATE profile
+            SET content = NULL, compressed_content = :compressedContent, content_format = 'XMI_GZIP'
+            WHERE id = :id AND content_format = 'XMI' AND content = :content
+            """)
+    boolean compressContent(UUID id, String content, byte[] compressedContent);
 }
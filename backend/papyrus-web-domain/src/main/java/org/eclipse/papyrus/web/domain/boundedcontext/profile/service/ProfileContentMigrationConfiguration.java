@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.papyrus.web.domain.boundedcontext.profile.service;
+
+import org.eclipse.papyrus.web.domain.boundedcontext.profile.repositories.IProfileRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The configuration of the background compression of the published profiles.
+ *
+ * <p>
+ * The compression runs on its own executor, which is not registered as a bean: an executor bean would replace the
+ * task executor Spring Boot provides to the rest of the application.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+@Configuration
+public class ProfileContentMigrationConfiguration {
+
+    private static final String THREAD_NAME_PREFIX = "papyrus-profile-compression-";
+
+    @Bean
+    public ProfileContentMigrationService profileContentMigrationService(IProfileRepository profileRepository, @Value("${papyrus.web.profiles.compression.enabled:false}") boolean compressionEnabled,
+            MeterRegistry meterRegistry) {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor(THREAD_NAME_PREFIX);
+        taskExecutor.setConcurrencyLimit(1);
+        // Each profile is compressed in its own statement, the migration can be interrupted when the server stops
+        taskExecutor.setDaemon(true);
+        return new ProfileContentMigrationService(profileRepository, compressionEnabled, meterRegistry, taskExecutor);
+    }
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.papyrus.web.domain.boundedcontext.profile.service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.papyrus.web.domain.boundedcontext.profile.ProfileContentFormat;
+import org.eclipse.papyrus.web.domain.boundedcontext.profile.ProfileResourceEntity;
+import org.eclipse.papyrus.web.domain.boundedcontext.profile.repositories.IProfileRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Compresses, in the background, the profiles published before the compression of the profiles has been enabled.
+ *
+ * <p>
+ * Each profile is compressed in its own statement and only if its XMI content has not changed in the meantime, so a
+ * profile published during the migration is never overwritten. The profiles which can not be compressed are logged
+ * and counted by the <code>papyrusweb_profilecompression</code> counter with the <code>failure</code> result, they
+ * stay stored as plain XMI and are compressed again on the next start.
+ * </p>
+ * <p>
+ * The compression runs on the dedicated executor created by {@link ProfileContentMigrationConfiguration}.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public class ProfileContentMigrationService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProfileContentMigrationService.class);
+
+    private static final String COUNTER_NAME = "papyrusweb_profilecompression";
+
+    private static final String RESULT = "result";
+
+    private final IProfileRepository profileRepository;
+
+    private final boolean compressionEnabled;
+
+    private final Counter compressedCounter;
+
+    private final Counter failureCounter;
+
+    private final TaskExecutor taskExecutor;
+
+    public ProfileContentMigrationService(IProfileRepository profileRepository, boolean compressionEnabled, MeterRegistry meterRegistry, TaskExecutor taskExecutor) {
+        this.profileRepository = Objects.requireNonNull(profileRepository);
+        this.compressionEnabled = compressionEnabled;
+        this.taskExecutor = Objects.requireNonNull(taskExecutor);
+        this.compressedCounter = Counter.builder(COUNTER_NAME)
+                .tag(RESULT, "success")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder(COUNTER_NAME)
+                .tag(RESULT, "failure")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts the compression of the existing profiles, on the dedicated executor, once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (this.compressionEnabled) {
+            this.taskExecutor.execute(() -> {
+                try {
+                    this.compressUncompressedProfiles();
+                } catch (RuntimeException exception) {
+                    LOGGER.error("Unable to compress the published profiles", exception);
+                }
+            });
+        }
+    }
+
+    /**
+     * Compresses all the profiles which are still stored as plain XMI.
+     *
+     * @return the number of compressed profiles
+     */
+    public int compressUncompressedProfiles() {
+        int compressedProfiles = 0;
+        List<UUID> profileIds = this.profileRepository.findAllUncompressedIds();
+        for (UUID profileId : profileIds) {
+            try {
+                String content = this.profileRepository.findById(profileId).map(ProfileResourceEntity::getContent).orElse(null);
+                if (content != null && this.profileRepository.compressContent(profileId, content, ProfileContentFormat.compress(content))) {
+                    compressedProfiles++;
+                    this.compressedCounter.increment();
+                }
+            } catch (RuntimeException exception) {
+                LOGGER.warn("Unable to compress the profile {}", profileId, exception);
+                this.failureCounter.increment();
+            }
+        }
+        if (!profileIds.isEmpty()) {
+            LOGGER.info("{} of {} published profiles have been compressed", compressedProfiles, profileIds.size());
+        }
+        return compressedProfiles;
+    }
+}
@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2024 CEA LIST, Obeo.
+ * Copyright (c) 2024, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,12 +15,14 @@ package org.eclipse.papyrus.web.domain.boundedcontext.profile.service;
 
 import java.util.UUID;
 
+import org.eclipse.papyrus.web.domain.boundedcontext.profile.ProfileContentFormat;
 import org.eclipse.papyrus.web.domain.boundedcontext.profile.ProfileResourceEntity;
 import org.eclipse.papyrus.web.domain.boundedcontext.profile.repositories.IProfileRepository;
 import org.eclipse.papyrus.web.domain.boundedcontext.profile.service.api.IProfileCreationService;
 import org.eclipse.sirius.components.events.ICause;
 import org.eclipse.sirius.web.domain.services.IResult;
 import org.eclipse.sirius.web.domain.services.Success;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
@@ -33,15 +35,26 @@ import org.springframework.stereotype.Service;
 public class ProfileCreationService implements IProfileCreationService {
     private final IProfileRepository profileRepository;
 
-    public ProfileCreationService(IProfileRepository profileRepository) {
+    private final ProfileContentFormat contentFormat;
+
+    public ProfileCreationService(IProfileRepository profileRepository, @Value("${papyrus.web.profiles.compression.enabled:false}") boolean compressionEnabled) {
         super();
         this.profileRepository = profileRepository;
+        if (compressionEnabled) {
+            this.contentFormat = ProfileContentFormat.XMI_GZIP;
+        } else {
+            this.contentFormat = ProfileContentFormat.XMI;
+        }
     }
 
     @Override
-    public IResult<ProfileResourceEntity> createProfile(ICause cause, UUID profileId, String content) {
+    public IResult<ProfileResourceEntity> createProfile(ICause cause, UUID profileId, String content, String name, String version, String nsUri) {
         ProfileResourceEntity profile = ProfileResourceEntity.newProfile()
                 .content(content)
+                .contentFormat(this.contentFormat)
+                .name(name)
+                .version(version)
+                .nsUri(nsUri)
                 .isNew(this.profileRepository.findById(profileId).isEmpty())
                 .id(profileId)
                 .build(cause);
@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2024 CEA LIST, Obeo.
+ * Copyright (c) 2024, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,15 +13,23 @@
  *****************************************************************************/
 package org.eclipse.papyrus.web.domain.boundedcontext.profile.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.eclipse.papyrus.web.domain.boundedcontext.profile.ProfileContentFormat;
 import org.eclipse.papyrus.web.domain.boundedcontext.profile.ProfileResourceEntity;
+import org.eclipse.papyrus.web.domain.boundedcontext.profile.projections.ProfileMetadataOnly;
 import org.eclipse.papyrus.web.domain.boundedcontext.profile.repositories.IProfileRepository;
 import org.eclipse.papyrus.web.domain.boundedcontext.profile.service.api.IProfileSearchService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
 /**
@@ -32,11 +40,16 @@ import org.springframework.stereotype.Service;
 @Service
 public class ProfileSearchService implements IProfileSearchService {
 
+    private static final String CONTENT_QUERY = "SELECT content, compressed_content, content_format FROM profile WHERE id = ?";
+
     private final IProfileRepository profileRepository;
 
-    public ProfileSearchService(IProfileRepository profileRepository) {
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProfileSearchService(IProfileRepository profileRepository, JdbcTemplate jdbcTemplate) {
         super();
         this.profileRepository = profileRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -58,4 +71,32 @@ public class ProfileSearchService implements IProfileSearchService {
     public List<ProfileResourceEntity> findAll() {
         return this.profileRepository.findAll();
     }
+
+    @Override
+    public List<ProfileMetadataOnly> findAllMetadata() {
+        return this.profileRepository.findAllMetadata();
+    }
+
+    @Override
+    public Optional<InputStream> findContentById(UUID profileId) {
+        // The bytes sent by the database are read in memory and used as is, instead of being decoded in a String and
+        // encoded again
+        List<InputStream> contents = this.jdbcTemplate.query(CONTENT_QUERY, (resultSet, rowNum) -> this.openContent(resultSet), profileId);
+        return contents.stream().findFirst();
+    }
+
+    private InputStream openContent(ResultSet resultSet) throws SQLException {
+        ProfileContentFormat contentFormat = ProfileContentFormat.valueOf(resultSet.getString("content_format"));
+        byte[] storedContent;
+        if (contentFormat == ProfileContentFormat.XMI_GZIP) {
+            storedContent = resultSet.getBytes("compressed_content");
+        } else {
+            storedContent = resultSet.getBytes("content");
+        }
+        try {
+            return contentFormat.open(storedContent);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 CEA LIST, Obeo.
+ * Copyright (c) 2024, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,7 +38,13 @@ public interface IProfileCreationService {
      *            id to use for this profile
      * @param content
      *            the profile content
+     * @param name
+     *            the name of the published profile
+     * @param version
+     *            the version of the published profile
+     * @param nsUri
+     *            the nsURI of the definition of the published profile
      * @return the result
      */
-    IResult<ProfileResourceEntity> createProfile(ICause cause, UUID profileId, String content);
+    IResult<ProfileResourceEntity> createProfile(ICause cause, UUID profileId, String content, String name, String version, String nsUri);
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 CEA LIST, Obeo.
+ * Copyright (c) 2024, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,13 @@
  *******************************************************************************/
 package org.eclipse.papyrus.web.domain.boundedcontext.profile.service.api;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.papyrus.web.domain.boundedcontext.profile.ProfileResourceEntity;
+import org.eclipse.papyrus.web.domain.boundedcontext.profile.projections.ProfileMetadataOnly;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -61,4 +63,24 @@ public interface IProfileSearchService {
      * @return all profiles
      */
     List<ProfileResourceEntity> findAll();
+
+    /**
+     * Finds the metadata of all profiles, without loading their content.
+     *
+     * @return the metadata of all profiles
+     */
+    List<ProfileMetadataOnly> findAllMetadata();
+
+    /**
+     * Reads the content of a profile without loading the whole profile.
+     *
+     * <p>
+     * The stored content is fully read in memory, only its decoding is done while the returned stream is consumed.
+     * </p>
+     *
+     * @param profileId
+     *            an id
+     * @return a stream on the content of the profile if found, optional empty otherwise
+     */
+    Optional<InputStream> findContentById(UUID profileId);
 }
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.papyrus.web.domain.boundedcontext.profile;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.events.ICause;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the storage formats of the content of {@link ProfileResourceEntity}.
+ *
+ * @author Arthur Daussy
+ */
+public class ProfileResourceEntityTest {
+
+    private static final String CONTENT = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <uml:Profile xmi:version="20131001" xmlns:xmi="http://www.omg.org/spec/XMI/20131001" xmlns:uml="http://www.eclipse.org/uml2/5.0.0/UML" xmi:id="_profile" name="Profilé"/>
+            """;
+
+    @Test
+    public void testXMIRoundTrip() throws IOException {
+        ProfileResourceEntity profile = this.createProfile(ProfileContentFormat.XMI);
+
+        assertEquals(ProfileContentFormat.XMI, profile.getContentFormat());
+        assertNull(profile.getCompressedContent());
+        assertEquals(CONTENT, profile.getContent());
+        assertEquals(CONTENT.getBytes(StandardCharsets.UTF_8).length, profile.getContentSize());
+        try (InputStream inputStream = profile.getContentStream()) {
+            assertArrayEquals(CONTENT.getBytes(StandardCharsets.UTF_8), inputStream.readAllBytes());
+        }
+    }
+
+    @Test
+    public void testXMIGZipRoundTrip() throws IOException {
+        ProfileResourceEntity profile = this.createProfile(ProfileContentFormat.XMI_GZIP);
+
+        assertEquals(ProfileContentFormat.XMI_GZIP, profile.getContentFormat());
+        assertNotNull(profile.getCompressedContent());
+        assertEquals(CONTENT, profile.getContent());
+        // The size of the uncompressed content is kept, so that the index of the profiles sees no change
+        assertEquals(this.createProfile(ProfileContentFormat.XMI).getContentSize(), profile.getContentSize());
+        try (InputStream inputStream = profile.getContentStream()) {
+            assertArrayEquals(CONTENT.getBytes(StandardCharsets.UTF_8), inputStream.readAllBytes());
+        }
+    }
+
+    @Test
+    public void testCorruptCompressedContent() {
+        ProfileResourceEntity profile = this.createProfile(ProfileContentFormat.XMI_GZIP);
+        profile.setCompressedContent("not gzip".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(UncheckedIOException.class, profile::getContent);
+        assertThrows(IOException.class, profile::getContentStream);
+    }
+
+    private ProfileResourceEntity createProfile(ProfileContentFormat contentFormat) {
+        return ProfileResourceEntity.newProfile()
+                .id(UUID.nameUUIDFromBytes("profile".getBytes()))
+                .content(CONTENT)
+                .contentFormat(contentFormat)
+                .build(new ICause.NoOp());
+    }
+}
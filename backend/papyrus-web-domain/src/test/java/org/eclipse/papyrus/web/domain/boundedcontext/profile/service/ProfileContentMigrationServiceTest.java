@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.papyrus.web.domain.boundedcontext.profile.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.papyrus.web.domain.boundedcontext.profile.ProfileResourceEntity;
+import org.eclipse.papyrus.web.domain.boundedcontext.profile.repositories.IProfileRepository;
+import org.eclipse.sirius.components.events.ICause;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Test class for {@link ProfileContentMigrationService}.
+ *
+ * @author Arthur Daussy
+ */
+public class ProfileContentMigrationServiceTest {
+
+    private static final UUID COMPRESSED_PROFILE_ID = UUID.nameUUIDFromBytes("compressed".getBytes());
+
+    private static final UUID FAILING_PROFILE_ID = UUID.nameUUIDFromBytes("failing".getBytes());
+
+    private static final String CONTENT = "<uml:Profile xmlns:uml=\"http://www.eclipse.org/uml2/5.0.0/UML\" name=\"Profile\"/>";
+
+    @Test
+    public void testFailuresAreCounted() {
+        IProfileRepository profileRepository = mock(IProfileRepository.class);
+        when(profileRepository.findAllUncompressedIds()).thenReturn(List.of(COMPRESSED_PROFILE_ID, FAILING_PROFILE_ID));
+        when(profileRepository.findById(COMPRESSED_PROFILE_ID)).thenReturn(Optional.of(this.createProfile(COMPRESSED_PROFILE_ID)));
+        when(profileRepository.findById(FAILING_PROFILE_ID)).thenThrow(new IllegalStateException("Database unavailable"));
+        when(profileRepository.compressContent(eq(COMPRESSED_PROFILE_ID), eq(CONTENT), any())).thenReturn(true);
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ProfileContentMigrationService migrationService = new ProfileContentMigrationService(profileRepository, true, meterRegistry, new SyncTaskExecutor());
+
+        assertEquals(1, migrationService.compressUncompressedProfiles());
+        assertEquals(1, meterRegistry.get("papyrusweb_profilecompression").tag("result", "success").counter().count());
+        assertEquals(1, meterRegistry.get("papyrusweb_profilecompression").tag("result", "failure").counter().count());
+    }
+
+    @Test
+    public void testDisabledCompression() {
+        IProfileRepository profileRepository = mock(IProfileRepository.class);
+        TaskExecutor taskExecutor = mock(TaskExecutor.class);
+        ProfileContentMigrationService migrationService = new ProfileContentMigrationService(profileRepository, false, new SimpleMeterRegistry(), taskExecutor);
+
+        migrationService.onApplicationReady();
+        verify(taskExecutor, never()).execute(any());
+        verify(profileRepository, never()).findAllUncompressedIds();
+    }
+
+    @Test
+    public void testCompressionRunsOnTheGivenExecutor() {
+        IProfileRepository profileRepository = mock(IProfileRepository.class);
+        TaskExecutor taskExecutor = mock(TaskExecutor.class);
+        ProfileContentMigrationService migrationService = new ProfileContentMigrationService(profileRepository, true, new SimpleMeterRegistry(), taskExecutor);
+
+        migrationService.onApplicationReady();
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskExecutor).execute(task.capture());
+        // Nothing is done on the thread publishing the event
+        verify(profileRepository, never()).findAllUncompressedIds();
+
+        task.getValue().run();
+        verify(profileRepository).findAllUncompressedIds();
+    }
+
+    @Test
+    public void testUnexpectedErrorIsLogged() {
+        IProfileRepository profileRepository = mock(IProfileRepository.class);
+        when(profileRepository.findAllUncompressedIds()).thenThrow(new IllegalStateException("Database unavailable"));
+        ProfileContentMigrationService migrationService = new ProfileContentMigrationService(profileRepository, true, new SimpleMeterRegistry(), new SyncTaskExecutor());
+
+        // Must not propagate to the executor
+        migrationService.onApplicationReady();
+        verify(profileRepository).findAllUncompressedIds();
+    }
+
+    private ProfileResourceEntity createProfile(UUID id) {
+        return ProfileResourceEntity.newProfile()
+                .id(id)
+                .content(CONTENT)
+                .build(new ICause.NoOp());
+    }
+}
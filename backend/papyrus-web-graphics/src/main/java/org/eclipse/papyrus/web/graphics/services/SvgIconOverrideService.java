@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2023 CEA LIST, Obeo.
+ * Copyright (c) 2023, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,30 +15,53 @@ package org.eclipse.papyrus.web.graphics.services;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.papyrus.web.graphics.services.api.IImageOverrideService;
 
 /**
  * Service in charge of scanning icon to override base EMF icon.
  *
+ * <p>
+ * The overriding icons are found once at startup and the result of each lookup is memoized, since only a few distinct
+ * base icons are used.
+ * </p>
+ *
  * @author Arthur Daussy
  */
 public class SvgIconOverrideService implements IImageOverrideService {
 
+    private static final String OBJ16_ICONS = "/icons/full/obj16/";
+
     private final Map<String, String> iconMap;
 
+    private final Map<String, Optional<String>> overrideImages = new ConcurrentHashMap<>();
+
     public SvgIconOverrideService(Map<String, String> iconMap) {
         super();
-        this.iconMap = iconMap;
+        this.iconMap = Map.copyOf(iconMap);
     }
 
     @Override
     public Optional<String> getOverrideImage(String baseImage) {
         if (baseImage != null && !baseImage.endsWith("svg")) {
-            String[] parts = baseImage.split("\\.");
-            if (parts.length > 1) {
-                return Optional.ofNullable(this.iconMap.get(parts[parts.length - 2]));
-            }
+            return this.overrideImages.computeIfAbsent(baseImage, this::computeOverrideImage);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<String> getOverrideImage(EClass eClass) {
+        return Optional.ofNullable(this.iconMap.get(OBJ16_ICONS + eClass.getName()));
+    }
+
+    private Optional<String> computeOverrideImage(String baseImage) {
+        // The key is the part of the path between its last two dots
+        int extensionIndex = baseImage.lastIndexOf('.');
+        if (extensionIndex >= 0) {
+            int keyStartIndex = baseImage.lastIndexOf('.', extensionIndex - 1) + 1;
+            return Optional.ofNullable(this.iconMap.get(baseImage.substring(keyStartIndex, extensionIndex)));
         }
         return Optional.empty();
     }
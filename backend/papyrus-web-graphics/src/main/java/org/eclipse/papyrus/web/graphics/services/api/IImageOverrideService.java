@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2023 CEA LIST, Obeo.
+ * Copyright (c) 2023, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.papyrus.web.graphics.services.api;
 
 import java.util.Optional;
 
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.sirius.components.core.api.IObjectService;
 
 /**
@@ -33,4 +34,16 @@ public interface IImageOverrideService {
      */
     Optional<String> getOverrideImage(String baseImagePath);
 
+    /**
+     * Get an optional image to override the base EMF icon of the given EClass, without its instance dependent
+     * decorators.
+     *
+     * @param eClass
+     *            an EClass
+     * @return an optional new path
+     */
+    default Optional<String> getOverrideImage(EClass eClass) {
+        return Optional.empty();
+    }
+
 }
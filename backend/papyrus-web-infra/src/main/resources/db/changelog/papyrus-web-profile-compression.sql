@@ -0,0 +1,3 @@
+ALTER TABLE profile ADD COLUMN content_format TEXT NOT NULL DEFAULT 'XMI';
+ALTER TABLE profile ADD COLUMN compressed_content BYTEA;
+ALTER TABLE profile ALTER COLUMN content DROP NOT NULL;
@@ -0,0 +1,9 @@
+ALTER TABLE profile ADD COLUMN name TEXT;
+ALTER TABLE profile ADD COLUMN version TEXT;
+ALTER TABLE profile ADD COLUMN ns_uri TEXT;
+ALTER TABLE profile ADD COLUMN content_size BIGINT NOT NULL DEFAULT 0;
+
+UPDATE profile SET content_size = OCTET_LENGTH(content);
+
+CREATE INDEX idx_profile_name_version ON profile(name, version);
+CREATE INDEX idx_profile_ns_uri ON profile(ns_uri);
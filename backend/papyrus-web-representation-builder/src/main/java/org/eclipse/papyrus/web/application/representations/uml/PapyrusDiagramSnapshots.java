@@ -0,0 +1,138 @@
+/*****************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.representations.uml;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.ViewFactory;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+
+/**
+ * Builds the View models of the Papyrus diagrams and serializes them at build time, so that the application can load
+ * them instead of running all the diagram description builders at startup.
+ *
+ * <p>
+ * The snapshots are written in the {@value #SNAPSHOT_FOLDER} folder of the classpath, one JSON file per diagram.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public final class PapyrusDiagramSnapshots {
+
+    /**
+     * The classpath folder of the snapshots.
+     */
+    public static final String SNAPSHOT_FOLDER = "papyrus-diagrams";
+
+    private PapyrusDiagramSnapshots() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Creates the builders of all the Papyrus diagrams, in their registration order.
+     *
+     * @return the diagram description builders
+     */
+    public static List<AbstractRepresentationDescriptionBuilder> createBuilders() {
+        return List.of(new CSDDiagramDescriptionBuilder(), //
+                new PADDiagramDescriptionBuilder(), //
+                new SMDDiagramDescriptionBuilder(), //
+                new CDDiagramDescriptionBuilder(), //
+                new UCDDiagramDescriptionBuilder(), //
+                new PRDDiagramDescriptionBuilder(), //
+                new CODDiagramDescriptionBuilder(), //
+                new ADDiagramDescriptionBuilder(), //
+                new CPDDiagramDescriptionBuilder(), //
+                new DDDiagramDescriptionBuilder());
+    }
+
+    /**
+     * Gets the classpath location of the snapshot of the given diagram.
+     *
+     * @param representationName
+     *            the name of a diagram
+     * @return the location of the snapshot
+     */
+    public static String getSnapshotPath(String representationName) {
+        return SNAPSHOT_FOLDER + "/" + representationName.replaceAll("[^A-Za-z0-9]", "_") + ".json";
+    }
+
+    /**
+     * Gets the URI of the resource containing the View of the given diagram.
+     *
+     * <p>
+     * The URI only depends on the name of the diagram, so that the View has the same URI when it is built at startup
+     * and when it is loaded from its snapshot.
+     * </p>
+     *
+     * @param representationName
+     *            the name of a diagram
+     * @return the URI of the resource
+     */
+    public static URI getViewURI(String representationName) {
+        return new JSONResourceFactory().createResourceURI(UUID.nameUUIDFromBytes(representationName.getBytes()).toString());
+    }
+
+    /**
+     * Builds the View of a diagram in its own resource.
+     *
+     * <p>
+     * The View is not added to any resource set, so several Views can be built concurrently.
+     * </p>
+     *
+     * @param diagramBuilder
+     *            the builder of the diagram
+     * @return the View containing the diagram description
+     */
+    public static View buildView(AbstractRepresentationDescriptionBuilder diagramBuilder) {
+        // Required to have a unique URIs - workaround https://github.com/eclipse-sirius/sirius-components/issues/1345
+        View view = ViewFactory.eINSTANCE.createView();
+        JsonResource resource = new JSONResourceFactory().createResource(getViewURI(diagramBuilder.getRepresentationName()));
+        resource.getContents().add(view);
+        diagramBuilder.createDiagramDescription(view);
+        return view;
+    }
+
+    /**
+     * Writes the snapshots of all the Papyrus diagrams.
+     *
+     * @param args
+     *            the output folder
+     * @throws IOException
+     *             if a snapshot cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: PapyrusDiagramSnapshots <output folder>");
+        }
+        Path outputFolder = Path.of(args[0]);
+        for (AbstractRepresentationDescriptionBuilder diagramBuilder : createBuilders()) {
+            Path snapshot = outputFolder.resolve(getSnapshotPath(diagramBuilder.getRepresentationName()));
+            Files.createDirectories(snapshot.getParent());
+            View view = buildView(diagramBuilder);
+            try (OutputStream outputStream = Files.newOutputStream(snapshot)) {
+                view.eResource().save(outputStream, Map.of());
+            }
+        }
+    }
+}
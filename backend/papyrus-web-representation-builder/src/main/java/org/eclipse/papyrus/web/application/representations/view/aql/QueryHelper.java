@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2022, 2023 CEA LIST, Obeo.
+ * Copyright (c) 2022, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -95,13 +95,18 @@ public class QueryHelper {
 
     /**
      * Query to retrieve all element of a given type in the current ResourceSet.
+     * <p>
+     * The result is shared by all the descriptions of a diagram until an element is added, removed or moved. The
+     * elements are in the order of the walk of the reachable roots, as with the former <code>getAllReachable</code>
+     * service.
+     * </p>
      *
      * @param type
      *            the searched type
      * @return the query
      */
     public String queryAllReachable(EClass type) {
-        return CallQuery.queryServiceOnSelf(Services.GET_ALL_REACHABLE_SERVICE, this.aqlString(type.getName()));
+        return CallQuery.queryServiceOnSelf(Services.GET_ALL_REACHABLE_CANDIDATES_SERVICE, this.aqlString(type.getName()));
     }
 
     /**
@@ -112,7 +117,7 @@ public class QueryHelper {
      * @return the query
      */
     public String queryAllReachableExactType(EClass type) {
-        return CallQuery.queryServiceOnSelf(Services.GET_ALL_REACHABLE_SERVICE, this.aqlString(type.getName()), "false");
+        return CallQuery.queryServiceOnSelf(Services.GET_ALL_REACHABLE_CANDIDATES_SERVICE, this.aqlString(type.getName()), "false");
     }
 
     public String createNodeQuery(String domainType, String seflExpression, EReference containementRef) {
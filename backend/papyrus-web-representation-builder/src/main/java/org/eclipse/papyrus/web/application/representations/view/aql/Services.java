@@ -1,5 +1,5 @@
 /*****************************************************************************
- * Copyright (c) 2022, 2024 CEA LIST, Obeo.
+ * Copyright (c) 2022, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -62,6 +62,8 @@ public class Services {
 
     public static final String GET_ALL_REACHABLE_SERVICE = "getAllReachable";
 
+    public static final String GET_ALL_REACHABLE_CANDIDATES_SERVICE = "getAllReachableCandidates";
+
     public static final String DESTROY_SERVICE = "destroy";
 
     public static final String SEMANTIC_DROP_SERVICE = "semanticDrop";
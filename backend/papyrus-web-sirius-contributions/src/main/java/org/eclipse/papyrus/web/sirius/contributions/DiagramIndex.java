@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.papyrus.web.sirius.contributions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.Node;
+
+/**
+ * Immutable index of the nodes and edges of a {@link Diagram}.
+ *
+ * <p>
+ * A diagram is never modified once rendered, so its index is built once with a single walk of its nodes (border nodes
+ * included) and edges, and then answers the lookups by node id or by target object id in constant time. The index does
+ * not keep a reference to the diagram itself, the top level nodes have no parent node.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public final class DiagramIndex {
+
+    private final Map<String, IndexedNode> nodesById = new HashMap<>();
+
+    private final Map<String, List<Node>> nodesByTargetObjectId = new HashMap<>();
+
+    private final Map<String, List<Edge>> edgesByTargetObjectId = new HashMap<>();
+
+    public DiagramIndex(Diagram diagram) {
+        for (Node node : diagram.getNodes()) {
+            this.index(node, null, 0, false);
+        }
+        for (Edge edge : diagram.getEdges()) {
+            this.edgesByTargetObjectId.computeIfAbsent(edge.getTargetObjectId(), targetObjectId -> new ArrayList<>()).add(edge);
+        }
+        this.nodesByTargetObjectId.replaceAll((targetObjectId, nodes) -> List.copyOf(nodes));
+        this.edgesByTargetObjectId.replaceAll((targetObjectId, edges) -> List.copyOf(edges));
+    }
+
+    private void index(Node node, Node parent, int depth, boolean inBorderNode) {
+        this.nodesById.put(node.getId(), new IndexedNode(node, parent, depth, inBorderNode));
+        this.nodesByTargetObjectId.computeIfAbsent(node.getTargetObjectId(), targetObjectId -> new ArrayList<>()).add(node);
+        for (Node borderNode : node.getBorderNodes()) {
+            this.index(borderNode, node, depth + 1, true);
+        }
+        for (Node childNode : node.getChildNodes()) {
+            this.index(childNode, node, depth + 1, inBorderNode);
+        }
+    }
+
+    /**
+     * Gets the node with the given id.
+     *
+     * @param nodeId
+     *            the id of a node
+     * @return the node or an empty optional if the diagram has no such node
+     */
+    public Optional<Node> getNode(String nodeId) {
+        return Optional.ofNullable(this.nodesById.get(nodeId)).map(IndexedNode::node);
+    }
+
+    /**
+     * Checks if the diagram contains a node with the given id.
+     *
+     * @param nodeId
+     *            the id of a node
+     * @return <code>true</code> if the diagram contains the node
+     */
+    public boolean contains(String nodeId) {
+        return this.nodesById.containsKey(nodeId);
+    }
+
+    /**
+     * Gets the parent node of the node with the given id.
+     *
+     * @param nodeId
+     *            the id of a node
+     * @return the parent node or an empty optional if the node is a top level node or is not part of the diagram
+     */
+    public Optional<Node> getParentNode(String nodeId) {
+        return Optional.ofNullable(this.nodesById.get(nodeId)).map(IndexedNode::parent);
+    }
+
+    /**
+     * Gets the depth of the node with the given id, the top level nodes having a depth of 0.
+     *
+     * @param nodeId
+     *            the id of a node
+     * @return the depth of the node or -1 if the node is not part of the diagram
+     */
+    public int getDepth(String nodeId) {
+        return Optional.ofNullable(this.nodesById.get(nodeId)).map(IndexedNode::depth).orElse(-1);
+    }
+
+    /**
+     * Checks if the node with the given id is a border node or is contained by a border node.
+     *
+     * @param nodeId
+     *            the id of a node
+     * @return <code>true</code> if the node is a border node or is contained by a border node
+     */
+    public boolean isInBorderNode(String nodeId) {
+        return Optional.ofNullable(this.nodesById.get(nodeId)).map(IndexedNode::inBorderNode).orElse(false);
+    }
+
+    /**
+     * Gets the id of the description of the node with the given id.
+     *
+     * @param nodeId
+     *            the id of a node
+     * @return the id of the description or an empty optional if the node is not part of the diagram
+     */
+    public Optional<String> getDescriptionId(String nodeId) {
+        return this.getNode(nodeId).map(Node::getDescriptionId);
+    }
+
+    /**
+     * Gets the nodes representing the semantic element with the given id.
+     *
+     * @param targetObjectId
+     *            the id of a semantic element
+     * @return the nodes representing the element
+     */
+    public List<Node> getNodesByTargetObjectId(String targetObjectId) {
+        return this.nodesByTargetObjectId.getOrDefault(targetObjectId, List.of());
+    }
+
+    /**
+     * Gets the edges representing the semantic element with the given id.
+     *
+     * @param targetObjectId
+     *            the id of a semantic element
+     * @return the edges representing the element, in the order of the diagram
+     */
+    public List<Edge> getEdgesByTargetObjectId(String targetObjectId) {
+        return this.edgesByTargetObjectId.getOrDefault(targetObjectId, List.of());
+    }
+
+    /**
+     * A node of the diagram.
+     *
+     * @param node
+     *            the node
+     * @param parent
+     *            the parent node or <code>null</code> for a top level node
+     * @param depth
+     *            the depth of the node
+     * @param inBorderNode
+     *            <code>true</code> if the node is a border node or is contained by a border node
+     * @author Arthur Daussy
+     */
+    private record IndexedNode(Node node, Node parent, int depth, boolean inBorderNode) {
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 Obeo.
+ * Copyright (c) 2022, 2026 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -16,9 +16,12 @@ import static java.util.stream.Collectors.toList;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.WeakHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -33,6 +36,12 @@ import org.springframework.stereotype.Service;
 /**
  * Implementation of {@link IDiagramNavigationService}.
  *
+ * <p>
+ * The {@link DiagramIndex} of a diagram is built the first time it is needed and kept as long as the diagram is
+ * referenced. The semantic elements of the nodes are resolved through a {@link SemanticElementMemo}, the one of the
+ * event when it is given or one for the walk of the diagram otherwise.
+ * </p>
+ *
  * @author pcdavid
  */
 @Service
@@ -42,64 +51,77 @@ public class DiagramNavigationService implements IDiagramNavigationService {
 
     private final IObjectService objectService;
 
+    private final Map<Diagram, DiagramIndex> diagramIndexes = Collections.synchronizedMap(new WeakHashMap<>());
+
     public DiagramNavigationService(IEMFNavigationService emfNavigationService, IObjectService objectService) {
         this.objectService = Objects.requireNonNull(objectService);
         this.emfNavigationService = Objects.requireNonNull(emfNavigationService);
     }
 
+    @Override
+    public DiagramIndex getDiagramIndex(Diagram diagram) {
+        return this.diagramIndexes.computeIfAbsent(diagram, DiagramIndex::new);
+    }
+
     @Override
     public Optional<Object> getParent(Diagram diagram, Node node) {
-        return Optional.ofNullable(new ParentNodeQuery(diagram).getParent(node));
+        DiagramIndex diagramIndex = this.getDiagramIndex(diagram);
+        Optional<Object> parent = diagramIndex.getParentNode(node.getId()).map(Object.class::cast);
+        if (parent.isEmpty() && diagramIndex.contains(node.getId())) {
+            parent = Optional.of(diagram);
+        }
+        return parent;
     }
 
     @Override
     public List<Node> getAncestorNodes(Diagram diagram, Node node) {
-        ParentNodeQuery querier = new ParentNodeQuery(diagram);
-        querier.setUseCache(true);
+        DiagramIndex diagramIndex = this.getDiagramIndex(diagram);
 
         List<Node> result = new ArrayList<>();
-        Node current = node;
-        while (current != null) {
-            if (current != node) {
-                result.add(current);
-            }
-
-            Object parent = querier.getParent(current);
-            if (parent instanceof Node) {
-                current = (Node) parent;
-            } else {
-                current = null;
-            }
+        Optional<Node> parent = diagramIndex.getParentNode(node.getId());
+        while (parent.isPresent()) {
+            result.add(parent.get());
+            parent = diagramIndex.getParentNode(parent.get().getId());
         }
         return result;
     }
 
     @Override
     public List<Node> getMatchingNodes(Diagram diagram, IEditingContext editingContext, NodeMatcher matcher) {
+        return this.getMatchingNodes(diagram, editingContext, matcher, new SemanticElementMemo());
+    }
+
+    @Override
+    public List<Node> getMatchingNodesIn(Node parentNode, Diagram diagram, IEditingContext editingContext, NodeMatcher matcher) {
+        return this.getMatchingNodesIn(parentNode, diagram, editingContext, matcher, new SemanticElementMemo());
+    }
+
+    @Override
+    public List<Node> getMatchingNodes(Diagram diagram, IEditingContext editingContext, NodeMatcher matcher, SemanticElementMemo semanticElementMemo) {
         List<Node> result = new ArrayList<>();
-        this.getMatchingNode(this.getChildren(diagram, matcher.getBorderedNodeStatus()), editingContext, matcher, result);
+        this.getMatchingNode(this.getChildren(diagram, matcher.getBorderedNodeStatus()), editingContext, Objects.requireNonNull(semanticElementMemo), matcher, result);
         return result;
     }
 
     @Override
-    public List<Node> getMatchingNodesIn(Node parentNode, Diagram diagram, IEditingContext editingContext, NodeMatcher matcher) {
+    public List<Node> getMatchingNodesIn(Node parentNode, Diagram diagram, IEditingContext editingContext, NodeMatcher matcher, SemanticElementMemo semanticElementMemo) {
         List<Node> result = new ArrayList<>();
-        this.getMatchingNode(this.getChildren(parentNode, matcher.getBorderedNodeStatus()), editingContext, matcher, result);
+        this.getMatchingNode(this.getChildren(parentNode, matcher.getBorderedNodeStatus()), editingContext, Objects.requireNonNull(semanticElementMemo), matcher, result);
         return result;
     }
 
-    public void getMatchingNode(List<Node> candidates, IEditingContext editingContext, NodeMatcher matcher, List<Node> collector) {
+    private void getMatchingNode(List<Node> candidates, IEditingContext editingContext, SemanticElementMemo semanticElementMemo, NodeMatcher matcher, List<Node> collector) {
         for (var node : candidates) {
-            if (matcher.match(node, this.buildSemanticProvider(editingContext, node))) {
+            if (matcher.match(node, this.buildSemanticProvider(editingContext, semanticElementMemo, node))) {
                 collector.add(node);
             }
-            this.getMatchingNode(this.getChildren(node, matcher.getBorderedNodeStatus()), editingContext, matcher, collector);
+            this.getMatchingNode(this.getChildren(node, matcher.getBorderedNodeStatus()), editingContext, semanticElementMemo, matcher, collector);
         }
 
     }
 
-    private Supplier<Object> buildSemanticProvider(IEditingContext editingContext, Node node) {
-        return () -> this.objectService.getObject(editingContext, node.getTargetObjectId()).orElse(null);
+    private Supplier<Object> buildSemanticProvider(IEditingContext editingContext, SemanticElementMemo semanticElementMemo, Node node) {
+        return () -> semanticElementMemo.getObject(this.objectService, editingContext, node.getTargetObjectId()).orElse(null);
     }
 
     private List<Node> getChildren(Object parent, BorderNodeStatus borderNodeStatus) {
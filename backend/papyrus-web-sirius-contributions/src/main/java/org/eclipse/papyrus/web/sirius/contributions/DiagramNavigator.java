@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 CEA LIST, Obeo.
+ * Copyright (c) 2022, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,10 +15,12 @@ package org.eclipse.papyrus.web.sirius.contributions;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 import org.eclipse.papyrus.web.sirius.contributions.query.NodeMatcher;
 import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IObjectService;
 import org.eclipse.sirius.components.diagrams.Diagram;
 import org.eclipse.sirius.components.diagrams.Node;
 import org.eclipse.sirius.components.view.diagram.NodeDescription;
@@ -36,11 +38,13 @@ public class DiagramNavigator {
 
     private final Map<NodeDescription, org.eclipse.sirius.components.diagrams.description.NodeDescription> capturedNodeDescriptions;
 
+    private final SemanticElementMemo semanticElementMemo = new SemanticElementMemo();
+
     public DiagramNavigator(IDiagramNavigationService diagramNavigationService, Diagram diagram,
             Map<NodeDescription, org.eclipse.sirius.components.diagrams.description.NodeDescription> capturedNodeDescriptions) {
         super();
         this.diagramNavigationService = diagramNavigationService;
-        this.diagram = diagram;
+        this.diagram = Objects.requireNonNull(diagram);
         this.capturedNodeDescriptions = capturedNodeDescriptions;
     }
 
@@ -55,10 +59,8 @@ public class DiagramNavigator {
 
     public Optional<NodeDescription> getDescription(Node node) {
         return Optional.ofNullable(node.getDescriptionId())//
-                .flatMap(id -> this.capturedNodeDescriptions.entrySet().stream()//
-                        .filter(e -> id.equals(e.getValue().getId()))//
-                        .map(e -> e.getKey())//
-                        .findFirst());
+                .flatMap(id -> ViewDiagramDescriptionIndex.getOrInstall(this.capturedNodeDescriptions)//
+                        .flatMap(index -> index.getViewNodeDescription(this.capturedNodeDescriptions, id)));
     }
 
     public List<Node> getAncestorNodes(Node node) {
@@ -66,11 +68,35 @@ public class DiagramNavigator {
     }
 
     public List<Node> getMatchingNodes(IEditingContext editingContext, NodeMatcher matcher) {
-        return this.diagramNavigationService.getMatchingNodes(this.diagram, editingContext, matcher);
+        return this.diagramNavigationService.getMatchingNodes(this.diagram, editingContext, matcher, this.semanticElementMemo);
+    }
+
+    /**
+     * Gets the index of the nodes and edges of the diagram, shared through the navigation service.
+     *
+     * @return the index of the diagram
+     */
+    public DiagramIndex getDiagramIndex() {
+        return this.diagramNavigationService.getDiagramIndex(this.diagram);
+    }
+
+    /**
+     * Gets the semantic element with the given id, memoized as long as this navigator is used to handle the event.
+     *
+     * @param objectService
+     *            the service used to resolve the id
+     * @param editingContext
+     *            the editing context of the element
+     * @param objectId
+     *            the id of the element
+     * @return the element or an empty optional if no element has this id
+     */
+    public Optional<Object> getSemanticElement(IObjectService objectService, IEditingContext editingContext, String objectId) {
+        return this.semanticElementMemo.getObject(objectService, editingContext, objectId);
     }
 
     public List<Node> getMatchingNodesIn(Node parentNode, IEditingContext editingContext, NodeMatcher matcher) {
-        return this.diagramNavigationService.getMatchingNodesIn(parentNode, this.diagram, editingContext, matcher);
+        return this.diagramNavigationService.getMatchingNodesIn(parentNode, this.diagram, editingContext, matcher, this.semanticElementMemo);
     }
 
 }
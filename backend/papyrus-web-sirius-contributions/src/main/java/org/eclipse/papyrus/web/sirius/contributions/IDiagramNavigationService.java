@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Obeo.
+ * Copyright (c) 2022, 2026 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -31,6 +31,15 @@ import org.eclipse.sirius.components.view.emf.IJavaServiceProvider;
  */
 public interface IDiagramNavigationService {
 
+    /**
+     * Gets the index of the nodes of the given diagram.
+     *
+     * @param diagram
+     *            a diagram
+     * @return the index of the diagram
+     */
+    DiagramIndex getDiagramIndex(Diagram diagram);
+
     Optional<Object> getParent(Diagram diagram, Node node);
 
     List<Node> getAncestorNodes(Diagram diagram, Node node);
@@ -39,6 +48,40 @@ public interface IDiagramNavigationService {
 
     List<Node> getMatchingNodesIn(Node parentNode, Diagram diagram, IEditingContext editingContext, NodeMatcher matcher);
 
+    /**
+     * Gets the nodes of the given diagram matching the given matcher, the semantic elements of the nodes being
+     * resolved through the given memo of the event.
+     *
+     * @param diagram
+     *            a diagram
+     * @param editingContext
+     *            the editing context of the diagram
+     * @param matcher
+     *            the matcher of the nodes
+     * @param semanticElementMemo
+     *            the memo of the semantic elements resolved during the event
+     * @return the matching nodes
+     */
+    List<Node> getMatchingNodes(Diagram diagram, IEditingContext editingContext, NodeMatcher matcher, SemanticElementMemo semanticElementMemo);
+
+    /**
+     * Gets the nodes contained by the given parent node matching the given matcher, the semantic elements of the nodes
+     * being resolved through the given memo of the event.
+     *
+     * @param parentNode
+     *            the parent node
+     * @param diagram
+     *            the diagram of the parent node
+     * @param editingContext
+     *            the editing context of the diagram
+     * @param matcher
+     *            the matcher of the nodes
+     * @param semanticElementMemo
+     *            the memo of the semantic elements resolved during the event
+     * @return the matching nodes
+     */
+    List<Node> getMatchingNodesIn(Node parentNode, Diagram diagram, IEditingContext editingContext, NodeMatcher matcher, SemanticElementMemo semanticElementMemo);
+
     /**
      * Empty implementation that can be used or extended for testing.
      *
@@ -46,6 +89,11 @@ public interface IDiagramNavigationService {
      */
     class NoOp implements IDiagramNavigationService {
 
+        @Override
+        public DiagramIndex getDiagramIndex(Diagram diagram) {
+            return new DiagramIndex(diagram);
+        }
+
         @Override
         public Optional<Object> getParent(Diagram diagram, Node node) {
             return null;
@@ -66,6 +114,16 @@ public interface IDiagramNavigationService {
             return List.of();
         }
 
+        @Override
+        public List<Node> getMatchingNodes(Diagram diagram, IEditingContext editingContext, NodeMatcher matcher, SemanticElementMemo semanticElementMemo) {
+            return List.of();
+        }
+
+        @Override
+        public List<Node> getMatchingNodesIn(Node parentNode, Diagram diagram, IEditingContext editingContext, NodeMatcher matcher, SemanticElementMemo semanticElementMemo) {
+            return List.of();
+        }
+
     }
 
 }
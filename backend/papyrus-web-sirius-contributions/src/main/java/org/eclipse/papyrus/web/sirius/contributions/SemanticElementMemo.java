@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.papyrus.web.sirius.contributions;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IObjectService;
+
+/**
+ * Memo of the semantic elements resolved from their id during a single diagram event.
+ *
+ * <p>
+ * A memo is owned by the object handling the event, such as the {@link DiagramNavigator} created from the
+ * {@link org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext IDiagramContext} of the event, and is
+ * released with it. It is not thread-safe. The ids which cannot be resolved are not memoized since the element may be
+ * created later in the same event. A memoized element which has been deleted since, and has thus been removed from its
+ * resource, is resolved again.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public final class SemanticElementMemo {
+
+    private final Map<String, Object> objectsById = new HashMap<>();
+
+    /**
+     * Gets the semantic element with the given id, resolving it only if it has not been resolved yet.
+     *
+     * @param objectService
+     *            the service used to resolve the id
+     * @param editingContext
+     *            the editing context of the event
+     * @param objectId
+     *            the id of the element
+     * @return the element or an empty optional if no element has this id
+     */
+    public Optional<Object> getObject(IObjectService objectService, IEditingContext editingContext, String objectId) {
+        Objects.requireNonNull(objectService);
+        Objects.requireNonNull(editingContext);
+        Objects.requireNonNull(objectId);
+        Object object = this.objectsById.get(objectId);
+        if (object instanceof EObject eObject && eObject.eResource() == null) {
+            this.objectsById.remove(objectId);
+            object = null;
+        }
+        if (object == null) {
+            object = objectService.getObject(editingContext, objectId).orElse(null);
+            if (object != null) {
+                this.objectsById.put(objectId, object);
+            }
+        }
+        return Optional.ofNullable(object);
+    }
+}
@@ -0,0 +1,276 @@
+/*******************************************************************************
+ * Copyright (c) 2026 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.papyrus.web.sirius.contributions;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.sirius.components.view.diagram.DiagramDescription;
+import org.eclipse.sirius.components.view.diagram.DiagramElementDescription;
+import org.eclipse.sirius.components.view.diagram.EdgeDescription;
+import org.eclipse.sirius.components.view.diagram.NodeDescription;
+
+/**
+ * Index of the node and edge descriptions of a view {@link DiagramDescription}, installed as an adapter on the
+ * description.
+ *
+ * <p>
+ * It gives, in constant time, the view node description of a converted node description id and the node description
+ * with a given name, instead of walking all the node descriptions of the diagram description. The ids are indexed from
+ * the map of converted nodes captured by the Sirius converter. All the maps of converted nodes of a diagram description
+ * give the same ids, so the index is only computed again when an id is missing from it.
+ * </p>
+ * <p>
+ * The edge descriptions are indexed the same way, by name and by the id of their converted edge description. The
+ * converted edges are only known from the registration of the diagram description, they are indexed once.
+ * </p>
+ * <p>
+ * It also memoizes the queries computed from the diagram description alone, until the description is modified.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public final class ViewDiagramDescriptionIndex extends EContentAdapter {
+
+    private final DiagramDescription diagramDescription;
+
+    private final Map<String, NodeDescription> nodeDescriptionsByName;
+
+    private final Map<String, EdgeDescription> edgeDescriptionsByName;
+
+    private final Map<Object, Object> memoizedQueries = new ConcurrentHashMap<>();
+
+    private volatile ConvertedNodes convertedNodes;
+
+    private volatile Map<String, EdgeDescription> viewEdgeDescriptionsById = Map.of();
+
+    private ViewDiagramDescriptionIndex(DiagramDescription diagramDescription) {
+        this.diagramDescription = diagramDescription;
+        this.nodeDescriptionsByName = this.indexByName(NodeDescription.class);
+        this.edgeDescriptionsByName = this.indexByName(EdgeDescription.class);
+    }
+
+    /**
+     * Gets the index of the given diagram description, installing it if needed.
+     *
+     * @param diagramDescription
+     *            a view diagram description
+     * @return the index of the diagram description
+     */
+    public static ViewDiagramDescriptionIndex getOrInstall(DiagramDescription diagramDescription) {
+        // The Papyrus diagram descriptions are shared by all the editing contexts
+        synchronized (diagramDescription) {
+            for (var adapter : diagramDescription.eAdapters()) {
+                if (adapter instanceof ViewDiagramDescriptionIndex index) {
+                    return index;
+                }
+            }
+            ViewDiagramDescriptionIndex index = new ViewDiagramDescriptionIndex(diagramDescription);
+            diagramDescription.eAdapters().add(index);
+            return index;
+        }
+    }
+
+    /**
+     * Gets the index of the diagram description containing the given converted nodes, installing it if needed.
+     *
+     * @param capturedNodeDescriptions
+     *            the converted nodes of a diagram description
+     * @return the index of the diagram description or an empty optional if there is no converted node
+     */
+    public static Optional<ViewDiagramDescriptionIndex> getOrInstall(Map<NodeDescription, org.eclipse.sirius.components.diagrams.description.NodeDescription> capturedNodeDescriptions) {
+        for (NodeDescription nodeDescription : capturedNodeDescriptions.keySet()) {
+            EObject current = nodeDescription.eContainer();
+            while (current != null && !(current instanceof DiagramDescription)) {
+                current = current.eContainer();
+            }
+            if (current instanceof DiagramDescription diagramDescription) {
+                return Optional.of(getOrInstall(diagramDescription));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the node description with the given name.
+     *
+     * @param name
+     *            the name of a node description
+     * @return the node description or an empty optional if there is no node description or several node descriptions
+     *         with this name
+     */
+    public Optional<NodeDescription> getNodeDescriptionByName(String name) {
+        return Optional.ofNullable(this.nodeDescriptionsByName.get(name));
+    }
+
+    /**
+     * Gets the edge description with the given name.
+     *
+     * @param name
+     *            the name of an edge description
+     * @return the edge description or an empty optional if there is no edge description or several edge descriptions
+     *         with this name
+     */
+    public Optional<EdgeDescription> getEdgeDescriptionByName(String name) {
+        return Optional.ofNullable(this.edgeDescriptionsByName.get(name));
+    }
+
+    /**
+     * Gets the view edge description converted to the edge description with the given id.
+     *
+     * @param descriptionId
+     *            the id of a converted edge description
+     * @return the view edge description or an empty optional if none has been converted to an edge description with
+     *         this id, or if the converted edges have not been indexed
+     */
+    public Optional<EdgeDescription> getViewEdgeDescription(String descriptionId) {
+        return Optional.ofNullable(this.viewEdgeDescriptionsById.get(descriptionId));
+    }
+
+    /**
+     * Gets the view node description converted to the node description with the given id.
+     *
+     * @param capturedNodeDescriptions
+     *            the converted nodes of the diagram description
+     * @param descriptionId
+     *            the id of a converted node description
+     * @return the view node description or an empty optional if none has been converted to a node description with
+     *         this id
+     */
+    public Optional<NodeDescription> getViewNodeDescription(Map<NodeDescription, org.eclipse.sirius.components.diagrams.description.NodeDescription> capturedNodeDescriptions,
+            String descriptionId) {
+        ConvertedNodes current = this.convertedNodes;
+        NodeDescription viewNodeDescription = null;
+        if (current != null) {
+            viewNodeDescription = current.viewNodeDescriptionsById().get(descriptionId);
+            if (viewNodeDescription != null && !capturedNodeDescriptions.containsKey(viewNodeDescription)) {
+                viewNodeDescription = null;
+            }
+        }
+        if (viewNodeDescription == null && (current == null || current.capturedNodeDescriptions() != capturedNodeDescriptions)) {
+            viewNodeDescription = this.indexConvertedNodes(capturedNodeDescriptions).get(descriptionId);
+        }
+        return Optional.ofNullable(viewNodeDescription);
+    }
+
+    /**
+     * Indexes the view node descriptions by the id of their converted node description.
+     *
+     * @param capturedNodeDescriptions
+     *            the converted nodes of the diagram description
+     * @return the view node descriptions by converted node description id
+     */
+    public Map<String, NodeDescription> indexConvertedNodes(Map<NodeDescription, org.eclipse.sirius.components.diagrams.description.NodeDescription> capturedNodeDescriptions) {
+        Map<String, NodeDescription> viewNodeDescriptionsById = new HashMap<>();
+        capturedNodeDescriptions.forEach((viewNodeDescription, nodeDescription) -> {
+            if (nodeDescription != null) {
+                viewNodeDescriptionsById.putIfAbsent(nodeDescription.getId(), viewNodeDescription);
+            }
+        });
+        Map<String, NodeDescription> result = Collections.unmodifiableMap(viewNodeDescriptionsById);
+        this.convertedNodes = new ConvertedNodes(capturedNodeDescriptions, result);
+        return result;
+    }
+
+    /**
+     * Indexes the view edge descriptions by the id of their converted edge description.
+     *
+     * @param convertedEdges
+     *            the converted edges of the diagram description
+     * @return the view edge descriptions by converted edge description id
+     */
+    public Map<String, EdgeDescription> indexConvertedEdges(Map<EdgeDescription, org.eclipse.sirius.components.diagrams.description.EdgeDescription> convertedEdges) {
+        Map<String, EdgeDescription> edgesById = new HashMap<>();
+        convertedEdges.forEach((viewEdgeDescription, edgeDescription) -> {
+            if (edgeDescription != null) {
+                edgesById.putIfAbsent(edgeDescription.getId(), viewEdgeDescription);
+            }
+        });
+        Map<String, EdgeDescription> result = Map.copyOf(edgesById);
+        this.viewEdgeDescriptionsById = result;
+        return result;
+    }
+
+    /**
+     * Gets the result of the given query, computing it only the first time it is asked for the diagram description.
+     *
+     * @param key
+     *            the key of the query, with a value based equality
+     * @param query
+     *            the query, which result only depends on the diagram description
+     * @return the result of the query
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T memoize(Object key, Supplier<T> query) {
+        return (T) this.memoizedQueries.computeIfAbsent(key, k -> query.get());
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == ViewDiagramDescriptionIndex.class;
+    }
+
+    @Override
+    protected boolean resolve() {
+        return false;
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        // The descriptions are not supposed to change once converted, the index is dropped if they do
+        if (!notification.isTouch()) {
+            this.diagramDescription.eAdapters().remove(this);
+        }
+    }
+
+    private <T extends DiagramElementDescription> Map<String, T> indexByName(Class<T> type) {
+        Map<String, T> descriptionsByName = new HashMap<>();
+        Set<String> duplicatedNames = new HashSet<>();
+        TreeIterator<EObject> contents = this.diagramDescription.eAllContents();
+        while (contents.hasNext()) {
+            EObject next = contents.next();
+            if (type.isInstance(next)) {
+                T description = type.cast(next);
+                if (description.getName() != null && descriptionsByName.putIfAbsent(description.getName(), description) != null) {
+                    duplicatedNames.add(description.getName());
+                }
+            }
+        }
+        descriptionsByName.keySet().removeAll(duplicatedNames);
+        return Map.copyOf(descriptionsByName);
+    }
+
+    /**
+     * The view node descriptions indexed by the id of their converted node description.
+     *
+     * @param capturedNodeDescriptions
+     *            the map of converted nodes used to build the index
+     * @param viewNodeDescriptionsById
+     *            the view node descriptions by converted node description id
+     * @author Arthur Daussy
+     */
+    private record ConvertedNodes(Map<NodeDescription, org.eclipse.sirius.components.diagrams.description.NodeDescription> capturedNodeDescriptions,
+            Map<String, NodeDescription> viewNodeDescriptionsById) {
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 CEA LIST, Obeo.
+ * Copyright (c) 2022, 2026 CEA LIST, Obeo.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,6 @@
  *******************************************************************************/
 package org.eclipse.papyrus.web.sirius.contributions;
 
-import static java.util.stream.Collectors.toList;
-
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -49,14 +46,7 @@ public class ViewDiagramDescriptionService implements IViewDiagramDescriptionSer
 
     @Override
     public Optional<NodeDescription> getNodeDescriptionByName(DiagramDescription diagramDescription, String name) {
-        List<NodeDescription> matchingElements = this.emfNavigationService.allContainedObjectOfType(diagramDescription, NodeDescription.class)//
-                .filter(e -> name.equals(e.getName())).collect(toList());
-
-        if (matchingElements.size() == 1) {
-            return Optional.of(matchingElements.get(0));
-        } else {
-            return Optional.empty();
-        }
+        return ViewDiagramDescriptionIndex.getOrInstall(diagramDescription).getNodeDescriptionByName(name);
     }
 
 }